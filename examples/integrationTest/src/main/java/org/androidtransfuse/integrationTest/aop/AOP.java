@@ -23,6 +23,8 @@ import org.androidtransfuse.annotations.RegisterListener;
 import org.androidtransfuse.integrationTest.R;
 import org.androidtransfuse.util.DeclareField;
 
+import javax.inject.Inject;
+
 import static org.androidtransfuse.integrationTest.SharedVariables.ONE_SECOND;
 
 /**
@@ -38,6 +40,9 @@ public class AOP {
 
     public static final String INTERCEPT_VALUE = "interception";
 
+    @Inject
+    private UIThreadUpdates uiThreadUpdates;
+
     @RegisterListener(R.id.aopbutton1)
     private View.OnClickListener aopClick1 = new View.OnClickListener() {
         @Override
@@ -71,4 +76,8 @@ public class AOP {
 
         return "@DependencyInterceptor";
     }
+
+    public UIThreadUpdates getUIThreadUpdates() {
+        return uiThreadUpdates;
+    }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.integrationTest.aop;
+
+import org.androidtransfuse.annotations.UIThread;
+
+/**
+ * Simulates a background producer updating the UI.
+ *
+ * @author John Ericksen
+ */
+public class UIThreadUpdates {
+
+    private int value = -1;
+    private int updateCount = 0;
+
+    @UIThread
+    public void update(int value) {
+        this.value = value;
+        updateCount++;
+    }
+
+    @UIThread(coalesce = true)
+    public void coalescedUpdate(int value) {
+        this.value = value;
+        updateCount++;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public int getUpdateCount() {
+        return updateCount;
+    }
+}
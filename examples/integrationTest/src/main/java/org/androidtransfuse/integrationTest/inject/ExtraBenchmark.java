@@ -0,0 +1,167 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.integrationTest.inject;
+
+import org.androidtransfuse.annotations.Activity;
+import org.androidtransfuse.annotations.Extra;
+
+import javax.inject.Inject;
+
+/**
+ * Activity taking a large number of optional extras, used to measure building Intents through the generated
+ * IntentFactory Strategy.
+ *
+ * @author John Ericksen
+ */
+@Activity
+public class ExtraBenchmark {
+
+    @Inject
+    @Extra(value = "extra01", optional = true)
+    private String extra01;
+
+    @Inject
+    @Extra(value = "extra02", optional = true)
+    private int extra02;
+
+    @Inject
+    @Extra(value = "extra03", optional = true)
+    private long extra03;
+
+    @Inject
+    @Extra(value = "extra04", optional = true)
+    private boolean extra04;
+
+    @Inject
+    @Extra(value = "extra05", optional = true)
+    private String extra05;
+
+    @Inject
+    @Extra(value = "extra06", optional = true)
+    private int extra06;
+
+    @Inject
+    @Extra(value = "extra07", optional = true)
+    private long extra07;
+
+    @Inject
+    @Extra(value = "extra08", optional = true)
+    private boolean extra08;
+
+    @Inject
+    @Extra(value = "extra09", optional = true)
+    private String extra09;
+
+    @Inject
+    @Extra(value = "extra10", optional = true)
+    private int extra10;
+
+    @Inject
+    @Extra(value = "extra11", optional = true)
+    private long extra11;
+
+    @Inject
+    @Extra(value = "extra12", optional = true)
+    private boolean extra12;
+
+    @Inject
+    @Extra(value = "extra13", optional = true)
+    private String extra13;
+
+    @Inject
+    @Extra(value = "extra14", optional = true)
+    private int extra14;
+
+    @Inject
+    @Extra(value = "extra15", optional = true)
+    private long extra15;
+
+    @Inject
+    @Extra(value = "extra16", optional = true)
+    private boolean extra16;
+
+    @Inject
+    @Extra(value = "extra17", optional = true)
+    private String extra17;
+
+    @Inject
+    @Extra(value = "extra18", optional = true)
+    private int extra18;
+
+    @Inject
+    @Extra(value = "extra19", optional = true)
+    private long extra19;
+
+    @Inject
+    @Extra(value = "extra20", optional = true)
+    private boolean extra20;
+
+    @Inject
+    @Extra(value = "extra21", optional = true)
+    private String extra21;
+
+    @Inject
+    @Extra(value = "extra22", optional = true)
+    private int extra22;
+
+    @Inject
+    @Extra(value = "extra23", optional = true)
+    private long extra23;
+
+    @Inject
+    @Extra(value = "extra24", optional = true)
+    private boolean extra24;
+
+    @Inject
+    @Extra(value = "extra25", optional = true)
+    private String extra25;
+
+    @Inject
+    @Extra(value = "extra26", optional = true)
+    private int extra26;
+
+    @Inject
+    @Extra(value = "extra27", optional = true)
+    private long extra27;
+
+    @Inject
+    @Extra(value = "extra28", optional = true)
+    private boolean extra28;
+
+    @Inject
+    @Extra(value = "extra29", optional = true)
+    private String extra29;
+
+    @Inject
+    @Extra(value = "extra30", optional = true)
+    private int extra30;
+
+    public String getExtra01() {
+        return extra01;
+    }
+
+    public int getExtra02() {
+        return extra02;
+    }
+
+    public long getExtra03() {
+        return extra03;
+    }
+
+    public boolean isExtra04() {
+        return extra04;
+    }
+}
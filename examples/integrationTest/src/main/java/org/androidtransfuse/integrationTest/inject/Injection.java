@@ -23,6 +23,7 @@ import org.androidtransfuse.integrationTest.R;
 import org.androidtransfuse.integrationTest.Three;
 import org.androidtransfuse.integrationTest.ValueQualifier;
 import org.androidtransfuse.util.DeclareField;
+import org.androidtransfuse.util.Lazy;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -56,6 +57,8 @@ public class Injection extends InjectionBase {
     @Inject
     private Provider<InjectTarget> generatedProvider;
     @Inject
+    private Lazy<InjectTarget> lazyInjectTarget;
+    @Inject
     private LibraryDependency1 libraryDependency;
     @Inject
     private GenericType<Concrete> genericInjection;
@@ -145,6 +148,10 @@ public class Injection extends InjectionBase {
         return generatedProvider;
     }
 
+    public Lazy<InjectTarget> getLazyInjectTarget() {
+        return lazyInjectTarget;
+    }
+
     public Provider<ProvidedInjectTarget> getProvidedInjectTargetProvider() {
         return providedInjectTargetProvider;
     }
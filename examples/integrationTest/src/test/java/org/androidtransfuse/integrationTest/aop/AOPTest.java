@@ -15,6 +15,7 @@
  */
 package org.androidtransfuse.integrationTest.aop;
 
+import com.xtremelabs.robolectric.Robolectric;
 import com.xtremelabs.robolectric.RobolectricTestRunner;
 import org.androidtransfuse.integrationTest.DelegateUtil;
 import org.junit.Before;
@@ -29,6 +30,8 @@ import static org.junit.Assert.*;
 @RunWith(RobolectricTestRunner.class)
 public class AOPTest {
 
+    private static final int UI_UPDATES = 500;
+
     private AOP aop;
     private InjectedInterceptor injectedInterceptor;
 
@@ -64,4 +67,30 @@ public class AOPTest {
     public void testInterceptionDependency() {
         assertNotNull(injectedInterceptor.getStopwatch());
     }
+
+    @Test
+    public void testUIThreadQueueDepth() {
+        UIThreadUpdates uiThreadUpdates = aop.getUIThreadUpdates();
+
+        Robolectric.pauseMainLooper();
+        for (int i = 0; i < UI_UPDATES; i++) {
+            uiThreadUpdates.update(i);
+        }
+        int postedDepth = Robolectric.getUiThreadScheduler().size();
+        Robolectric.runUiThreadTasks();
+
+        assertEquals(UI_UPDATES, postedDepth);
+        assertEquals(UI_UPDATES, uiThreadUpdates.getUpdateCount());
+
+        for (int i = 0; i < UI_UPDATES; i++) {
+            uiThreadUpdates.coalescedUpdate(i);
+        }
+        int coalescedDepth = Robolectric.getUiThreadScheduler().size();
+        Robolectric.runUiThreadTasks();
+        Robolectric.unPauseMainLooper();
+
+        assertEquals(1, coalescedDepth);
+        assertEquals(UI_UPDATES + 1, uiThreadUpdates.getUpdateCount());
+        assertEquals(UI_UPDATES - 1, uiThreadUpdates.getValue());
+    }
 }
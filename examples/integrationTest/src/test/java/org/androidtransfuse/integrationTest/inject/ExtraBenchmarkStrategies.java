@@ -0,0 +1,66 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.integrationTest.inject;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * Builds `ExtraBenchmarkActivityStrategy` instances with the first given number of extras set.
+ *
+ * @author John Ericksen
+ */
+final class ExtraBenchmarkStrategies {
+
+    static final String STRING_VALUE = "value";
+
+    private ExtraBenchmarkStrategies() {
+        //private utility constructor
+    }
+
+    static String extraName(int index) {
+        return String.format(Locale.ENGLISH, "extra%02d", index);
+    }
+
+    static ExtraBenchmarkActivityStrategy buildStrategy(int extraCount) throws InvocationTargetException, IllegalAccessException {
+        ExtraBenchmarkActivityStrategy strategy = new ExtraBenchmarkActivityStrategy();
+
+        for (int i = 1; i <= extraCount; i++) {
+            String setterName = String.format(Locale.ENGLISH, "setExtra%02d", i);
+            for (Method method : ExtraBenchmarkActivityStrategy.class.getMethods()) {
+                if (method.getName().equals(setterName)) {
+                    method.invoke(strategy, buildValue(method.getParameterTypes()[0], i));
+                }
+            }
+        }
+
+        return strategy;
+    }
+
+    private static Object buildValue(Class<?> type, int index) {
+        if (type.equals(int.class)) {
+            return index;
+        }
+        if (type.equals(long.class)) {
+            return (long) index;
+        }
+        if (type.equals(boolean.class)) {
+            return true;
+        }
+        return STRING_VALUE;
+    }
+}
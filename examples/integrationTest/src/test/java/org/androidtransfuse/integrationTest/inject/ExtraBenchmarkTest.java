@@ -0,0 +1,77 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.integrationTest.inject;
+
+import android.content.Intent;
+import com.xtremelabs.robolectric.RobolectricTestRunner;
+import org.androidtransfuse.integrationTest.DelegateUtil;
+import org.androidtransfuse.intentFactory.IntentFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.androidtransfuse.integrationTest.inject.ExtraBenchmarkStrategies.STRING_VALUE;
+import static org.androidtransfuse.integrationTest.inject.ExtraBenchmarkStrategies.buildStrategy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author John Ericksen
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ExtraBenchmarkTest {
+
+    private static final String CHANGED_VALUE = "changed";
+
+    private ExtraBenchmarkActivity activity;
+    private IntentFactory intentFactory;
+
+    @Before
+    public void setup() {
+        activity = new ExtraBenchmarkActivity();
+        intentFactory = new IntentFactory(activity);
+    }
+
+    @Test
+    public void testExtras() throws Exception {
+        ExtraBenchmark extraBenchmark = inject(intentFactory.buildIntent(buildStrategy(30)));
+
+        assertEquals(STRING_VALUE, extraBenchmark.getExtra01());
+        assertEquals(2, extraBenchmark.getExtra02());
+        assertEquals(3L, extraBenchmark.getExtra03());
+        assertTrue(extraBenchmark.isExtra04());
+    }
+
+    @Test
+    public void testGetExtrasMutation() throws Exception {
+        ExtraBenchmarkActivityStrategy strategy = buildStrategy(10);
+
+        strategy.getExtras().putString("extra01", CHANGED_VALUE);
+        strategy.setExtra02(42);
+
+        ExtraBenchmark extraBenchmark = inject(intentFactory.buildIntent(strategy));
+
+        assertEquals(CHANGED_VALUE, extraBenchmark.getExtra01());
+        assertEquals(42, extraBenchmark.getExtra02());
+    }
+
+    private ExtraBenchmark inject(Intent intent) {
+        activity.setIntent(intent);
+        activity.onCreate(null);
+
+        return DelegateUtil.getDelegate(activity, ExtraBenchmark.class);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.integrationTest.inject;
+
+import android.content.Intent;
+import com.xtremelabs.robolectric.RobolectricTestRunner;
+import org.androidtransfuse.intentFactory.IntentFactory;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Locale;
+
+import static org.androidtransfuse.integrationTest.inject.ExtraBenchmarkStrategies.buildStrategy;
+import static org.androidtransfuse.integrationTest.inject.ExtraBenchmarkStrategies.extraName;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Times building Intents with 10 to 30 extras through the generated Strategy, both written directly into the Intent
+ * and copied from the Bundle handed out by getExtras().  Robolectric's Intent and Bundle only approximate the cost on
+ * a device, so this is excluded from the regular build.  To run it, remove the `@Ignore` and execute
+ * `mvn test -Dtest=ExtraBenchmarkTimingTest` from the integrationTest module; the measured timings are reported in
+ * the assertion message should writing extras directly be the slower of the two.
+ *
+ * @author John Ericksen
+ */
+@Ignore
+@RunWith(RobolectricTestRunner.class)
+public class ExtraBenchmarkTimingTest {
+
+    private static final int[] EXTRA_COUNTS = {10, 20, 30};
+    private static final int WARMUP = 1000;
+    private static final int ITERATIONS = 10000;
+
+    private IntentFactory intentFactory;
+
+    @Before
+    public void setup() {
+        intentFactory = new IntentFactory(new ExtraBenchmarkActivity());
+    }
+
+    @Test
+    public void benchmarkBuildIntent() throws Exception {
+        for (int extraCount : EXTRA_COUNTS) {
+            ExtraBenchmarkActivityStrategy directStrategy = buildStrategy(extraCount);
+            ExtraBenchmarkActivityStrategy bundledStrategy = buildStrategy(extraCount);
+            bundledStrategy.getExtras();
+
+            assertExtraCount(extraCount, intentFactory.buildIntent(directStrategy));
+            assertExtraCount(extraCount, intentFactory.buildIntent(bundledStrategy));
+
+            long direct = time(directStrategy);
+            long bundled = time(bundledStrategy);
+
+            assertTrue(String.format(Locale.ENGLISH, "%d extras: direct %d ns/intent, via getExtras() %d ns/intent",
+                    extraCount, direct, bundled), direct <= bundled);
+        }
+    }
+
+    private long time(ExtraBenchmarkActivityStrategy strategy) {
+        for (int i = 0; i < WARMUP; i++) {
+            intentFactory.buildIntent(strategy);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            intentFactory.buildIntent(strategy);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void assertExtraCount(int extraCount, Intent intent) {
+        assertTrue(intent.hasExtra(extraName(extraCount)));
+        assertFalse(intent.hasExtra(extraName(extraCount + 1)));
+    }
+}
@@ -21,7 +21,11 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * AOP method interceptor annotation which executes the annotated method on a new `Thread`.
+ * AOP method interceptor annotation which executes the annotated method on the shared
+ * `org.androidtransfuse.aop.AsynchronousExecutor` pool.  Annotated methods must return `void`, `Future` or
+ * `org.androidtransfuse.aop.ListenableFuture`.  Future-returning methods hand back a future completed once the
+ * future returned by the method completes, typically built with `AsynchronousFuture.of()`.  A returned future which
+ * is not yet complete must be a `ListenableFuture`.
  *
  * @see org.androidtransfuse.aop.AsynchronousMethodInterceptor
  *
@@ -29,4 +33,18 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface Asynchronous {}
+public @interface Asynchronous {
+
+    /**
+     * Maximum number of queued or running executions of the annotated method.  Once reached, further calls are
+     * rejected, see `throwOnRejection()`.  Values less than 1 leave the method limited only by the executor queue.
+     */
+    int maxPending() default 0;
+
+    /**
+     * Whether a rejected call of a `void` method throws the `RejectedExecutionException` to its caller, typically the
+     * UI thread.  By default the rejected call is dropped and logged, and counted by the executor.  Future-returning
+     * methods always report the rejection through the returned future.
+     */
+    boolean throwOnRejection() default false;
+}
@@ -22,7 +22,8 @@ import java.lang.annotation.Target;
 
 /**
  * Application `onTrimMemory()` callback method annotation.  Registers the annotated method
- * to be called if the `onTrimMemory()` function is called.
+ * to be called if the `onTrimMemory()` function is called.  As `onTrimMemory()` was introduced in API 14, it is only
+ * generated when the application is built against API 14 or later.
  *
  * @author John Ericksen
  */
@@ -29,4 +29,16 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface UIThread {}
+public @interface UIThread {
+
+    /**
+     * Collapses repeated calls on the same instance, made before the posted execution runs, into a single execution
+     * of the latest call.
+     */
+    boolean coalesce() default false;
+
+    /**
+     * Executes the method immediately, without posting, when called from the UI thread.
+     */
+    boolean inline() default false;
+}
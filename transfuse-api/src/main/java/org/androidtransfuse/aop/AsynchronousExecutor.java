@@ -0,0 +1,188 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.aop;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, shared `Executor` backing the `@Asynchronous` method interceptor.  By default the pool is sized to the
+ * available processors with a bounded work queue.  Once the pool is saturated, or a per-key pending limit is reached,
+ * the submitted task is rejected with a `RejectedExecutionException` and counted, see `getRejectedCount()`.  Tasks are
+ * never run on the calling thread, which is typically the UI thread.  The `@Asynchronous` interceptor drops rejected
+ * `void` invocations rather than throwing to their caller, unless the method opts in with `throwOnRejection`.
+ *
+ * To configure, provide an instance from a module:
+ *
+ * [source,java]
+ * --
+ * @Provides
+ * @Singleton
+ * public AsynchronousExecutor getAsynchronousExecutor(){
+ *     return new AsynchronousExecutor(4, 64);
+ * }
+ * --
+ *
+ * @author John Ericksen
+ */
+@Singleton
+public class AsynchronousExecutor implements Executor {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 128;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<Object, AtomicInteger> pending = new ConcurrentHashMap<Object, AtomicInteger>();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Inject
+    public AsynchronousExecutor() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public AsynchronousExecutor(int poolSize, int queueCapacity) {
+        this(new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(queueCapacity), new AsynchronousThreadFactory()));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public AsynchronousExecutor(ThreadPoolExecutor executor) {
+        this.executor = executor;
+        this.executor.setRejectedExecutionHandler(new SaturationPolicy());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.incrementAndGet();
+        executor.execute(command);
+    }
+
+    /**
+     * Executes the given command, limiting the number of pending executions sharing the given key.
+     *
+     * @param key grouping executions, typically the intercepted `Method`
+     * @param maxPending maximum number of queued or running executions for the given key, unlimited if less than 1
+     * @param command to execute
+     * @throws RejectedExecutionException if the pending limit or the pool is saturated
+     */
+    public void execute(Object key, int maxPending, final Runnable command) {
+        if (maxPending < 1) {
+            execute(command);
+            return;
+        }
+        final AtomicInteger pendingCount = getPending(key);
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            submitted.incrementAndGet();
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Pending execution limit of " + maxPending + " reached for " + key);
+        } else {
+            try {
+                execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            command.run();
+                        } finally {
+                            pendingCount.decrementAndGet();
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                pendingCount.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private AtomicInteger getPending(Object key) {
+        AtomicInteger result = pending.get(key);
+        if (result == null) {
+            AtomicInteger value = new AtomicInteger();
+            result = pending.putIfAbsent(key, value);
+            if (result == null) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return total number of submitted executions
+     */
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    /**
+     * @return number of executions rejected because the pool or a per-key limit was saturated
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return approximate number of threads actively executing tasks
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return current depth of the work queue
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @param key grouping executions
+     * @return number of queued or running executions for the given key
+     */
+    public int getPendingCount(Object key) {
+        AtomicInteger count = pending.get(key);
+        return count == null ? 0 : count.get();
+    }
+
+    private final class SaturationPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+            rejected.incrementAndGet();
+            if (threadPoolExecutor.isShutdown()) {
+                throw new RejectedExecutionException("AsynchronousExecutor has been shut down");
+            }
+            throw new RejectedExecutionException("AsynchronousExecutor saturated: " + threadPoolExecutor.getActiveCount() +
+                    " active, " + threadPoolExecutor.getQueue().size() + " queued");
+        }
+    }
+
+    private static final class AsynchronousThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Transfuse Asynchronous #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
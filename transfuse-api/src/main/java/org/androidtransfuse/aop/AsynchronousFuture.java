@@ -0,0 +1,119 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.aop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * `ListenableFuture` implementation returned by `@Asynchronous` methods.  Annotated methods may return an already
+ * completed instance built by `of()`, which the `AsynchronousMethodInterceptor` unwraps into the future handed back to
+ * the caller:
+ *
+ * [source,java]
+ * --
+ * @Asynchronous
+ * public ListenableFuture<Result> load(){
+ *     return AsynchronousFuture.of(expensiveLoad());
+ * }
+ * --
+ *
+ * @author John Ericksen
+ */
+public class AsynchronousFuture<V> extends FutureTask<V> implements ListenableFuture<V> {
+
+    private final List<ListenerExecution> listeners = new ArrayList<ListenerExecution>();
+    private boolean complete = false;
+
+    public AsynchronousFuture(Callable<V> callable) {
+        super(callable);
+    }
+
+    /**
+     * Builds a future completed externally through `complete()` or `fail()` rather than by running a `Callable`.
+     */
+    AsynchronousFuture() {
+        this(new Callable<V>() {
+            @Override
+            public V call() {
+                throw new IllegalStateException("AsynchronousFuture must be completed externally");
+            }
+        });
+    }
+
+    /**
+     * Builds a completed future containing the given value.
+     *
+     * @param value result
+     * @param <V> result type
+     * @return completed future
+     */
+    public static <V> AsynchronousFuture<V> of(final V value) {
+        AsynchronousFuture<V> future = new AsynchronousFuture<V>(new Callable<V>() {
+            @Override
+            public V call() {
+                return value;
+            }
+        });
+        future.run();
+        return future;
+    }
+
+    void complete(V value) {
+        set(value);
+    }
+
+    void fail(Throwable throwable) {
+        setException(throwable);
+    }
+
+    @Override
+    public void addListener(Runnable listener, Executor executor) {
+        synchronized (listeners) {
+            if (!complete) {
+                listeners.add(new ListenerExecution(listener, executor));
+                return;
+            }
+        }
+        executor.execute(listener);
+    }
+
+    @Override
+    protected void done() {
+        List<ListenerExecution> toNotify;
+        synchronized (listeners) {
+            complete = true;
+            toNotify = new ArrayList<ListenerExecution>(listeners);
+            listeners.clear();
+        }
+        for (ListenerExecution listenerExecution : toNotify) {
+            listenerExecution.executor.execute(listenerExecution.listener);
+        }
+    }
+
+    private static final class ListenerExecution {
+        private final Runnable listener;
+        private final Executor executor;
+
+        private ListenerExecution(Runnable listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+    }
+}
@@ -15,20 +15,97 @@
  */
 package org.androidtransfuse.aop;
 
+import org.androidtransfuse.annotations.Asynchronous;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
- * Method interceptor which moves the given invocation onto a new Thread.
+ * Method interceptor which moves the given invocation onto the shared `AsynchronousExecutor`.  Methods returning
+ * `Future` or `ListenableFuture` receive an `AsynchronousFuture` completed once the future returned by the invoked
+ * method completes, without holding an executor thread in the meantime.
+ *
+ * Should the executor reject the invocation, the returned future fails with the `RejectedExecutionException`.  A
+ * rejected invocation of a `void` method is dropped and logged, unless the method opts in to having the exception
+ * thrown to the caller with `@Asynchronous(throwOnRejection = true)`.
  *
  * @author John Ericksen
  */
+@Singleton
 public class AsynchronousMethodInterceptor implements MethodInterceptor {
 
+    private static final Logger LOG = Logger.getLogger(AsynchronousMethodInterceptor.class.getName());
+    private static final AsynchronousMethod UNKNOWN_METHOD = new AsynchronousMethod(0, false, false);
+
+    private final AsynchronousExecutor executor;
+    private final ConcurrentMap<Method, AsynchronousMethod> methodCache = new ConcurrentHashMap<Method, AsynchronousMethod>();
+
+    @Inject
+    public AsynchronousMethodInterceptor(AsynchronousExecutor executor) {
+        this.executor = executor;
+    }
+
     @Override
     public Object invoke(MethodInvocation invocation) {
-        new Thread(new MethodInvocationRunnable(invocation)).start();
+        Method method = invocation.getMethod();
+        AsynchronousMethod asynchronousMethod = getAsynchronousMethod(method);
+
+        if (asynchronousMethod.returnsFuture) {
+            AsynchronousFuture<Object> future = new AsynchronousFuture<Object>();
+            try {
+                executor.execute(method, asynchronousMethod.maxPending, new MethodInvocationFutureRunnable(invocation, future));
+            } catch (RejectedExecutionException e) {
+                future.fail(e);
+            }
+            return future;
+        }
+
+        try {
+            executor.execute(method, asynchronousMethod.maxPending, new MethodInvocationRunnable(invocation));
+        } catch (RejectedExecutionException e) {
+            if (asynchronousMethod.throwOnRejection) {
+                throw e;
+            }
+            LOG.log(Level.WARNING, "Dropped asynchronous invocation of " + method, e);
+        }
         //asynchronous, so cannot return
         return null;
     }
+
+    private AsynchronousMethod getAsynchronousMethod(Method method) {
+        if (method == null) {
+            return UNKNOWN_METHOD;
+        }
+        AsynchronousMethod asynchronousMethod = methodCache.get(method);
+        if (asynchronousMethod == null) {
+            Asynchronous asynchronous = method.getAnnotation(Asynchronous.class);
+            Class<?> returnType = method.getReturnType();
+            asynchronousMethod = new AsynchronousMethod(
+                    asynchronous == null ? 0 : asynchronous.maxPending(),
+                    !Object.class.equals(returnType) && returnType.isAssignableFrom(AsynchronousFuture.class),
+                    asynchronous != null && asynchronous.throwOnRejection());
+            methodCache.putIfAbsent(method, asynchronousMethod);
+        }
+        return asynchronousMethod;
+    }
+
+    private static final class AsynchronousMethod {
+        private final int maxPending;
+        private final boolean returnsFuture;
+        private final boolean throwOnRejection;
+
+        private AsynchronousMethod(int maxPending, boolean returnsFuture, boolean throwOnRejection) {
+            this.maxPending = maxPending;
+            this.returnsFuture = returnsFuture;
+            this.throwOnRejection = throwOnRejection;
+        }
+    }
 }
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.aop;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * `Future` which notifies registered listeners once complete, allowing results of `@Asynchronous` methods to be
+ * consumed without blocking or polling.
+ *
+ * @author John Ericksen
+ */
+public interface ListenableFuture<V> extends Future<V> {
+
+    /**
+     * Registers a listener to be run on the given executor once this future completes.  If already complete, the
+     * listener is dispatched immediately.
+     *
+     * @param listener to run
+     * @param executor executing the listener
+     */
+    void addListener(Runnable listener, Executor executor);
+}
@@ -24,18 +24,27 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 
 /**
- * Defines a chain of interceptors to wrap the given method.
+ * Defines a chain of interceptors to wrap the given method.  A single chain is built per proxied method and reused
+ * across calls; the per-call state lives in the lightweight `MethodExecution` instance.
  *
  * @author John Ericksen
  */
 public class MethodInterceptorChain {
 
+    public static final String GET_METHOD = "getMethod";
+    public static final String INVOKE = "invoke";
+
+    /**
+     * Shared argument array for intercepted methods without parameters.
+     */
+    public static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
     private final MethodInterceptor[] methodInterceptors;
-    private final MethodExecution methodExecution;
+    private final Method method;
     private final Object proxy;
 
-    public MethodInterceptorChain(MethodExecution methodExecution, Object proxy, MethodInterceptor... methodInterceptorChains) {
-        this.methodExecution = methodExecution;
+    public MethodInterceptorChain(Method method, Object proxy, MethodInterceptor... methodInterceptorChains) {
+        this.method = method;
         this.methodInterceptors = methodInterceptorChains;
         this.proxy = proxy;
     }
@@ -43,36 +52,66 @@ public class MethodInterceptorChain {
     /**
      * Invoke the method interception chain.
      *
-     * @param arguments provided to the wrapped method.
+     * @param methodExecution execution wrapping the arguments provided to the wrapped method.
      * @return value returned by interceptor chain.
      */
-    public Object invoke(Object[] arguments) {
+    public Object invoke(MethodExecution methodExecution) {
         try {
-            return new MethodInterceptorIterator(arguments).proceed();
+            return methodExecution.proceed();
         } catch (Throwable e) {
             throw new TransfuseInjectionException("Error while invoking Method Interceptor", e);
         }
     }
 
     /**
-     * Class which encapsulates the iteration of the MethodInterceptors and final call to the MethodExecution instance.
+     * Looks up the given `Method`, including non-public methods declared in the type hierarchy.  Intended to be called
+     * once per proxied method, during class initialization.
+     *
+     * @param type containing the method
+     * @param name of the method
+     * @param parameterTypes of the method
+     * @return Method
      */
-    private final class MethodInterceptorIterator implements MethodInvocation {
+    public static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                try {
+                    return current.getDeclaredMethod(name, parameterTypes);
+                } catch (NoSuchMethodException ignored) {
+                    //continue up the hierarchy
+                }
+            }
+            throw new TransfuseInjectionException("Unable to find method " + name + " on " + type.getName(), e);
+        }
+    }
 
-        private int i = -1;
+    /**
+     * Per-call `MethodInvocation` which iterates the MethodInterceptors of the owning chain and finally calls `invoke()`.
+     * Generated proxies extend this class to capture the method parameters.
+     */
+    public abstract static class MethodExecution implements MethodInvocation {
+
+        private final MethodInterceptorChain chain;
         private final Object[] arguments;
+        private int i = -1;
 
-        private MethodInterceptorIterator(Object[] arguments) {
+        protected MethodExecution(MethodInterceptorChain chain, Object[] arguments) {
+            this.chain = chain;
             this.arguments = arguments;
         }
 
+        /**
+         * Invokes the represented `Method`.
+         * @return value returned by the method
+         * @throws Throwable if an error occurs
+         */
+        protected abstract Object invoke() throws Throwable;
+
         @Override
         public Method getMethod() {
-            try {
-                return methodExecution.getMethod();
-            } catch (Exception e) {
-                throw new TransfuseInjectionException("Error while calling getMethod", e);
-            }
+            return chain.method;
         }
 
         @Override
@@ -84,44 +123,21 @@ public class MethodInterceptorChain {
         public Object proceed() throws Throwable {
             //recursively iterate through the method interceptors
             i++;
-            if (i == methodInterceptors.length) {
-                return methodExecution.invoke();
+            if (i == chain.methodInterceptors.length) {
+                return invoke();
             } else {
-                return methodInterceptors[i].invoke(this);
+                return chain.methodInterceptors[i].invoke(this);
             }
         }
 
         @Override
         public Object getThis() {
-            return proxy;
+            return chain.proxy;
         }
 
         @Override
         public AccessibleObject getStaticPart() {
-            return getMethod();
+            return chain.method;
         }
     }
-
-    /**
-     * Interface defining the `Method} to be invoked.
-     */
-    public interface MethodExecution {
-
-        String GET_METHOD = "getMethod";
-        String INVOKE = "invoke";
-
-        /**
-         * Looks up the represented class `Method}.
-         * @return Method
-         * @throws Exception if an error occurs
-         */
-        Method getMethod() throws Exception;
-
-        /**
-         * Invokes the represented `Method}.
-         * @return value returned by the method
-         * @throws Throwable if an error occurs
-         */
-        Object invoke() throws Throwable;
-    }
-} 
\ No newline at end of file
+}
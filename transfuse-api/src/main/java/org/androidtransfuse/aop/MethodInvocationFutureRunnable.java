@@ -0,0 +1,97 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.aop;
+
+import org.androidtransfuse.util.TransfuseInjectionException;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * Runnable Adapter which executes the `MethodInvocation.proceed()` method and completes the given
+ * `AsynchronousFuture` with the result.  If the invoked method returns a `Future` the given future is chained to it,
+ * completing once the returned future completes, rather than blocking the executing thread on `Future.get()`.
+ *
+ * Chaining requires a `ListenableFuture`; any other `Future` must already be complete when returned.
+ */
+class MethodInvocationFutureRunnable implements Runnable {
+
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final MethodInvocation methodInvocation;
+    private final AsynchronousFuture<Object> future;
+
+    protected MethodInvocationFutureRunnable(MethodInvocation methodInvocation, AsynchronousFuture<Object> future) {
+        this.methodInvocation = methodInvocation;
+        this.future = future;
+    }
+
+    @Override
+    public void run() {
+        Object result;
+        try {
+            result = methodInvocation.proceed();
+        } catch (Exception e) {
+            future.fail(e);
+            return;
+        } catch (Throwable e) {
+            future.fail(new TransfuseInjectionException("Exception while invoking method on thread", e));
+            return;
+        }
+        if (result instanceof ListenableFuture) {
+            final ListenableFuture<?> resultFuture = (ListenableFuture<?>) result;
+            resultFuture.addListener(new Runnable() {
+                @Override
+                public void run() {
+                    completeFrom(resultFuture);
+                }
+            }, DIRECT_EXECUTOR);
+        } else if (result instanceof Future) {
+            Future<?> resultFuture = (Future<?>) result;
+            if (resultFuture.isDone()) {
+                completeFrom(resultFuture);
+            } else {
+                future.fail(new TransfuseInjectionException(
+                        "@Asynchronous method " + methodInvocation.getMethod() +
+                                " returned an incomplete Future which is not a ListenableFuture"));
+            }
+        } else {
+            future.complete(result);
+        }
+    }
+
+    private void completeFrom(Future<?> resultFuture) {
+        try {
+            //resultFuture is done, so this does not block
+            future.complete(resultFuture.get());
+        } catch (ExecutionException e) {
+            future.fail(e.getCause() == null ? e : e.getCause());
+        } catch (CancellationException e) {
+            future.cancel(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.fail(e);
+        }
+    }
+}
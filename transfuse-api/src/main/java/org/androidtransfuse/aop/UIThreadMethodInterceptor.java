@@ -16,19 +16,33 @@
 package org.androidtransfuse.aop;
 
 import android.os.Handler;
+import android.os.Looper;
+import org.androidtransfuse.annotations.UIThread;
+import org.androidtransfuse.util.TransfuseInjectionException;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
 import javax.inject.Inject;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Method Interceptor that executes the given MethodInvocation
+ * Method Interceptor that executes the given MethodInvocation on the UI thread.
+ *
+ * Methods annotated with `@UIThread(inline = true)` execute immediately when called from the UI thread.  Methods
+ * annotated with `@UIThread(coalesce = true)` collapse repeated calls on the same instance into a single posted
+ * execution of the latest invocation.
  *
  * @author John Ericksen
  */
 public class UIThreadMethodInterceptor implements MethodInterceptor {
 
+    private static final UIThreadMethod UNKNOWN_METHOD = new UIThreadMethod(false, false);
+
     private final Handler handler;
+    private final ConcurrentMap<Method, UIThreadMethod> methodCache = new ConcurrentHashMap<Method, UIThreadMethod>();
+    private final ConcurrentMap<InvocationKey, MethodInvocation> pending = new ConcurrentHashMap<InvocationKey, MethodInvocation>();
 
     @Inject
     public UIThreadMethodInterceptor(Handler handler){
@@ -37,10 +51,97 @@ public class UIThreadMethodInterceptor implements MethodInterceptor {
 
     @Override
     public Object invoke(MethodInvocation invocation) {
+        UIThreadMethod uiThreadMethod = getUIThreadMethod(invocation.getMethod());
+
+        if (uiThreadMethod.inline && Looper.myLooper() == handler.getLooper()) {
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                throw new TransfuseInjectionException("Exception while invoking method on UI thread", e);
+            }
+        }
 
-        handler.post(new MethodInvocationRunnable(invocation));
+        if (uiThreadMethod.coalesce) {
+            InvocationKey key = new InvocationKey(invocation.getThis(), invocation.getMethod());
+            if (pending.put(key, invocation) == null) {
+                //only the first pending invocation posts, later calls replace the pending invocation
+                handler.post(new CoalescedInvocationRunnable(key));
+            }
+        } else {
+            handler.post(new MethodInvocationRunnable(invocation));
+        }
 
         //asynchronous, so cannot return
         return null;
     }
+
+    private UIThreadMethod getUIThreadMethod(Method method) {
+        if (method == null) {
+            return UNKNOWN_METHOD;
+        }
+        UIThreadMethod uiThreadMethod = methodCache.get(method);
+        if (uiThreadMethod == null) {
+            UIThread uiThread = method.getAnnotation(UIThread.class);
+            uiThreadMethod = uiThread == null ? UNKNOWN_METHOD : new UIThreadMethod(uiThread.coalesce(), uiThread.inline());
+            methodCache.putIfAbsent(method, uiThreadMethod);
+        }
+        return uiThreadMethod;
+    }
+
+    private final class CoalescedInvocationRunnable implements Runnable {
+
+        private final InvocationKey key;
+
+        private CoalescedInvocationRunnable(InvocationKey key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            MethodInvocation latest = pending.remove(key);
+            if (latest != null) {
+                new MethodInvocationRunnable(latest).run();
+            }
+        }
+    }
+
+    private static final class UIThreadMethod {
+        private final boolean coalesce;
+        private final boolean inline;
+
+        private UIThreadMethod(boolean coalesce, boolean inline) {
+            this.coalesce = coalesce;
+            this.inline = inline;
+        }
+    }
+
+    /**
+     * Identifies a method on a specific instance.  Instances are compared by identity.
+     */
+    private static final class InvocationKey {
+        private final Object target;
+        private final Method method;
+
+        private InvocationKey(Object target, Method method) {
+            this.target = target;
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InvocationKey)) {
+                return false;
+            }
+            InvocationKey that = (InvocationKey) o;
+            return target == that.target && (method == null ? that.method == null : method.equals(that.method));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(target) + (method == null ? 0 : method.hashCode());
+        }
+    }
 }
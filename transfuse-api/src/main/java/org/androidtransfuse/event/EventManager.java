@@ -18,7 +18,9 @@ package org.androidtransfuse.event;
 import org.androidtransfuse.util.TransfuseRuntimeException;
 
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -64,6 +66,12 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * eventManager.register(Coffee.class, drinkCoffeeEventObserver);
  * --
  *
+ * Event traffic may be monitored by setting an `EventManagerListener`, such as `EventManagerMetrics`.  Without a
+ * listener no timing or counting is performed.
+ *
+ * `WeakObserver`s whose referenced object has been collected are purged when they are encountered during a trigger and
+ * when observers are registered for the same event type, so components destroyed without unregistering do not
+ * accumulate.
  *
  * @author John Ericksen
  */
@@ -74,6 +82,9 @@ public class EventManager {
     private final ConcurrentMap<Class, Set<EventObserver>> observers = new ConcurrentHashMap<Class, java.util.Set<EventObserver>>();
     private final ThreadLocal<ConcurrentLinkedQueue<EventExecution>> executionQueue = new ExecutionQueueThreadLocal();
     private final ThreadLocal<Boolean> executing = new BooleanThreadLocal();
+    private final ThreadLocal<Integer> triggerDepth = new DepthThreadLocal();
+    private final ThreadLocal<Set<Class>> pendingPurge = new PendingPurgeThreadLocal();
+    private volatile EventManagerListener listener = null;
 
     private static final class EventExecution<T>{
         private final T event;
@@ -94,6 +105,15 @@ public class EventManager {
         }
     }
 
+    /**
+     * Sets the listener notified of triggers and observer executions, or null to disable notification.
+     *
+     * @param listener event manager listener
+     */
+    public void setListener(EventManagerListener listener) {
+        this.listener = listener;
+    }
+
     /**
      * Register the given observer to be triggered if the given event type is triggered.
      *
@@ -110,7 +130,9 @@ public class EventManager {
         }
         observersLock.writeLock().lock();
         try{
-            nullSafeGet(event).add(observer);
+            Set<EventObserver> eventObservers = nullSafeGet(event);
+            purgeCleared(eventObservers);
+            eventObservers.add(observer);
         }
         finally {
             observersLock.writeLock().unlock();
@@ -138,25 +160,130 @@ public class EventManager {
     public void trigger(Object event){
 
         Set<Class> eventTypes = getAllInheritedClasses(event.getClass());
+        EventManagerListener currentListener = listener;
+        int observerCount = 0;
+        int depth = triggerDepth.get();
 
+        triggerDepth.set(depth + 1);
         observersLock.readLock().lock();
         try{
             for (Class eventType : eventTypes) {
                 if(observers.containsKey(eventType)){
                     for (EventObserver eventObserver : observers.get(eventType)) {
-                        executionQueue.get().add(new EventExecution(event, eventObserver));
+                        if(isCleared(eventObserver)){
+                            pendingPurge.get().add(eventType);
+                        }
+                        else{
+                            executionQueue.get().add(new EventExecution(event, eventObserver));
+                            observerCount++;
+                        }
                     }
                 }
             }
 
-            triggerQueue();
+            if(currentListener != null){
+                currentListener.onTrigger(event.getClass(), observerCount, executionQueue.get().size());
+            }
+
+            triggerQueue(currentListener);
         }
         finally{
             observersLock.readLock().unlock();
+            triggerDepth.set(depth);
+        }
+
+        if(depth == 0){
+            //the read lock may not be upgraded, purge once the outermost trigger has released it
+            drainPendingPurge();
+        }
+    }
+
+    /**
+     * Removes all `WeakObserver`s whose referenced object has been garbage collected.  If called from an observer
+     * during a trigger, the purge is deferred until the outermost trigger completes.
+     */
+    public void purge(){
+        if(triggerDepth.get() > 0){
+            pendingPurge.get().addAll(observers.keySet());
+        }
+        else{
+            purge(observers.keySet());
         }
     }
 
-    private void triggerQueue(){
+    private void drainPendingPurge(){
+        Set<Class> eventTypes = pendingPurge.get();
+        if(!eventTypes.isEmpty()){
+            Set<Class> purgeTypes = new HashSet<Class>(eventTypes);
+            eventTypes.clear();
+            purge(purgeTypes);
+        }
+    }
+
+    private void purge(Set<Class> eventTypes){
+        observersLock.writeLock().lock();
+        try{
+            for (Class eventType : eventTypes) {
+                Set<EventObserver> eventObservers = observers.get(eventType);
+                if(eventObservers != null){
+                    purgeCleared(eventObservers);
+                }
+            }
+        }
+        finally{
+            observersLock.writeLock().unlock();
+        }
+    }
+
+    private void purgeCleared(Set<EventObserver> eventObservers){
+        List<EventObserver> cleared = null;
+        for (EventObserver eventObserver : eventObservers) {
+            if(isCleared(eventObserver)){
+                if(cleared == null){
+                    cleared = new ArrayList<EventObserver>();
+                }
+                cleared.add(eventObserver);
+            }
+        }
+        if(cleared != null){
+            //single copy of the underlying array
+            eventObservers.removeAll(cleared);
+        }
+    }
+
+    private static boolean isCleared(EventObserver eventObserver){
+        return eventObserver instanceof WeakObserver && ((WeakObserver) eventObserver).isCleared();
+    }
+
+    /**
+     * Returns the number of observers registered for the given event type, not including observers registered for its
+     * super types.  Cleared `WeakObserver`s not yet purged are counted.
+     *
+     * @param event type
+     * @return observer count
+     */
+    public int getObserverCount(Class<?> event){
+        Set<EventObserver> eventObservers = observers.get(event);
+        if(eventObservers == null){
+            return 0;
+        }
+        return eventObservers.size();
+    }
+
+    /**
+     * Returns the total number of observers registered across all event types.
+     *
+     * @return observer count
+     */
+    public int getObserverCount(){
+        int count = 0;
+        for (Set<EventObserver> eventObservers : observers.values()) {
+            count += eventObservers.size();
+        }
+        return count;
+    }
+
+    private void triggerQueue(EventManagerListener currentListener){
 
         //avoid reentrant events
         if(executing.get()){
@@ -168,7 +295,18 @@ public class EventManager {
         try{
             EventExecution execution = executionQueue.get().poll();
             while(execution != null){
-                execution.trigger();
+                if(currentListener == null){
+                    execution.trigger();
+                }
+                else{
+                    long start = System.nanoTime();
+                    try{
+                        execution.trigger();
+                    }
+                    finally{
+                        currentListener.onObserverExecuted(execution.event.getClass(), execution.observer, System.nanoTime() - start);
+                    }
+                }
                 execution = executionQueue.get().poll();
             }
         }
@@ -222,6 +360,20 @@ public class EventManager {
         }
     }
 
+    private static class DepthThreadLocal extends ThreadLocal<Integer>{
+        @Override
+        protected Integer initialValue() {
+            return 0;
+        }
+    }
+
+    private static class PendingPurgeThreadLocal extends ThreadLocal<Set<Class>>{
+        @Override
+        protected Set<Class> initialValue() {
+            return new HashSet<Class>();
+        }
+    }
+
     private static class ExecutionQueueThreadLocal extends ThreadLocal<ConcurrentLinkedQueue<EventExecution>> {
         @Override
         protected ConcurrentLinkedQueue<EventExecution> initialValue() {
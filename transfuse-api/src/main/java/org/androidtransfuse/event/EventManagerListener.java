@@ -0,0 +1,44 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.event;
+
+/**
+ * Listener notified of the EventManager's activity, used to gather runtime metrics on event traffic.  Callbacks are
+ * made synchronously on the triggering thread, so implementations should be cheap and thread safe.
+ *
+ * @see EventManager#setListener(EventManagerListener)
+ * @author John Ericksen
+ */
+public interface EventManagerListener {
+
+    /**
+     * Called when an event is triggered, after its observers have been queued.
+     *
+     * @param eventType type of the triggered event
+     * @param observerCount number of observers queued for the event
+     * @param queueDepth number of pending executions on the triggering thread, including those just queued
+     */
+    void onTrigger(Class<?> eventType, int observerCount, int queueDepth);
+
+    /**
+     * Called after an observer has been executed.
+     *
+     * @param eventType type of the triggered event
+     * @param observer executed observer
+     * @param nanos execution time in nanoseconds
+     */
+    void onObserverExecuted(Class<?> eventType, EventObserver<?> observer, long nanos);
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.event;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * EventManagerListener recording per event type trigger counts and observer fan-out, per observer type execution time
+ * histograms and the maximum execution queue depth.
+ *
+ * Execution times are bucketed by powers of two microseconds: bucket `n` counts executions taking less than `2^n`
+ * microseconds (and at least `2^(n-1)`), with the last bucket collecting everything longer.
+ *
+ * @author John Ericksen
+ */
+public class EventManagerMetrics implements EventManagerListener {
+
+    public static final int HISTOGRAM_BUCKETS = 24;
+
+    private final ConcurrentMap<Class<?>, EventMetrics> eventMetrics = new ConcurrentHashMap<Class<?>, EventMetrics>();
+    private final ConcurrentMap<Class<?>, AtomicLongArray> observerHistograms = new ConcurrentHashMap<Class<?>, AtomicLongArray>();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    /**
+     * Trigger count and total observer fan-out of a single event type.
+     */
+    public static final class EventMetrics {
+        private final AtomicLong triggers = new AtomicLong();
+        private final AtomicLong observers = new AtomicLong();
+
+        public long getTriggerCount() {
+            return triggers.get();
+        }
+
+        public long getObserverCount() {
+            return observers.get();
+        }
+
+        public double getAverageFanOut() {
+            long triggerCount = triggers.get();
+            if (triggerCount == 0) {
+                return 0;
+            }
+            return ((double) observers.get()) / triggerCount;
+        }
+    }
+
+    @Override
+    public void onTrigger(Class<?> eventType, int observerCount, int queueDepth) {
+        EventMetrics metrics = eventMetrics.get(eventType);
+        if (metrics == null) {
+            EventMetrics value = new EventMetrics();
+            metrics = eventMetrics.putIfAbsent(eventType, value);
+            if (metrics == null) {
+                metrics = value;
+            }
+        }
+        metrics.triggers.incrementAndGet();
+        metrics.observers.addAndGet(observerCount);
+
+        int max = maxQueueDepth.get();
+        while (queueDepth > max && !maxQueueDepth.compareAndSet(max, queueDepth)) {
+            max = maxQueueDepth.get();
+        }
+    }
+
+    @Override
+    public void onObserverExecuted(Class<?> eventType, EventObserver<?> observer, long nanos) {
+        Class<?> observerType = observer.getClass();
+        AtomicLongArray histogram = observerHistograms.get(observerType);
+        if (histogram == null) {
+            AtomicLongArray value = new AtomicLongArray(HISTOGRAM_BUCKETS);
+            histogram = observerHistograms.putIfAbsent(observerType, value);
+            if (histogram == null) {
+                histogram = value;
+            }
+        }
+        histogram.incrementAndGet(bucket(nanos));
+    }
+
+    private static int bucket(long nanos) {
+        long micros = nanos / 1000;
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the metrics recorded for each triggered event type.
+     *
+     * @return metrics by event type
+     */
+    public Map<Class<?>, EventMetrics> getEventMetrics() {
+        return Collections.unmodifiableMap(eventMetrics);
+    }
+
+    /**
+     * Returns a copy of the execution time histogram of each observer type.
+     *
+     * @return bucket counts by observer type
+     */
+    public Map<Class<?>, long[]> getObserverHistograms() {
+        Map<Class<?>, long[]> histograms = new HashMap<Class<?>, long[]>();
+        for (Map.Entry<Class<?>, AtomicLongArray> entry : observerHistograms.entrySet()) {
+            AtomicLongArray histogram = entry.getValue();
+            long[] counts = new long[histogram.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = histogram.get(i);
+            }
+            histograms.put(entry.getKey(), counts);
+        }
+        return histograms;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public void reset() {
+        eventMetrics.clear();
+        observerHistograms.clear();
+        maxQueueDepth.set(0);
+    }
+}
@@ -19,7 +19,7 @@ import java.lang.ref.WeakReference;
 
 /**
  * Weak reference proxy to an Event Observer. Will trigger an event on the given reference only if the referenced object
- * exists.
+ * exists.  Once the referenced object has been collected the observer is cleared and is purged from the EventManager.
  *
  * @author John Ericksen
  */
@@ -39,5 +39,14 @@ public abstract class WeakObserver<E, T> implements EventObserver<E>{
         }
     }
 
+    /**
+     * Determines if the referenced object has been garbage collected, leaving this observer with nothing to trigger.
+     *
+     * @return true if cleared
+     */
+    public boolean isCleared() {
+        return reference.get() == null;
+    }
+
     public abstract void trigger(E event, T handle);
 }
@@ -16,14 +16,22 @@
 package org.androidtransfuse.intentFactory;
 
 import android.content.Context;
+import android.content.Intent;
 import android.os.Bundle;
 
 /**
  * Abstract Base class defining the required parameters to build an Intent.
  *
+ * Extras may either be given as a Bundle, which is copied into the built Intent, or held by the subclass and written
+ * directly into the Intent by overriding `getExtras()` and `writeExtras()`.
+ *
+ * Either way, the Bundle returned by `getExtras()` is live: changes made to it are carried into every Intent built from
+ * this Strategy afterwards.  Generated Strategies only build this Bundle once `getExtras()` is called, and from then on
+ * copy it into the Intent rather than writing their extras directly.
+ *
  * @author John Ericksen
  */
-public abstract class AbstractIntentFactoryStrategy implements IntentFactoryStrategy{
+public abstract class AbstractIntentFactoryStrategy implements DirectIntentFactoryStrategy {
 
     private final Class<? extends Context> targetContext;
     private final Bundle bundle;
@@ -33,6 +41,10 @@ public abstract class AbstractIntentFactoryStrategy implements IntentFactoryStra
         this.bundle = bundle;
     }
 
+    protected AbstractIntentFactoryStrategy(Class<? extends Context> targetContext) {
+        this(targetContext, null);
+    }
+
     @Override
     public Class<? extends Context> getTargetContext() {
         return targetContext;
@@ -42,4 +54,12 @@ public abstract class AbstractIntentFactoryStrategy implements IntentFactoryStra
     public Bundle getExtras() {
         return bundle;
     }
+
+    @Override
+    public void writeExtras(Intent intent) {
+        Bundle extras = getExtras();
+        if (extras != null) {
+            intent.putExtras(extras);
+        }
+    }
 }
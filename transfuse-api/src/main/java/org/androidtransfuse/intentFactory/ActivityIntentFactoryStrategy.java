@@ -30,6 +30,10 @@ public class ActivityIntentFactoryStrategy extends AbstractIntentFactoryStrategy
         super(targetContext, bundle);
     }
 
+    protected ActivityIntentFactoryStrategy(Class<? extends Context> targetContext) {
+        super(targetContext);
+    }
+
     public void start(Context context, Intent intent) {
         context.startActivity(intent);
     }
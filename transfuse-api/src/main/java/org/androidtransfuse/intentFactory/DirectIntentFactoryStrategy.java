@@ -0,0 +1,36 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.intentFactory;
+
+import android.content.Intent;
+
+/**
+ * Strategy writing its extras directly into the Intent built by the IntentFactory.  This avoids filling an
+ * intermediate Bundle which `Intent.putExtras()` then copies into the Intent.
+ *
+ * @author John Ericksen
+ */
+public interface DirectIntentFactoryStrategy extends IntentFactoryStrategy {
+
+    String WRITE_EXTRAS_METHOD = "writeExtras";
+
+    /**
+     * Writes the extras defined by this Strategy into the given Intent.
+     *
+     * @param intent target Intent
+     */
+    void writeExtras(Intent intent);
+}
@@ -93,7 +93,11 @@ public class IntentFactory {
     public Intent buildIntent(IntentFactoryStrategy parameters) {
         android.content.Intent intent = intentMockFactory.buildIntent(context, parameters.getTargetContext());
 
-        intent.putExtras(parameters.getExtras());
+        if (parameters instanceof DirectIntentFactoryStrategy) {
+            ((DirectIntentFactoryStrategy) parameters).writeExtras(intent);
+        } else {
+            intent.putExtras(parameters.getExtras());
+        }
 
         return intent;
     }
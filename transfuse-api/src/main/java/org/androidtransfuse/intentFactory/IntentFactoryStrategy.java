@@ -47,7 +47,8 @@ public interface IntentFactoryStrategy {
     Class<? extends Context> getTargetContext();
 
     /**
-     * Returns the relevant Extras defined by this Strategy class.
+     * Returns the relevant Extras defined by this Strategy class.  Changes made to the returned Bundle are reflected
+     * in Intents subsequently built from this Strategy.
      *
      * @return Bundled Extras
      */
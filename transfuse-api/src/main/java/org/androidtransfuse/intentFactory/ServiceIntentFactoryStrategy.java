@@ -30,6 +30,10 @@ public class ServiceIntentFactoryStrategy extends AbstractIntentFactoryStrategy
         super(targetContext, bundle);
     }
 
+    protected ServiceIntentFactoryStrategy(Class<? extends Context> targetContext) {
+        super(targetContext);
+    }
+
     @Override
     public void start(Context context, Intent intent) {
         context.startService(intent);
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.androidtransfuse.util.TransfuseInjectionException;
+
+import javax.inject.Provider;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Thread safe scope guaranteeing a single construction per key.  A construction in progress is published, so that
+ * concurrent requests for the same key wait for it to complete rather than constructing a duplicate instance.  This
+ * allows singletons to be built ahead of time on background threads, see `EagerSingletonLoader`, without later
+ * injections blocking longer than the remaining construction.
+ *
+ * Should a construction fail, waiting threads attempt the construction themselves.  Should waiting on a construction
+ * close a cycle of threads waiting on each other's constructions, as happens when a cycle broken by a virtual proxy
+ * is resolved from two threads at once, the requesting thread builds the instance directly instead of waiting.  Every
+ * instance built is published with `putIfAbsent()`, so the first one stored is the one returned to all consumers.
+ *
+ * @author John Ericksen
+ */
+public class ConcurrentFutureScope implements Scope {
+
+    private final ConcurrentMap<ScopeKey, Object> values = new ConcurrentHashMap<ScopeKey, Object>();
+    private final ConcurrentMap<ScopeKey, Construction> constructions = new ConcurrentHashMap<ScopeKey, Construction>();
+    private final ConcurrentMap<Thread, Construction> waiting = new ConcurrentHashMap<Thread, Construction>();
+
+    @Override
+    public <T> T getScopedObject(ScopeKey<T> key, Provider<T> provider) {
+        while (true) {
+            Object result = values.get(key);
+            if (result != null) {
+                return (T) result;
+            }
+
+            Construction construction = new Construction();
+            Construction existing = constructions.putIfAbsent(key, construction);
+
+            if (existing == null) {
+                return construct(key, provider, construction);
+            }
+            if (existing.isOwner()) {
+                // reentrant request from within the construction, build directly as the provider is mid-flight
+                return publish(key, provider.get());
+            }
+            Thread current = Thread.currentThread();
+            waiting.put(current, existing);
+            try {
+                if (isWaitCycle(existing)) {
+                    // the owner is (indirectly) waiting on this thread, build directly to avoid deadlock
+                    return publish(key, provider.get());
+                }
+                if (existing.await()) {
+                    return (T) values.get(key);
+                }
+            } finally {
+                waiting.remove(current);
+            }
+        }
+    }
+
+    /**
+     * Follows the chain of threads waiting on constructions, starting at the owner of the given construction.  Each
+     * thread registers as waiting before checking, so of two threads closing a cycle at least one observes it.
+     */
+    private boolean isWaitCycle(Construction construction) {
+        Set<Thread> visited = new HashSet<Thread>();
+        Construction next = construction;
+        while (next != null && visited.add(next.owner)) {
+            if (next.isOwner()) {
+                return true;
+            }
+            next = waiting.get(next.owner);
+        }
+        return false;
+    }
+
+    private <T> T construct(ScopeKey<T> key, Provider<T> provider, Construction construction) {
+        boolean constructed = false;
+        try {
+            // a construction may have completed after the initial lookup
+            Object result = values.get(key);
+            if (result == null) {
+                result = publish(key, provider.get());
+            }
+            constructed = true;
+            return (T) result;
+        } finally {
+            constructions.remove(key, construction);
+            construction.complete(constructed);
+        }
+    }
+
+    /**
+     * Stores the given value unless another was stored first, returning the stored value so every consumer observes
+     * the same instance.
+     */
+    private <T> T publish(ScopeKey<T> key, T value) {
+        Object existing = values.putIfAbsent(key, value);
+        if (existing != null) {
+            return (T) existing;
+        }
+        return value;
+    }
+
+    private static final class Construction {
+        private final Thread owner = Thread.currentThread();
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile boolean successful = false;
+
+        private boolean isOwner() {
+            return owner == Thread.currentThread();
+        }
+
+        private void complete(boolean successful) {
+            this.successful = successful;
+            latch.countDown();
+        }
+
+        private boolean await() {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransfuseInjectionException("Interrupted while awaiting scoped object construction", e);
+            }
+            return successful;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import android.os.Looper;
+import org.androidtransfuse.util.TransfuseInjectionException;
+
+import javax.inject.Provider;
+
+/**
+ * Compact, non-concurrent scope for components confined to a single thread, such as an Activity on the UI thread.
+ * Context scopes hold only a handful of instances, so entries are kept in parallel arrays and found by a linear scan,
+ * avoiding the per-instance footprint and hashing of a `ConcurrentHashMap`.
+ *
+ * The scope is bound to the main (UI) thread; access from any other thread, including the first access, fails fast
+ * with a `TransfuseInjectionException`.  Components accessing their context scope from background threads should use the
+ * `ConcurrentDoubleLockingScope` instead.
+ *
+ * @author John Ericksen
+ */
+public class ConfinedScope implements Scope {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private ScopeKey<?>[] keys = new ScopeKey<?>[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+    private final Thread owner;
+
+    public ConfinedScope() {
+        this(Looper.getMainLooper().getThread());
+    }
+
+    /**
+     * @param owner thread the scope is confined to
+     */
+    ConfinedScope(Thread owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public <T> T getScopedObject(ScopeKey<T> key, Provider<T> provider) {
+        checkThread();
+
+        int index = indexOf(key);
+        if (index < 0) {
+            T value = provider.get();
+            // the provider may have populated this key while building its dependencies
+            index = indexOf(key);
+            if (index < 0) {
+                put(key, value);
+                return value;
+            }
+        }
+
+        return (T) values[index];
+    }
+
+    private void checkThread() {
+        Thread current = Thread.currentThread();
+        if (owner != current) {
+            throw new TransfuseInjectionException("ConfinedScope bound to thread " + owner.getName() +
+                    " accessed from thread " + current.getName() +
+                    ", use @ConcurrentContextScope to allow background access");
+        }
+    }
+
+    private int indexOf(ScopeKey<?> key) {
+        // ScopeKeys are interned, check identity before falling back to equals
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void put(ScopeKey<?> key, Object value) {
+        if (size == keys.length) {
+            ScopeKey<?>[] grownKeys = new ScopeKey<?>[size * 2];
+            Object[] grownValues = new Object[size * 2];
+            System.arraycopy(keys, 0, grownKeys, 0, size);
+            System.arraycopy(values, 0, grownValues, 0, size);
+            keys = grownKeys;
+            values = grownValues;
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+    }
+}
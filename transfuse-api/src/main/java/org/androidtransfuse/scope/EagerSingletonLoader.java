@@ -0,0 +1,102 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds `@Eager` singletons into the given scope in parallel on background threads.  Used by the generated
+ * Application during `onCreate()`.
+ *
+ * Singletons shared between eager singletons are built once; when paired with the `ConcurrentFutureScope`, a
+ * thread requiring a singleton under construction waits for it, so dependencies complete before their dependents
+ * while independent singletons are built in parallel.  Failures are left to surface at the point of injection, where
+ * the singleton is built again.
+ *
+ * @author John Ericksen
+ */
+public class EagerSingletonLoader {
+
+    public static final String ADD_METHOD = "add";
+    public static final String START_METHOD = "start";
+
+    private final Scope scope;
+    private final List<Runnable> tasks = new ArrayList<Runnable>();
+
+    public EagerSingletonLoader(Scope scope) {
+        this.scope = scope;
+    }
+
+    public <T> EagerSingletonLoader add(ScopeKey<T> key, Provider<T> provider) {
+        tasks.add(new ScopedBuildTask<T>(scope, key, provider));
+        return this;
+    }
+
+    /**
+     * Starts building the added singletons on a pool of background threads sized by the available processors.  The
+     * threads terminate once all singletons are built.
+     */
+    public void start() {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        int threads = Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors() - 1));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new EagerThreadFactory());
+        for (Runnable task : tasks) {
+            executor.execute(task);
+        }
+        executor.shutdown();
+    }
+
+    private static final class ScopedBuildTask<T> implements Runnable {
+
+        private final Scope scope;
+        private final ScopeKey<T> key;
+        private final Provider<T> provider;
+
+        private ScopedBuildTask(Scope scope, ScopeKey<T> key, Provider<T> provider) {
+            this.scope = scope;
+            this.key = key;
+            this.provider = provider;
+        }
+
+        @Override
+        public void run() {
+            try {
+                scope.getScopedObject(key, provider);
+            } catch (RuntimeException e) {
+                // rethrown when the singleton is built again at the point of injection
+            }
+        }
+    }
+
+    private static final class EagerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Transfuse Eager #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class of the bounded scopes, tracking hits, misses and evictions.
+ *
+ * @author John Ericksen
+ */
+public abstract class EvictingScope implements TrimmableScope {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    protected void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    protected void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    protected void recordEvictions(int count) {
+        evictions.addAndGet(count);
+    }
+
+    /**
+     * Evicts all scoped instances.
+     */
+    public abstract void evictAll();
+
+    /**
+     * @return number of scoped instances currently held
+     */
+    public abstract int size();
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                " size: " + size() +
+                " hits: " + getHits() +
+                " misses: " + getMisses() +
+                " evictions: " + getEvictions();
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scope decorator recording, per ScopeKey, the number of hits and misses and the time spent constructing the scoped
+ * instance along with the thread that constructed it.  As scoped instances are built lazily on first access, this
+ * gives a ranking of which scoped instances contribute to startup time.
+ *
+ * Construction time is inclusive; it contains the construction of any dependencies built by the given provider.
+ * Scoped instances are held by a `ConcurrentDoubleLockingScope` unless another delegate is given.
+ *
+ * This scope may be swapped in for the Singleton scope via
+ * `@DefineScope(annotation = Singleton.class, scope = InstrumentedScope.class)`.
+ *
+ * @author John Ericksen
+ */
+public class InstrumentedScope implements Scope {
+
+    private final Scope delegate;
+    private final ConcurrentMap<ScopeKey<?>, ScopeStatistics> statistics = new ConcurrentHashMap<ScopeKey<?>, ScopeStatistics>();
+
+    public InstrumentedScope() {
+        this(new ConcurrentDoubleLockingScope());
+    }
+
+    public InstrumentedScope(Scope delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> T getScopedObject(ScopeKey<T> key, Provider<T> provider) {
+        ScopeStatistics keyStatistics = getStatistics(key);
+        TimingProvider<T> timingProvider = new TimingProvider<T>(provider);
+
+        T result = delegate.getScopedObject(key, timingProvider);
+
+        if (timingProvider.isInvoked()) {
+            keyStatistics.miss(timingProvider.getNanos(), timingProvider.getThreadName());
+        } else {
+            keyStatistics.hit();
+        }
+
+        return result;
+    }
+
+    private ScopeStatistics getStatistics(ScopeKey<?> key) {
+        ScopeStatistics result = statistics.get(key);
+        if (result == null) {
+            ScopeStatistics value = new ScopeStatistics(key);
+            result = statistics.putIfAbsent(key, value);
+            if (result == null) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the recorded statistics, ordered by construction time, most expensive first.
+     *
+     * @return statistics per ScopeKey
+     */
+    public List<ScopeStatistics> getStatistics() {
+        List<ScopeStatistics> result = new ArrayList<ScopeStatistics>(statistics.values());
+        Collections.sort(result, new ConstructionTimeComparator());
+        return result;
+    }
+
+    /**
+     * Renders the recorded statistics as a human readable table, one line per ScopeKey, most expensive first.
+     *
+     * @return statistics table
+     */
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        for (ScopeStatistics keyStatistics : getStatistics()) {
+            builder.append(keyStatistics).append('\n');
+        }
+        return builder.toString();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public static final class ScopeStatistics {
+
+        private final ScopeKey<?> key;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong constructionNanos = new AtomicLong();
+        private volatile String constructionThread;
+
+        private ScopeStatistics(ScopeKey<?> key) {
+            this.key = key;
+        }
+
+        private void hit() {
+            hits.incrementAndGet();
+        }
+
+        private void miss(long nanos, String threadName) {
+            misses.incrementAndGet();
+            constructionNanos.addAndGet(nanos);
+            constructionThread = threadName;
+        }
+
+        public ScopeKey<?> getKey() {
+            return key;
+        }
+
+        public long getHits() {
+            return hits.get();
+        }
+
+        public long getMisses() {
+            return misses.get();
+        }
+
+        public long getConstructionNanos() {
+            return constructionNanos.get();
+        }
+
+        public String getConstructionThread() {
+            return constructionThread;
+        }
+
+        @Override
+        public String toString() {
+            return key + " construction: " + TimeUnit.NANOSECONDS.toMicros(getConstructionNanos()) + "us" +
+                    " hits: " + getHits() +
+                    " misses: " + getMisses() +
+                    " thread: " + getConstructionThread();
+        }
+    }
+
+    private static final class TimingProvider<T> implements Provider<T> {
+
+        private final Provider<T> provider;
+        private boolean invoked = false;
+        private long nanos;
+        private String threadName;
+
+        private TimingProvider(Provider<T> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public T get() {
+            long start = System.nanoTime();
+            try {
+                return provider.get();
+            } finally {
+                nanos = System.nanoTime() - start;
+                threadName = Thread.currentThread().getName();
+                invoked = true;
+            }
+        }
+
+        public boolean isInvoked() {
+            return invoked;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+    }
+
+    private static final class ConstructionTimeComparator implements Comparator<ScopeStatistics> {
+        @Override
+        public int compare(ScopeStatistics first, ScopeStatistics second) {
+            long firstNanos = first.getConstructionNanos();
+            long secondNanos = second.getConstructionNanos();
+            if (firstNanos == secondNanos) {
+                return 0;
+            }
+            return firstNanos > secondNanos ? -1 : 1;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import javax.inject.Provider;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Scope bounded by the total weight of its scoped instances, evicting the least recently used instances first.  By
+ * default every instance weighs 1, bounding the scope by count; override `weigh()` to bound by size instead.
+ *
+ * Under `TRIM_MEMORY_RUNNING_LOW` and above the scope is trimmed to half of its maximum weight, and under
+ * `TRIM_MEMORY_MODERATE` and above it is emptied.
+ *
+ * As `@DefineScope` requires a no-argument constructor, define the bound in a subclass:
+ *
+ * <pre>
+ * public class ImageScope extends LRUScope {
+ *     public ImageScope() {
+ *         super(20);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author John Ericksen
+ */
+public class LRUScope extends EvictingScope {
+
+    private final Map<ScopeKey<?>, Entry> entries = new LinkedHashMap<ScopeKey<?>, Entry>(16, 0.75f, true);
+    private final long maxWeight;
+    private long weight = 0;
+
+    public LRUScope(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("LRUScope maximum weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public <T> T getScopedObject(ScopeKey<T> key, Provider<T> provider) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                recordHit();
+                return (T) entry.value;
+            }
+        }
+
+        // built outside of the lock, as the provider may recurse into this scope
+        T value = provider.get();
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                recordHit();
+                return (T) entry.value;
+            }
+            recordMiss();
+            Entry valueEntry = new Entry(value, weigh(key, value));
+            entries.put(key, valueEntry);
+            weight += valueEntry.weight;
+            trimToWeight(maxWeight);
+        }
+
+        return value;
+    }
+
+    /**
+     * Determines the weight of the given scoped instance.
+     *
+     * @param key scope key
+     * @param value scoped instance
+     * @return non-negative weight
+     */
+    protected int weigh(ScopeKey<?> key, Object value) {
+        return 1;
+    }
+
+    @Override
+    public void trimMemory(int level) {
+        if (level >= TRIM_MEMORY_MODERATE) {
+            evictAll();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            synchronized (this) {
+                trimToWeight(maxWeight / 2);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void evictAll() {
+        recordEvictions(entries.size());
+        entries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    private void trimToWeight(long targetWeight) {
+        int evicted = 0;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > targetWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evicted++;
+        }
+        recordEvictions(evicted);
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final int weight;
+
+        private Entry(Object value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
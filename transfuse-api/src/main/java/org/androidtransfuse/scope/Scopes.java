@@ -26,6 +26,8 @@ public class Scopes {
 
     public static final String ADD_SCOPE = "addScope";
     public static final String GET_SCOPE = "getScope";
+    public static final String TRIM_MEMORY = "trimMemory";
+    public static final String LOW_MEMORY = "lowMemory";
 
     private final ConcurrentMap<Class<? extends Annotation>, Scope> scopeMapping = new ConcurrentHashMap<Class<? extends Annotation>, Scope>();
 
@@ -37,4 +39,25 @@ public class Scopes {
     public Scope getScope(Class<? extends Annotation> key){
         return scopeMapping.get(key);
     }
+
+    /**
+     * Trims the registered `TrimmableScope`s according to the given memory pressure level, called from the generated
+     * Application's `onTrimMemory()` when building against API 14 or later.
+     *
+     * @param level one of the TrimmableScope.TRIM_MEMORY constants
+     */
+    public void trimMemory(int level){
+        for (Scope scope : scopeMapping.values()) {
+            if (scope instanceof TrimmableScope) {
+                ((TrimmableScope) scope).trimMemory(level);
+            }
+        }
+    }
+
+    /**
+     * Empties the registered `TrimmableScope`s, called from the generated Application's `onLowMemory()`.
+     */
+    public void lowMemory(){
+        trimMemory(TrimmableScope.TRIM_MEMORY_COMPLETE);
+    }
 }
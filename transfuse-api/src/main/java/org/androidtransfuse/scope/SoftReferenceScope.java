@@ -0,0 +1,92 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import javax.inject.Provider;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Scope holding its scoped instances through `SoftReference`s, leaving the garbage collector free to reclaim them
+ * when memory runs low.  Reclaimed instances are rebuilt on the next access and counted as evictions.
+ *
+ * Under `TRIM_MEMORY_MODERATE` and above the scope is emptied.
+ *
+ * @author John Ericksen
+ */
+public class SoftReferenceScope extends EvictingScope {
+
+    private final ConcurrentMap<ScopeKey<?>, SoftReference<Object>> entries = new ConcurrentHashMap<ScopeKey<?>, SoftReference<Object>>();
+
+    @Override
+    public <T> T getScopedObject(ScopeKey<T> key, Provider<T> provider) {
+        SoftReference<Object> reference = entries.get(key);
+        if (reference != null) {
+            Object result = reference.get();
+            if (result != null) {
+                recordHit();
+                return (T) result;
+            }
+            // reclaimed by the garbage collector
+            if (entries.remove(key, reference)) {
+                recordEvictions(1);
+            }
+        }
+
+        T value = provider.get();
+        SoftReference<Object> valueReference = new SoftReference<Object>(value);
+
+        while (true) {
+            SoftReference<Object> existing = entries.putIfAbsent(key, valueReference);
+            if (existing == null) {
+                recordMiss();
+                return value;
+            }
+            Object existingValue = existing.get();
+            if (existingValue != null) {
+                recordHit();
+                return (T) existingValue;
+            }
+            if (entries.remove(key, existing)) {
+                recordEvictions(1);
+            }
+        }
+    }
+
+    @Override
+    public void trimMemory(int level) {
+        if (level >= TRIM_MEMORY_MODERATE) {
+            evictAll();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        int evicted = 0;
+        for (ScopeKey<?> key : entries.keySet()) {
+            if (entries.remove(key) != null) {
+                evicted++;
+            }
+        }
+        recordEvictions(evicted);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import javax.inject.Provider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scope expiring its scoped instances a fixed duration after their construction.  Expired instances are rebuilt on the
+ * next access and counted as evictions.
+ *
+ * Under `TRIM_MEMORY_RUNNING_LOW` and above expired instances are purged, and under `TRIM_MEMORY_MODERATE` and above
+ * the scope is emptied.
+ *
+ * As `@DefineScope` requires a no-argument constructor, define the duration in a subclass:
+ *
+ * <pre>
+ * public class ConfigurationScope extends TimeToLiveScope {
+ *     public ConfigurationScope() {
+ *         super(10, TimeUnit.MINUTES);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author John Ericksen
+ */
+public class TimeToLiveScope extends EvictingScope {
+
+    private final ConcurrentMap<ScopeKey<?>, Entry> entries = new ConcurrentHashMap<ScopeKey<?>, Entry>();
+    private final long durationNanos;
+
+    public TimeToLiveScope(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("TimeToLiveScope duration must be positive");
+        }
+        this.durationNanos = unit.toNanos(duration);
+    }
+
+    @Override
+    public <T> T getScopedObject(ScopeKey<T> key, Provider<T> provider) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.isExpired(now())) {
+                recordHit();
+                return (T) entry.value;
+            }
+            if (entries.remove(key, entry)) {
+                recordEvictions(1);
+            }
+        }
+
+        T value = provider.get();
+        Entry valueEntry = new Entry(value, now() + durationNanos);
+
+        Entry existing = entries.putIfAbsent(key, valueEntry);
+        if (existing == null) {
+            recordMiss();
+            return value;
+        }
+        recordHit();
+        return (T) existing.value;
+    }
+
+    /**
+     * Current time in nanoseconds, overridable for testing.
+     *
+     * @return current time
+     */
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void trimMemory(int level) {
+        if (level >= TRIM_MEMORY_MODERATE) {
+            evictAll();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            purgeExpired();
+        }
+    }
+
+    /**
+     * Removes all expired scoped instances.
+     */
+    public void purgeExpired() {
+        long now = now();
+        int evicted = 0;
+        for (Map.Entry<ScopeKey<?>, Entry> entry : entries.entrySet()) {
+            if (entry.getValue().isExpired(now) && entries.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        recordEvictions(evicted);
+    }
+
+    @Override
+    public void evictAll() {
+        int evicted = 0;
+        for (ScopeKey<?> key : entries.keySet()) {
+            if (entries.remove(key) != null) {
+                evicted++;
+            }
+        }
+        recordEvictions(evicted);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiration;
+
+        private Entry(Object value, long expiration) {
+            this.value = value;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiration >= 0;
+        }
+    }
+}
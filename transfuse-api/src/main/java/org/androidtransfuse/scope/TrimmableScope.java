@@ -0,0 +1,44 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+/**
+ * Scope able to shed its scoped instances under memory pressure.  Trimmable scopes registered in `Scopes` are trimmed
+ * by the generated Application: `onLowMemory()` trims them with `TRIM_MEMORY_COMPLETE` and, when the application is
+ * built against API 14 or later, `onTrimMemory()` passes on the level given by `ComponentCallbacks2`.  In both cases
+ * the scopes are trimmed before the `@OnLowMemory` or `@OnTrimMemory` listeners are called.
+ *
+ * The level constants mirror those of `android.content.ComponentCallbacks2`.
+ *
+ * @author John Ericksen
+ */
+public interface TrimmableScope extends Scope {
+
+    int TRIM_MEMORY_RUNNING_MODERATE = 5;
+    int TRIM_MEMORY_RUNNING_LOW = 10;
+    int TRIM_MEMORY_RUNNING_CRITICAL = 15;
+    int TRIM_MEMORY_UI_HIDDEN = 20;
+    int TRIM_MEMORY_BACKGROUND = 40;
+    int TRIM_MEMORY_MODERATE = 60;
+    int TRIM_MEMORY_COMPLETE = 80;
+
+    /**
+     * Evicts scoped instances according to the given memory pressure level.
+     *
+     * @param level one of the TRIM_MEMORY constants
+     */
+    void trimMemory(int level);
+}
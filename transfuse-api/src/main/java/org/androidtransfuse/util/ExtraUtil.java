@@ -16,6 +16,7 @@
 package org.androidtransfuse.util;
 
 import android.os.Bundle;
+import android.os.Parcelable;
 
 /**
  * Utility class for dealing with Android Extras.
@@ -25,6 +26,17 @@ import android.os.Bundle;
 public final class ExtraUtil {
 
     public static final String GET_EXTRA = "getExtra";
+    public static final String GET_BOOLEAN = "getBoolean";
+    public static final String GET_BYTE = "getByte";
+    public static final String GET_CHAR = "getChar";
+    public static final String GET_SHORT = "getShort";
+    public static final String GET_INT = "getInt";
+    public static final String GET_LONG = "getLong";
+    public static final String GET_FLOAT = "getFloat";
+    public static final String GET_DOUBLE = "getDouble";
+    public static final String GET_STRING = "getString";
+    public static final String GET_CHAR_SEQUENCE = "getCharSequence";
+    public static final String GET_PARCELABLE = "getParcelable";
 
     private ExtraUtil() {
         //singleton constructor
@@ -42,10 +54,89 @@ public final class ExtraUtil {
      * @return extra value
      */
     public static Object getExtra(Bundle extras, String name, boolean nullable) {
-        Object value = null;
-        if (extras != null && extras.containsKey(name)) {
-            value = extras.get(name);
+        //Bundle.get() returns null for missing keys, so a separate containsKey() lookup is unnecessary
+        return checkNullable(extras == null ? null : extras.get(name), name, nullable);
+    }
+
+    /*
+     * Typed accessors, reading the extra through the corresponding Bundle getter rather than get() followed by a cast
+     * and unboxing.  These keep the semantics of getExtra(): an extra that is not nullable must be present and
+     * non-null, otherwise a TransfuseInjectionException is thrown.  A required primitive is read through a single
+     * get() so that a missing key is not mistaken for the getter's default value.
+     *
+     * A primitive has no null value, so a nullable primitive extra that is missing takes the Bundle default (false or
+     * 0) instead of failing to unbox null, which is what the cast of getExtra() used to do.
+     */
+
+    public static boolean getBoolean(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Boolean) getExtra(extras, name, false);
+        }
+        return extras != null && extras.getBoolean(name);
+    }
+
+    public static byte getByte(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Byte) getExtra(extras, name, false);
+        }
+        return extras == null ? 0 : extras.getByte(name);
+    }
+
+    public static char getChar(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Character) getExtra(extras, name, false);
+        }
+        return extras == null ? 0 : extras.getChar(name);
+    }
+
+    public static short getShort(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Short) getExtra(extras, name, false);
+        }
+        return extras == null ? 0 : extras.getShort(name);
+    }
+
+    public static int getInt(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Integer) getExtra(extras, name, false);
         }
+        return extras == null ? 0 : extras.getInt(name);
+    }
+
+    public static long getLong(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Long) getExtra(extras, name, false);
+        }
+        return extras == null ? 0L : extras.getLong(name);
+    }
+
+    public static float getFloat(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Float) getExtra(extras, name, false);
+        }
+        return extras == null ? 0f : extras.getFloat(name);
+    }
+
+    public static double getDouble(Bundle extras, String name, boolean nullable) {
+        if (!nullable) {
+            return (Double) getExtra(extras, name, false);
+        }
+        return extras == null ? 0d : extras.getDouble(name);
+    }
+
+    public static String getString(Bundle extras, String name, boolean nullable) {
+        return checkNullable(extras == null ? null : extras.getString(name), name, nullable);
+    }
+
+    public static CharSequence getCharSequence(Bundle extras, String name, boolean nullable) {
+        return checkNullable(extras == null ? null : extras.getCharSequence(name), name, nullable);
+    }
+
+    public static <T extends Parcelable> T getParcelable(Bundle extras, String name, boolean nullable) {
+        return checkNullable(extras == null ? null : extras.<T>getParcelable(name), name, nullable);
+    }
+
+    private static <T> T checkNullable(T value, String name, boolean nullable) {
         if (!nullable && value == null) {
             throw new TransfuseInjectionException("Unable to access Extra " + name);
         }
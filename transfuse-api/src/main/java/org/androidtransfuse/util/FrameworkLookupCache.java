@@ -0,0 +1,280 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Application wide memoization of `@Resource` and `@SystemService` lookups, used by the generated code when the
+ * `transfuse.cacheFrameworkLookups` processor option is enabled.  Resources are keyed by accessor and resource id and
+ * are dropped as soon as the `Configuration` of the looked up `Resources` changes.  Only services that are independent
+ * of the requesting `Context` are cached, keyed by service name and looked up through the Application `Context`.
+ *
+ * Mutable values are never shared: arrays are copied and Drawables are rebuilt from their cached `ConstantState`.
+ * Drawable states and arrays are held by `SoftReference`, leaving them to be reclaimed under memory pressure.  Each
+ * entry is tagged with the `Configuration` it was looked up under, so a value looked up concurrently with a
+ * configuration change is never handed out under the new configuration.
+ *
+ * @author John Ericksen
+ */
+public class FrameworkLookupCache {
+
+    public static final String GET_INSTANCE = "getInstance";
+    public static final String GET_SYSTEM_SERVICE = "getSystemService";
+    public static final String CLEAR = "clear";
+
+    private static final Set<String> CONTEXT_INDEPENDENT_SERVICES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            "alarm", "notification", "connectivity", "wifi", "location", "sensor", "power", "vibrator", "phone",
+            "keyguard", "download", "uimode", "usb", "nfc", "storage", "dropbox", "device_policy")));
+
+    private static final int STRING = 0;
+    private static final int BOOLEAN = 1;
+    private static final int INTEGER = 2;
+    private static final int COLOR_STATE_LIST = 3;
+    private static final int DRAWABLE = 4;
+    private static final int STRING_ARRAY = 5;
+    private static final int INT_ARRAY = 6;
+
+    private static final FrameworkLookupCache INSTANCE = new FrameworkLookupCache();
+
+    private final ConcurrentMap<Long, Entry> resources = new ConcurrentHashMap<Long, Entry>();
+    private final ConcurrentMap<String, Object> systemServices = new ConcurrentHashMap<String, Object>();
+    private final Object configurationLock = new Object();
+    private volatile Configuration configuration;
+
+    protected FrameworkLookupCache() {
+        // singleton constructor, protected for testing
+    }
+
+    public static FrameworkLookupCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Determines if the given system service may be shared across the application.
+     *
+     * @param serviceName `Context` service name
+     * @return cacheable
+     */
+    public static boolean isCacheableService(String serviceName) {
+        return CONTEXT_INDEPENDENT_SERVICES.contains(serviceName);
+    }
+
+    public String getString(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        String value = (String) lookup(snapshot, STRING, id);
+        if (value == null) {
+            value = resources.getString(id);
+            store(snapshot, STRING, id, value);
+        }
+        return value;
+    }
+
+    public boolean getBoolean(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        Boolean value = (Boolean) lookup(snapshot, BOOLEAN, id);
+        if (value == null) {
+            value = resources.getBoolean(id);
+            store(snapshot, BOOLEAN, id, value);
+        }
+        return value;
+    }
+
+    public int getInteger(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        Integer value = (Integer) lookup(snapshot, INTEGER, id);
+        if (value == null) {
+            value = resources.getInteger(id);
+            store(snapshot, INTEGER, id, value);
+        }
+        return value;
+    }
+
+    public ColorStateList getColorStateList(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        ColorStateList value = (ColorStateList) lookup(snapshot, COLOR_STATE_LIST, id);
+        if (value == null) {
+            value = resources.getColorStateList(id);
+            store(snapshot, COLOR_STATE_LIST, id, value);
+        }
+        return value;
+    }
+
+    public Drawable getDrawable(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        Drawable.ConstantState state = (Drawable.ConstantState) lookup(snapshot, DRAWABLE, id);
+        if (state == null) {
+            Drawable drawable = resources.getDrawable(id);
+            if (drawable == null || drawable.getConstantState() == null) {
+                // unable to share the state, so the first instance is handed out as-is
+                return drawable;
+            }
+            state = drawable.getConstantState();
+            storeSoft(snapshot, DRAWABLE, id, state);
+            return drawable;
+        }
+        return state.newDrawable();
+    }
+
+    public String[] getStringArray(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        String[] value = (String[]) lookup(snapshot, STRING_ARRAY, id);
+        if (value == null) {
+            value = resources.getStringArray(id);
+            storeSoft(snapshot, STRING_ARRAY, id, value);
+        }
+        return value == null ? null : value.clone();
+    }
+
+    public int[] getIntArray(Resources resources, int id) {
+        Configuration snapshot = snapshot(resources);
+        int[] value = (int[]) lookup(snapshot, INT_ARRAY, id);
+        if (value == null) {
+            value = resources.getIntArray(id);
+            storeSoft(snapshot, INT_ARRAY, id, value);
+        }
+        return value == null ? null : value.clone();
+    }
+
+    /**
+     * Looks up the given system service, sharing the Application `Context` instance of context independent services.
+     *
+     * @param context requesting context
+     * @param serviceName `Context` service name
+     * @return system service
+     */
+    public Object getSystemService(Context context, String serviceName) {
+        if (!isCacheableService(serviceName)) {
+            return context.getSystemService(serviceName);
+        }
+        Object service = systemServices.get(serviceName);
+        if (service == null) {
+            service = context.getApplicationContext().getSystemService(serviceName);
+            if (service != null) {
+                Object existing = systemServices.putIfAbsent(serviceName, service);
+                if (existing != null) {
+                    service = existing;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Drops all cached resources, leaving the context independent services in place.
+     */
+    public void invalidate() {
+        synchronized (configurationLock) {
+            resources.clear();
+            configuration = null;
+        }
+    }
+
+    /**
+     * Drops all cached resources and services.
+     */
+    public void clear() {
+        invalidate();
+        systemServices.clear();
+    }
+
+    protected Configuration copy(Configuration current) {
+        return new Configuration(current);
+    }
+
+    /**
+     * Determines the configuration snapshot the given resources are looked up under, dropping all cached resources
+     * should the configuration have changed.
+     */
+    private Configuration snapshot(Resources resources) {
+        Configuration current = resources.getConfiguration();
+        Configuration snapshot = configuration;
+        if (snapshot == null || snapshot.diff(current) != 0) {
+            synchronized (configurationLock) {
+                if (configuration == null || configuration.diff(current) != 0) {
+                    this.resources.clear();
+                    configuration = copy(current);
+                }
+                snapshot = configuration;
+            }
+        }
+        return snapshot;
+    }
+
+    private Object lookup(Configuration snapshot, int accessor, int id) {
+        Entry entry = this.resources.get(key(accessor, id));
+        if (entry == null || entry.configuration != snapshot) {
+            return null;
+        }
+        return entry.get();
+    }
+
+    private void store(Configuration snapshot, int accessor, int id, Object value) {
+        if (value != null) {
+            resources.put(key(accessor, id), new Entry(snapshot, value));
+        }
+    }
+
+    private void storeSoft(Configuration snapshot, int accessor, int id, Object value) {
+        if (value != null) {
+            resources.put(key(accessor, id), new SoftEntry(snapshot, value));
+        }
+    }
+
+    private static Long key(int accessor, int id) {
+        return (((long) accessor) << Integer.SIZE) | (id & 0xffffffffL);
+    }
+
+    private static class Entry {
+        private final Configuration configuration;
+        private final Object value;
+
+        private Entry(Configuration configuration, Object value) {
+            this.configuration = configuration;
+            this.value = value;
+        }
+
+        protected Object get() {
+            return value;
+        }
+    }
+
+    private static final class SoftEntry extends Entry {
+        private final SoftReference<Object> reference;
+
+        private SoftEntry(Configuration configuration, Object value) {
+            super(configuration, null);
+            this.reference = new SoftReference<Object>(value);
+        }
+
+        @Override
+        protected Object get() {
+            return reference.get();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+/**
+ * Listener notified by the injection probes generated into components when the `transfuse.injectionProbes` processor
+ * option is enabled.  Each generated component reports its injection, registration and callback phases.  Callbacks
+ * are made synchronously on the component's lifecycle thread, so implementations should be cheap.
+ *
+ * The begin/end pairing maps directly onto `android.os.Trace.beginSection()` and `Trace.endSection()`.
+ *
+ * @see InjectionProbes#setListener(InjectionProbeListener)
+ * @author John Ericksen
+ */
+public interface InjectionProbeListener {
+
+    /**
+     * Called before the given component phase executes.
+     *
+     * @param component generated component
+     * @param phase one of the InjectionProbes phase constants
+     */
+    void onBegin(Class<?> component, String phase);
+
+    /**
+     * Called after the given component phase has executed.
+     *
+     * @param component generated component
+     * @param phase one of the InjectionProbes phase constants
+     * @param nanos execution time in nanoseconds
+     */
+    void onEnd(Class<?> component, String phase, long nanos);
+}
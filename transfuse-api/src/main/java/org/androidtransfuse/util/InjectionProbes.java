@@ -0,0 +1,80 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+/**
+ * Static sink for the timing probes generated into components when the `transfuse.injectionProbes` processor option is
+ * enabled.  Probes are inert until a listener is registered.
+ *
+ * @author John Ericksen
+ */
+public final class InjectionProbes {
+
+    public static final String BEGIN_METHOD = "begin";
+    public static final String END_METHOD = "end";
+
+    public static final String INJECTION = "injection";
+    public static final String REGISTRATION = "registration";
+    public static final String CALLBACKS = "callbacks";
+
+    private static final long NOT_STARTED = 0;
+
+    private static volatile InjectionProbeListener listener;
+
+    private InjectionProbes() {
+        // private utility class constructor
+    }
+
+    /**
+     * Registers the listener to be notified of component phase timings, replacing any previously registered listener.
+     *
+     * @param probeListener listener, null to disable
+     */
+    public static void setListener(InjectionProbeListener probeListener) {
+        listener = probeListener;
+    }
+
+    /**
+     * Marks the beginning of a component phase.
+     *
+     * @param component generated component
+     * @param phase component phase
+     * @return start time to be handed to `end()`
+     */
+    public static long begin(Class<?> component, String phase) {
+        InjectionProbeListener current = listener;
+        if (current == null) {
+            return NOT_STARTED;
+        }
+        current.onBegin(component, phase);
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a component phase.
+     *
+     * @param component generated component
+     * @param phase component phase
+     * @param start start time returned by `begin()`
+     */
+    public static void end(Class<?> component, String phase, long start) {
+        InjectionProbeListener current = listener;
+        // ignore phases begun before the listener was registered
+        if (current != null && start != NOT_STARTED) {
+            current.onEnd(component, phase, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+/**
+ * Injectable handle to a lazily constructed instance.  Unlike `javax.inject.Provider`, which may build a new instance
+ * per call, a `Lazy` constructs its dependency graph on the first call to `get()` and returns the same instance
+ * thereafter.  Injecting `Lazy<T>` moves the construction of rarely used or expensive dependencies off of the
+ * component's creation path.
+ *
+ * @author John Ericksen
+ */
+public interface Lazy<T> {
+
+    /**
+     * Supplies the lazily constructed instance, building it on first access.
+     *
+     * @return instance
+     */
+    T get();
+}
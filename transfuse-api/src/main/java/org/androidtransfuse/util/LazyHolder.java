@@ -0,0 +1,49 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+import javax.inject.Provider;
+
+/**
+ * Memoizing `Lazy` implementation which delegates to the given `Provider` exactly once.
+ *
+ * @author John Ericksen
+ */
+public class LazyHolder<T> implements Lazy<T> {
+
+    private Provider<T> provider;
+    private T instance;
+    private volatile boolean initialized = false;
+
+    public LazyHolder(Provider<T> provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public T get() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    instance = provider.get();
+                    //release the provider and its references once loaded, a null result is memoized as well
+                    provider = null;
+                    initialized = true;
+                }
+            }
+        }
+        return instance;
+    }
+}
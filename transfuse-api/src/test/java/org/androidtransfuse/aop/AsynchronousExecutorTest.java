@@ -0,0 +1,124 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.aop;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class AsynchronousExecutorTest {
+
+    private static final Object KEY = new Object();
+
+    private AsynchronousExecutor executor;
+    private CountDownLatch block;
+
+    @Before
+    public void setup() {
+        executor = new AsynchronousExecutor(1, 1);
+        block = new CountDownLatch(1);
+    }
+
+    @Test
+    public void testExecutesOffCallingThread() throws InterruptedException {
+        final AtomicReference<Thread> executionThread = new AtomicReference<Thread>();
+        final CountDownLatch complete = new CountDownLatch(1);
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                executionThread.set(Thread.currentThread());
+                complete.countDown();
+            }
+        });
+
+        assertTrue(complete.await(1, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), executionThread.get());
+        assertEquals(1, executor.getSubmittedCount());
+        assertEquals(0, executor.getRejectedCount());
+    }
+
+    @Test
+    public void testPoolSaturationRejected() throws InterruptedException {
+        //one running, one queued
+        executor.execute(new BlockingRunnable());
+        executor.execute(new BlockingRunnable());
+
+        ThreadRecordingRunnable overflow = new ThreadRecordingRunnable();
+        try {
+            executor.execute(overflow);
+            fail();
+        } catch (RejectedExecutionException e) {
+            //expected
+        }
+
+        assertNull(overflow.thread);
+        assertEquals(3, executor.getSubmittedCount());
+        assertEquals(1, executor.getRejectedCount());
+
+        block.countDown();
+    }
+
+    @Test
+    public void testPendingLimit() throws InterruptedException {
+        executor.execute(KEY, 1, new BlockingRunnable());
+        assertEquals(1, executor.getPendingCount(KEY));
+
+        ThreadRecordingRunnable overflow = new ThreadRecordingRunnable();
+        try {
+            executor.execute(KEY, 1, overflow);
+            fail();
+        } catch (RejectedExecutionException e) {
+            //expected
+        }
+
+        assertNull(overflow.thread);
+        assertEquals(1, executor.getRejectedCount());
+        assertEquals(1, executor.getPendingCount(KEY));
+
+        block.countDown();
+    }
+
+    private final class BlockingRunnable implements Runnable {
+        @Override
+        public void run() {
+            try {
+                block.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class ThreadRecordingRunnable implements Runnable {
+
+        private volatile Thread thread;
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+        }
+    }
+}
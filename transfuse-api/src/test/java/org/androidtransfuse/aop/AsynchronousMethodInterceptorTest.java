@@ -0,0 +1,260 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.aop;
+
+import org.androidtransfuse.annotations.Asynchronous;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author John Ericksen
+ */
+public class AsynchronousMethodInterceptorTest {
+
+    private static final String VALUE = "value";
+
+    private AsynchronousMethodInterceptor interceptor;
+    private MethodInvocation invocation;
+
+    @Before
+    public void setup() {
+        interceptor = new AsynchronousMethodInterceptor(new AsynchronousExecutor(1, 1));
+        invocation = mock(MethodInvocation.class);
+    }
+
+    @Test
+    public void testVoidMethod() throws Throwable {
+        final CountDownLatch complete = new CountDownLatch(1);
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("run"));
+        when(invocation.proceed()).then(new CountDownAnswer(complete, null));
+
+        assertNull(interceptor.invoke(invocation));
+        assertTrue(complete.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFutureMethod() throws Throwable {
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("load"));
+        when(invocation.proceed()).thenReturn(AsynchronousFuture.of(VALUE));
+
+        Object result = interceptor.invoke(invocation);
+
+        assertTrue(result instanceof ListenableFuture);
+        assertEquals(VALUE, ((Future) result).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFutureListener() throws Throwable {
+        final CountDownLatch listened = new CountDownLatch(1);
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("load"));
+        when(invocation.proceed()).thenReturn(AsynchronousFuture.of(VALUE));
+
+        ListenableFuture<?> future = (ListenableFuture<?>) interceptor.invoke(invocation);
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                listened.countDown();
+            }
+        }, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+
+        assertTrue(listened.await(1, TimeUnit.SECONDS));
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testPendingFutureDoesNotHoldThread() throws Throwable {
+        final AsynchronousFuture<Object> pending = new AsynchronousFuture<Object>(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return VALUE;
+            }
+        });
+        final CountDownLatch complete = new CountDownLatch(1);
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("load"));
+        when(invocation.proceed()).thenReturn(pending);
+
+        Future<?> result = (Future<?>) interceptor.invoke(invocation);
+
+        //the single pool thread must be free to run another invocation while the first future is pending
+        MethodInvocation second = mock(MethodInvocation.class);
+        when(second.getMethod()).thenReturn(Target.class.getMethod("run"));
+        when(second.proceed()).then(new CountDownAnswer(complete, null));
+        interceptor.invoke(second);
+
+        assertTrue(complete.await(1, TimeUnit.SECONDS));
+        assertFalse(result.isDone());
+
+        pending.run();
+
+        assertEquals(VALUE, result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testChainedException() throws Throwable {
+        final IllegalArgumentException exception = new IllegalArgumentException();
+        AsynchronousFuture<Object> pending = new AsynchronousFuture<Object>(new Callable<Object>() {
+            @Override
+            public Object call() {
+                throw exception;
+            }
+        });
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("load"));
+        when(invocation.proceed()).thenReturn(pending);
+
+        Future<?> result = (Future<?>) interceptor.invoke(invocation);
+        pending.run();
+
+        try {
+            result.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void testRejectedFutureMethod() throws Throwable {
+        final CountDownLatch block = new CountDownLatch(1);
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("limited"));
+        when(invocation.proceed()).then(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+                block.await();
+                return AsynchronousFuture.of(VALUE);
+            }
+        });
+
+        Future<?> running = (Future<?>) interceptor.invoke(invocation);
+        Future<?> rejected = (Future<?>) interceptor.invoke(invocation);
+
+        try {
+            rejected.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+
+        block.countDown();
+        assertEquals(VALUE, running.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectedVoidMethodDropped() throws Throwable {
+        AsynchronousExecutor executor = new AsynchronousExecutor(1, 1);
+        interceptor = new AsynchronousMethodInterceptor(executor);
+        final CountDownLatch block = new CountDownLatch(1);
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("limitedRun"));
+        when(invocation.proceed()).then(new BlockingAnswer(block));
+
+        assertNull(interceptor.invoke(invocation));
+        assertNull(interceptor.invoke(invocation));
+
+        assertEquals(1, executor.getRejectedCount());
+        block.countDown();
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testRejectedVoidMethodThrows() throws Throwable {
+        final CountDownLatch block = new CountDownLatch(1);
+        when(invocation.getMethod()).thenReturn(Target.class.getMethod("strictRun"));
+        when(invocation.proceed()).then(new BlockingAnswer(block));
+
+        try {
+            interceptor.invoke(invocation);
+            interceptor.invoke(invocation);
+        } finally {
+            block.countDown();
+        }
+    }
+
+    public static class Target {
+        @Asynchronous
+        public void run() {
+            //empty
+        }
+
+        @Asynchronous
+        public ListenableFuture<String> load() {
+            return AsynchronousFuture.of(VALUE);
+        }
+
+        @Asynchronous(maxPending = 1)
+        public ListenableFuture<String> limited() {
+            return AsynchronousFuture.of(VALUE);
+        }
+
+        @Asynchronous(maxPending = 1)
+        public void limitedRun() {
+            //empty
+        }
+
+        @Asynchronous(maxPending = 1, throwOnRejection = true)
+        public void strictRun() {
+            //empty
+        }
+    }
+
+    private static final class BlockingAnswer implements Answer<Object> {
+
+        private final CountDownLatch latch;
+
+        private BlockingAnswer(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+            latch.await();
+            return null;
+        }
+    }
+
+    private static final class CountDownAnswer implements Answer<Object> {
+
+        private final CountDownLatch latch;
+        private final Object result;
+
+        private CountDownAnswer(CountDownLatch latch, Object result) {
+            this.latch = latch;
+            this.result = result;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocationOnMock) {
+            latch.countDown();
+            return result;
+        }
+    }
+}
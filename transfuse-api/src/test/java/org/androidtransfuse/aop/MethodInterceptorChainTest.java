@@ -15,6 +15,7 @@
  */
 package org.androidtransfuse.aop;
 
+import org.androidtransfuse.util.TransfuseInjectionException;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.Before;
@@ -64,53 +65,123 @@ public class MethodInterceptorChainTest {
             });
         }
 
-        MethodInterceptorChain.MethodExecution execution = mock(MethodInterceptorChain.MethodExecution.class);
+        Method method = MethodInterceptorChainTest.class.getMethod("targetMethod");
 
-        MethodInterceptorChain interceptorChain = new MethodInterceptorChain(execution, proxy, interceptors);
+        MethodInterceptorChain interceptorChain = new MethodInterceptorChain(method, proxy, interceptors);
 
-        interceptorChain.invoke(ARGUMENTS);
+        CountingExecution execution = new CountingExecution(interceptorChain, ARGUMENTS);
+        interceptorChain.invoke(execution);
 
         for (MethodInterceptor interceptor : interceptors) {
             verify(interceptor).invoke(any(MethodInvocation.class));
         }
 
-        verify(execution).invoke();
+        assertEquals(1, execution.count);
     }
 
     @Test
-    public void testGetters() throws Exception {
-        final Method mockMethod = MethodInterceptorChainTest.class.getMethod("targetMethod");
+    public void testChainReuse() throws Exception {
+        Method method = MethodInterceptorChainTest.class.getMethod("targetMethod");
+        MethodInterceptor interceptor = new MethodInterceptor() {
+            @Override
+            public Object invoke(MethodInvocation invocation) throws Throwable {
+                return invocation.proceed();
+            }
+        };
 
-        MethodInterceptorChain.MethodExecution methodExecution = mock(MethodInterceptorChain.MethodExecution.class);
+        MethodInterceptorChain interceptorChain = new MethodInterceptorChain(method, proxy, interceptor, interceptor);
 
-        when(methodExecution.getMethod()).thenReturn(mockMethod);
+        CountingExecution first = new CountingExecution(interceptorChain, ARGUMENTS);
+        CountingExecution second = new CountingExecution(interceptorChain, MethodInterceptorChain.EMPTY_ARGUMENTS);
+        interceptorChain.invoke(first);
+        interceptorChain.invoke(second);
 
-        MethodInterceptorChain interceptorChain = new MethodInterceptorChain(methodExecution, proxy, new MethodInterceptor() {
+        assertEquals(1, first.count);
+        assertEquals(1, second.count);
+    }
+
+    @Test
+    public void testGetters() throws Exception {
+        final Method mockMethod = MethodInterceptorChainTest.class.getMethod("targetMethod");
+
+        MethodInterceptorChain interceptorChain = new MethodInterceptorChain(mockMethod, proxy, new MethodInterceptor() {
 
             @Override
             public Object invoke(MethodInvocation invocation) throws Throwable {
                 assertEquals(mockMethod, invocation.getMethod());
                 assertArrayEquals(ARGUMENTS, invocation.getArguments());
                 assertEquals(mockMethod, invocation.getStaticPart());
+                assertEquals(proxy, invocation.getThis());
 
                 return invocation.proceed();
             }
         });
 
-        interceptorChain.invoke(ARGUMENTS);
+        CountingExecution execution = new CountingExecution(interceptorChain, ARGUMENTS);
+        interceptorChain.invoke(execution);
+
+        assertEquals(1, execution.count);
+    }
+
+    @Test(expected = TransfuseInjectionException.class)
+    public void testExceptionWrapping() throws Exception {
+        Method method = MethodInterceptorChainTest.class.getMethod("targetMethod");
+        MethodInterceptorChain interceptorChain = new MethodInterceptorChain(method, proxy);
+
+        interceptorChain.invoke(new MethodInterceptorChain.MethodExecution(interceptorChain, ARGUMENTS) {
+            @Override
+            protected Object invoke() throws Throwable {
+                throw new Exception();
+            }
+        });
+    }
+
+    @Test
+    public void testGetMethod() throws NoSuchMethodException {
+        assertEquals(MethodInterceptorChainTest.class.getMethod("targetMethod"),
+                MethodInterceptorChain.getMethod(MethodInterceptorChainTest.class, "targetMethod"));
+        assertNotNull(MethodInterceptorChain.getMethod(TargetSubclass.class, "protectedTargetMethod", int.class));
+    }
 
-        verify(methodExecution, times(2)).getMethod();
+    @Test(expected = TransfuseInjectionException.class)
+    public void testGetMissingMethod() {
+        MethodInterceptorChain.getMethod(MethodInterceptorChainTest.class, "missingMethod");
     }
 
     public void targetMethod() {
         //used to avoid mocking issues
     }
 
+    public static class ProtectedTarget {
+        protected void protectedTargetMethod(int value) {
+            //looked up through the class hierarchy
+        }
+    }
+
+    public static class TargetSubclass extends ProtectedTarget {}
+
+    private static final class CountingExecution extends MethodInterceptorChain.MethodExecution {
+
+        private int count = 0;
+
+        private CountingExecution(MethodInterceptorChain chain, Object[] arguments) {
+            super(chain, arguments);
+        }
+
+        @Override
+        protected Object invoke() throws Throwable {
+            count++;
+            return null;
+        }
+    }
+
     @Test
     public void verifyMethodNames() throws NoSuchMethodException {
-        Method getMethod = MethodInterceptorChain.MethodExecution.class.getMethod(MethodInterceptorChain.MethodExecution.GET_METHOD);
+        Method getMethod = MethodInterceptorChain.class.getMethod(MethodInterceptorChain.GET_METHOD, Class.class, String.class, Class[].class);
         assertNotNull(getMethod);
-        Method invokeMethod = MethodInterceptorChain.MethodExecution.class.getMethod(MethodInterceptorChain.MethodExecution.INVOKE);
+        Method invokeMethod = MethodInterceptorChain.MethodExecution.class.getDeclaredMethod(MethodInterceptorChain.INVOKE);
         assertNotNull(invokeMethod);
+        Method chainInvokeMethod = MethodInterceptorChain.class.getMethod(MethodInterceptorChain.INVOKE, MethodInterceptorChain.MethodExecution.class);
+        assertNotNull(chainInvokeMethod);
     }
 }
@@ -104,6 +104,36 @@ public class EventManagerTest {
         assertFalse(trigger.isTriggered());
     }
 
+    @Test
+    public void testListener(){
+        registerEvents();
+        EventManagerMetrics metrics = new EventManagerMetrics();
+        eventManager.setListener(metrics);
+
+        eventManager.trigger(new ObservesEvent());
+        eventManager.trigger(new ObservesEvent());
+        eventManager.trigger(new Object());
+
+        assertEquals(2, metrics.getEventMetrics().get(ObservesEvent.class).getTriggerCount());
+        assertEquals(4, metrics.getEventMetrics().get(ObservesEvent.class).getObserverCount());
+        assertEquals(1, metrics.getEventMetrics().get(Object.class).getTriggerCount());
+        assertEquals(1, metrics.getEventMetrics().get(Object.class).getObserverCount());
+        assertEquals(2, metrics.getMaxQueueDepth());
+
+        long executions = 0;
+        for (long[] histogram : metrics.getObserverHistograms().values()) {
+            for (long count : histogram) {
+                executions += count;
+            }
+        }
+        assertEquals(5, executions);
+
+        eventManager.setListener(null);
+        eventManager.trigger(new ObservesEvent());
+
+        assertEquals(2, metrics.getEventMetrics().get(ObservesEvent.class).getTriggerCount());
+    }
+
     private void registerEvents(){
         eventManager.register(ObservesEvent.class, new EventObserver<ObservesEvent>() {
             @Override
@@ -30,6 +30,18 @@ public class WeakObserverTest {
 
     private EventManager eventManager;
     private class Event{}
+    private class NestedEvent{}
+
+    private class NestedTriggerObserver implements EventObserver<Event>{
+
+        private boolean called = false;
+
+        @Override
+        public void trigger(Event event) {
+            eventManager.trigger(new NestedEvent());
+            called = true;
+        }
+    }
 
     private class WeakObservable{
         private boolean called = false;
@@ -56,6 +68,24 @@ public class WeakObserverTest {
         }
     }
 
+    private class ClearableObserverTarget extends WeakObserverTarget{
+
+        private boolean cleared = false;
+
+        public ClearableObserverTarget(WeakObservable target) {
+            super(target);
+        }
+
+        @Override
+        public boolean isCleared() {
+            return cleared;
+        }
+
+        public void clear() {
+            cleared = true;
+        }
+    }
+
     @Before
     public void setup(){
         eventManager = new EventManager();
@@ -93,6 +123,76 @@ public class WeakObserverTest {
 
     }
 
+    @Test
+    public void purgeOnTriggerTest(){
+        WeakObservable observable = new WeakObservable();
+        ClearableObserverTarget clearedObserver = new ClearableObserverTarget(observable);
+        ClearableObserverTarget liveObserver = new ClearableObserverTarget(observable);
+
+        eventManager.register(Event.class, clearedObserver);
+        eventManager.register(Event.class, liveObserver);
+
+        assertEquals(2, eventManager.getObserverCount(Event.class));
+
+        clearedObserver.clear();
+        eventManager.trigger(new Event());
+
+        assertTrue(observable.isCalled());
+        assertEquals(1, eventManager.getObserverCount(Event.class));
+        assertEquals(1, eventManager.getObserverCount());
+    }
+
+    @Test(timeout = 5000)
+    public void nestedTriggerPurgeTest(){
+        WeakObservable observable = new WeakObservable();
+        WeakObserver<NestedEvent, WeakObservable> clearedObserver = new WeakObserver<NestedEvent, WeakObservable>(observable) {
+            @Override
+            public boolean isCleared() {
+                return true;
+            }
+
+            @Override
+            public void trigger(NestedEvent event, WeakObservable handle) {
+                handle.setCalled(true);
+            }
+        };
+        NestedTriggerObserver nestedTriggerObserver = new NestedTriggerObserver();
+
+        eventManager.register(Event.class, nestedTriggerObserver);
+        eventManager.register(NestedEvent.class, clearedObserver);
+
+        eventManager.trigger(new Event());
+
+        assertTrue(nestedTriggerObserver.called);
+        assertFalse(observable.isCalled());
+        assertEquals(0, eventManager.getObserverCount(NestedEvent.class));
+        assertEquals(1, eventManager.getObserverCount(Event.class));
+    }
+
+    @Test
+    public void purgeOnRegisterTest(){
+        WeakObservable observable = new WeakObservable();
+        ClearableObserverTarget clearedObserver = new ClearableObserverTarget(observable);
+
+        eventManager.register(Event.class, clearedObserver);
+        clearedObserver.clear();
+        eventManager.register(Event.class, new WeakObserverTarget(observable));
+
+        assertEquals(1, eventManager.getObserverCount(Event.class));
+    }
+
+    @Test
+    public void purgeTest(){
+        ClearableObserverTarget clearedObserver = new ClearableObserverTarget(new WeakObservable());
+
+        eventManager.register(Event.class, clearedObserver);
+        clearedObserver.clear();
+
+        assertEquals(1, eventManager.getObserverCount());
+        eventManager.purge();
+        assertEquals(0, eventManager.getObserverCount());
+    }
+
     @Test
     public void verifyMethod() throws NoSuchMethodException {
         Method triggerMethod = WeakObserver.class.getMethod(EventObserver.TRIGGER, Object.class, Object.class);
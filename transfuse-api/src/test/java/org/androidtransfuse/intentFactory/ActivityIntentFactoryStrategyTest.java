@@ -60,4 +60,11 @@ public class ActivityIntentFactoryStrategyTest {
 
         verify(mockContext).startActivity(mockIntent);
     }
+
+    @Test
+    public void testWriteExtras(){
+        activityIntentFactoryStrategy.writeExtras(mockIntent);
+
+        verify(mockIntent).putExtras(mockBundle);
+    }
 }
@@ -36,5 +36,7 @@ public class IntentFactoryStrategyTest {
         assertNotNull(getTargetContext);
         Method startMethod = IntentFactoryStrategy.class.getMethod(IntentFactoryStrategy.START_METHOD, Context.class, Intent.class);
         assertNotNull(startMethod);
+        Method writeExtrasMethod = DirectIntentFactoryStrategy.class.getMethod(DirectIntentFactoryStrategy.WRITE_EXTRAS_METHOD, Intent.class);
+        assertNotNull(writeExtrasMethod);
     }
 }
@@ -64,4 +64,15 @@ public class IntentFactoryTest {
         Mockito.verify(mockStrategy).start(mockContext, mockIntent);
     }
 
+    @Test
+    public void testBuildDirectIntent(){
+        DirectIntentFactoryStrategy mockDirectStrategy = Mockito.mock(DirectIntentFactoryStrategy.class);
+        Mockito.when(intentMockFactory.buildIntent(mockContext, mockDirectStrategy.getTargetContext())).thenReturn(mockIntent);
+
+        Intent outputIntent = intentFactory.buildIntent(mockDirectStrategy);
+
+        assertEquals(mockIntent, outputIntent);
+        Mockito.verify(mockDirectStrategy).writeExtras(mockIntent);
+        Mockito.verify(mockDirectStrategy, Mockito.never()).getExtras();
+    }
 }
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class ConcurrentFutureScopeTest {
+
+    private Scope scope;
+
+    @Before
+    public void setup() {
+        scope = new ConcurrentFutureScope();
+    }
+
+    @Test
+    public void testScopedBuild() {
+        ScopeTarget first = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        ScopeTarget second = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        ScopeTarget annotated = scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@test"), new ScopeTargetProvider());
+
+        assertSame(first, second);
+        assertNotSame(first, annotated);
+    }
+
+    @Test
+    public void testConcurrentConstructionPublished() throws InterruptedException {
+        final CountDownLatch constructionStarted = new CountDownLatch(1);
+        final CountDownLatch releaseConstruction = new CountDownLatch(1);
+        final AtomicInteger constructions = new AtomicInteger();
+        final Provider<ScopeTarget> provider = new Provider<ScopeTarget>() {
+            @Override
+            public ScopeTarget get() {
+                constructions.incrementAndGet();
+                constructionStarted.countDown();
+                try {
+                    releaseConstruction.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new ScopeTarget();
+            }
+        };
+
+        final AtomicReference<ScopeTarget> backgroundResult = new AtomicReference<ScopeTarget>();
+        Thread background = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                backgroundResult.set(scope.getScopedObject(ScopeKey.of(ScopeTarget.class), provider));
+            }
+        });
+        background.start();
+        constructionStarted.await();
+
+        final AtomicReference<ScopeTarget> waitingResult = new AtomicReference<ScopeTarget>();
+        Thread waiting = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                waitingResult.set(scope.getScopedObject(ScopeKey.of(ScopeTarget.class), provider));
+            }
+        });
+        waiting.start();
+
+        releaseConstruction.countDown();
+        background.join();
+        waiting.join();
+
+        assertEquals(1, constructions.get());
+        assertNotNull(backgroundResult.get());
+        assertSame(backgroundResult.get(), waitingResult.get());
+    }
+
+    @Test
+    public void testFailedConstructionRetried() {
+        try {
+            scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new Provider<ScopeTarget>() {
+                @Override
+                public ScopeTarget get() {
+                    throw new IllegalStateException("failed");
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertNotNull(scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider()));
+    }
+
+    @Test(timeout = 5000)
+    public void testCrossThreadCycle() throws InterruptedException {
+        final ScopeKey<ScopeTarget> firstKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@first");
+        final ScopeKey<ScopeTarget> secondKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@second");
+        final CountDownLatch constructionsStarted = new CountDownLatch(2);
+
+        final AtomicReference<ScopeTarget> firstResult = new AtomicReference<ScopeTarget>();
+        Thread first = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                firstResult.set(scope.getScopedObject(firstKey, new CycleProvider(constructionsStarted, secondKey)));
+            }
+        });
+        final AtomicReference<ScopeTarget> secondResult = new AtomicReference<ScopeTarget>();
+        Thread second = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                secondResult.set(scope.getScopedObject(secondKey, new CycleProvider(constructionsStarted, firstKey)));
+            }
+        });
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+
+        assertNotNull(firstResult.get());
+        assertNotNull(secondResult.get());
+        assertSame(firstResult.get(), scope.getScopedObject(firstKey, new ScopeTargetProvider()));
+        assertSame(secondResult.get(), scope.getScopedObject(secondKey, new ScopeTargetProvider()));
+    }
+
+    @Test(timeout = 5000)
+    public void testCrossThreadCycleSharesInstances() throws InterruptedException {
+        final ScopeKey<ScopeTarget> firstKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@first");
+        final ScopeKey<ScopeTarget> secondKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@second");
+        final CountDownLatch constructionsStarted = new CountDownLatch(2);
+        final CycleProvider firstProvider = new CycleProvider(constructionsStarted, secondKey);
+        final CycleProvider secondProvider = new CycleProvider(constructionsStarted, firstKey);
+
+        final AtomicReference<ScopeTarget> firstResult = new AtomicReference<ScopeTarget>();
+        Thread first = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                firstResult.set(scope.getScopedObject(firstKey, firstProvider));
+            }
+        });
+        final AtomicReference<ScopeTarget> secondResult = new AtomicReference<ScopeTarget>();
+        Thread second = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                secondResult.set(scope.getScopedObject(secondKey, secondProvider));
+            }
+        });
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+
+        // the instance built directly to break the cycle is the one every consumer sees
+        assertSame(firstResult.get(), secondProvider.resolvedDependency.get());
+        assertSame(secondResult.get(), firstProvider.resolvedDependency.get());
+    }
+
+    /**
+     * Waits until both constructions are in flight, then requests the other's key.
+     */
+    private final class CycleProvider implements Provider<ScopeTarget> {
+
+        private final CountDownLatch constructionsStarted;
+        private final ScopeKey<ScopeTarget> dependency;
+        private final AtomicReference<ScopeTarget> resolvedDependency = new AtomicReference<ScopeTarget>();
+
+        private CycleProvider(CountDownLatch constructionsStarted, ScopeKey<ScopeTarget> dependency) {
+            this.constructionsStarted = constructionsStarted;
+            this.dependency = dependency;
+        }
+
+        @Override
+        public ScopeTarget get() {
+            constructionsStarted.countDown();
+            try {
+                constructionsStarted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resolvedDependency.set(scope.getScopedObject(dependency, new ScopeTargetProvider()));
+            return new ScopeTarget();
+        }
+    }
+
+    private static class ScopeTargetProvider implements Provider<ScopeTarget> {
+        @Override
+        public ScopeTarget get() {
+            return new ScopeTarget();
+        }
+    }
+}
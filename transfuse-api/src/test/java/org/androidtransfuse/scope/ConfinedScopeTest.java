@@ -0,0 +1,127 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.androidtransfuse.util.TransfuseInjectionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class ConfinedScopeTest {
+
+    private Scope scope;
+
+    @Before
+    public void setup() {
+        //the test thread stands in for the main thread
+        scope = new ConfinedScope(Thread.currentThread());
+    }
+
+    @Test
+    public void testKeyScope() {
+        ScopeTarget scoped1 = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        ScopeTarget scoped2 = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        ScopeTarget scoped3 = scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@test"), new ScopeTargetProvider());
+        ScopeTarget scoped4 = scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@test"), new ScopeTargetProvider());
+
+        assertSame(scoped1, scoped2);
+        assertSame(scoped3, scoped4);
+        assertNotSame(scoped1, scoped3);
+    }
+
+    @Test
+    public void testGrowth() {
+        ScopeTarget[] targets = new ScopeTarget[20];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@" + i), new ScopeTargetProvider());
+        }
+        for (int i = 0; i < targets.length; i++) {
+            assertSame(targets[i], scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@" + i), new ScopeTargetProvider()));
+        }
+    }
+
+    @Test
+    public void testNestedProvider() {
+        final ScopeKey<ScopeTarget> dependencyKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@dependency");
+        final ScopeTarget[] dependency = new ScopeTarget[1];
+
+        ScopeTarget target = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new Provider<ScopeTarget>() {
+            @Override
+            public ScopeTarget get() {
+                dependency[0] = scope.getScopedObject(dependencyKey, new ScopeTargetProvider());
+                return new ScopeTarget();
+            }
+        });
+
+        assertSame(target, scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider()));
+        assertSame(dependency[0], scope.getScopedObject(dependencyKey, new ScopeTargetProvider()));
+    }
+
+    @Test
+    public void testThreadConfinement() throws InterruptedException {
+        scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread background = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            }
+        });
+        background.start();
+        background.join();
+
+        assertTrue(failure.get() instanceof TransfuseInjectionException);
+    }
+
+    @Test
+    public void testFirstAccessFromBackgroundThread() throws InterruptedException {
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread background = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            }
+        });
+        background.start();
+        background.join();
+
+        assertTrue(failure.get() instanceof TransfuseInjectionException);
+        assertNotNull(scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider()));
+    }
+
+    private static class ScopeTargetProvider implements Provider<ScopeTarget> {
+        @Override
+        public ScopeTarget get() {
+            return new ScopeTarget();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.junit.Test;
+
+import javax.inject.Provider;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class EagerSingletonLoaderTest {
+
+    @Test
+    public void testEagerBuild() throws InterruptedException {
+        Scope scope = new ConcurrentFutureScope();
+        final CountDownLatch built = new CountDownLatch(2);
+        final ScopeTarget first = new ScopeTarget();
+        final ScopeTarget second = new ScopeTarget();
+
+        new EagerSingletonLoader(scope)
+                .add(ScopeKey.of(ScopeTarget.class), new CountingProvider(first, built))
+                .add(ScopeKey.of(ScopeTarget.class).annotatedBy("@second"), new CountingProvider(second, built))
+                .start();
+
+        assertTrue(built.await(5, TimeUnit.SECONDS));
+
+        assertSame(first, scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new CountingProvider(new ScopeTarget(), built)));
+        assertSame(second, scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@second"), new CountingProvider(new ScopeTarget(), built)));
+    }
+
+    private static class CountingProvider implements Provider<ScopeTarget> {
+
+        private final ScopeTarget target;
+        private final CountDownLatch built;
+
+        private CountingProvider(ScopeTarget target, CountDownLatch built) {
+            this.target = target;
+            this.built = built;
+        }
+
+        @Override
+        public ScopeTarget get() {
+            built.countDown();
+            return target;
+        }
+    }
+}
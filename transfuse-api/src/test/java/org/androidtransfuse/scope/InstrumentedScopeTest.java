@@ -0,0 +1,107 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class InstrumentedScopeTest {
+
+    private InstrumentedScope scope;
+
+    @Before
+    public void setup() {
+        scope = new InstrumentedScope();
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        ScopeTargetProvider provider = new ScopeTargetProvider();
+
+        ScopeTarget first = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), provider);
+        ScopeTarget second = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), provider);
+        ScopeTarget third = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), provider);
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, provider.getCount());
+
+        List<InstrumentedScope.ScopeStatistics> statistics = scope.getStatistics();
+        assertEquals(1, statistics.size());
+
+        InstrumentedScope.ScopeStatistics targetStatistics = statistics.get(0);
+        assertEquals(ScopeKey.of(ScopeTarget.class), targetStatistics.getKey());
+        assertEquals(1, targetStatistics.getMisses());
+        assertEquals(2, targetStatistics.getHits());
+        assertEquals(Thread.currentThread().getName(), targetStatistics.getConstructionThread());
+    }
+
+    @Test
+    public void testConstructionOrdering() {
+        ScopeKey<ScopeTarget> fastKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@fast");
+        ScopeKey<ScopeTarget> slowKey = ScopeKey.of(ScopeTarget.class).annotatedBy("@slow");
+
+        scope.getScopedObject(fastKey, new ScopeTargetProvider());
+        scope.getScopedObject(slowKey, new SlowScopeTargetProvider());
+
+        List<InstrumentedScope.ScopeStatistics> statistics = scope.getStatistics();
+        assertEquals(2, statistics.size());
+        assertEquals(slowKey, statistics.get(0).getKey());
+        assertEquals(fastKey, statistics.get(1).getKey());
+        assertTrue(statistics.get(0).getConstructionNanos() >= statistics.get(1).getConstructionNanos());
+
+        String dump = scope.dump();
+        assertTrue(dump.indexOf(slowKey.toString()) < dump.indexOf(fastKey.toString()));
+
+        scope.reset();
+        assertTrue(scope.getStatistics().isEmpty());
+    }
+
+    private static class ScopeTargetProvider implements Provider<ScopeTarget> {
+
+        private int count = 0;
+
+        @Override
+        public ScopeTarget get() {
+            count++;
+            return new ScopeTarget();
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    private static class SlowScopeTargetProvider implements Provider<ScopeTarget> {
+        @Override
+        public ScopeTarget get() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ScopeTarget();
+        }
+    }
+}
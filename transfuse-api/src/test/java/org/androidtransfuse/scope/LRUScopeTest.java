@@ -0,0 +1,126 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class LRUScopeTest {
+
+    private LRUScope scope;
+
+    @Before
+    public void setup() {
+        scope = new LRUScope(4);
+    }
+
+    @Test
+    public void testScopedBuild() {
+        ScopeTarget first = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        ScopeTarget second = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+
+        assertSame(first, second);
+        assertEquals(1, scope.getMisses());
+        assertEquals(1, scope.getHits());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        ScopeTarget first = get(0);
+        for (int i = 1; i < 4; i++) {
+            get(i);
+        }
+        // touch the first entry, leaving the second least recently used
+        assertSame(first, get(0));
+
+        get(4);
+
+        assertEquals(4, scope.size());
+        assertEquals(1, scope.getEvictions());
+        assertSame(first, get(0));
+
+        long misses = scope.getMisses();
+        get(1);
+        assertEquals(misses + 1, scope.getMisses());
+    }
+
+    @Test
+    public void testWeight() {
+        LRUScope weightedScope = new LRUScope(10) {
+            @Override
+            protected int weigh(ScopeKey<?> key, Object value) {
+                return 4;
+            }
+        };
+
+        for (int i = 0; i < 3; i++) {
+            weightedScope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@" + i), new ScopeTargetProvider());
+        }
+
+        assertEquals(2, weightedScope.size());
+        assertEquals(8, weightedScope.getWeight());
+        assertEquals(1, weightedScope.getEvictions());
+    }
+
+    @Test
+    public void testTrimMemory() {
+        for (int i = 0; i < 4; i++) {
+            get(i);
+        }
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_RUNNING_MODERATE);
+        assertEquals(4, scope.size());
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_RUNNING_LOW);
+        assertEquals(2, scope.size());
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_MODERATE);
+        assertEquals(0, scope.size());
+        assertEquals(4, scope.getEvictions());
+    }
+
+    @Test
+    public void testScopesLowMemory() {
+        get(0);
+
+        Scopes scopes = new Scopes();
+        scopes.addScope(ScopeAnnotation.class, scope);
+        scopes.lowMemory();
+
+        assertEquals(0, scope.size());
+        assertEquals(1, scope.getEvictions());
+    }
+
+    private ScopeTarget get(int index) {
+        return scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@" + index), new ScopeTargetProvider());
+    }
+
+    private @interface ScopeAnnotation {}
+
+    private static class ScopeTargetProvider implements Provider<ScopeTarget> {
+        @Override
+        public ScopeTarget get() {
+            return new ScopeTarget();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class SoftReferenceScopeTest {
+
+    private SoftReferenceScope scope;
+
+    @Before
+    public void setup() {
+        scope = new SoftReferenceScope();
+    }
+
+    @Test
+    public void testScopedBuild() {
+        ScopeTarget first = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        ScopeTarget second = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+
+        assertSame(first, second);
+        assertEquals(1, scope.getMisses());
+        assertEquals(1, scope.getHits());
+    }
+
+    @Test
+    public void testTrimMemory() {
+        ScopeTarget first = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_BACKGROUND);
+        assertEquals(1, scope.size());
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_MODERATE);
+        assertEquals(0, scope.size());
+        assertEquals(1, scope.getEvictions());
+
+        assertNotSame(first, scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider()));
+    }
+
+    private static class ScopeTargetProvider implements Provider<ScopeTarget> {
+        @Override
+        public ScopeTarget get() {
+            return new ScopeTarget();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.scope;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class TimeToLiveScopeTest {
+
+    private long now;
+    private TimeToLiveScope scope;
+
+    @Before
+    public void setup() {
+        now = 0;
+        scope = new TimeToLiveScope(10, TimeUnit.SECONDS) {
+            @Override
+            protected long now() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void testExpiration() {
+        ScopeTarget first = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+
+        now = TimeUnit.SECONDS.toNanos(9);
+        assertSame(first, scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider()));
+
+        now = TimeUnit.SECONDS.toNanos(10);
+        ScopeTarget second = scope.getScopedObject(ScopeKey.of(ScopeTarget.class), new ScopeTargetProvider());
+        assertNotSame(first, second);
+
+        assertEquals(1, scope.getHits());
+        assertEquals(2, scope.getMisses());
+        assertEquals(1, scope.getEvictions());
+    }
+
+    @Test
+    public void testTrimMemory() {
+        scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@first"), new ScopeTargetProvider());
+        now = TimeUnit.SECONDS.toNanos(5);
+        scope.getScopedObject(ScopeKey.of(ScopeTarget.class).annotatedBy("@second"), new ScopeTargetProvider());
+        now = TimeUnit.SECONDS.toNanos(12);
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_RUNNING_LOW);
+        assertEquals(1, scope.size());
+
+        scope.trimMemory(TrimmableScope.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, scope.size());
+        assertEquals(2, scope.getEvictions());
+    }
+
+    private static class ScopeTargetProvider implements Provider<ScopeTarget> {
+        @Override
+        public ScopeTarget get() {
+            return new ScopeTarget();
+        }
+    }
+}
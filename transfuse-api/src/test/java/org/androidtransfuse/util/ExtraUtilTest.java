@@ -22,7 +22,7 @@ import org.powermock.api.mockito.PowerMockito;
 import java.lang.reflect.Method;
 
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author John Ericksen
@@ -31,6 +31,7 @@ public class ExtraUtilTest {
 
     private static final String TEST_NAME = "test extra";
     private static final String TEST_EXTRA_TARGET = "target";
+    private static final int TEST_INT_EXTRA = 42;
 
     @Test
     public void testNullExtras() {
@@ -80,4 +81,101 @@ public class ExtraUtilTest {
         Method getExtraMethod = ExtraUtil.class.getMethod(ExtraUtil.GET_EXTRA, Bundle.class, String.class, boolean.class);
         assertNotNull(getExtraMethod);
     }
+
+    @Test
+    public void getTypedExtra() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        when(mockBundle.get(TEST_NAME)).thenReturn(TEST_INT_EXTRA);
+        when(mockBundle.getString(TEST_NAME)).thenReturn(TEST_EXTRA_TARGET);
+
+        assertEquals(TEST_INT_EXTRA, ExtraUtil.getInt(mockBundle, TEST_NAME, false));
+        assertEquals(TEST_EXTRA_TARGET, ExtraUtil.getString(mockBundle, TEST_NAME, false));
+    }
+
+    @Test
+    public void getRequiredPrimitiveExtraWithSingleLookup() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        when(mockBundle.get(TEST_NAME)).thenReturn(TEST_INT_EXTRA);
+
+        assertEquals(TEST_INT_EXTRA, ExtraUtil.getInt(mockBundle, TEST_NAME, false));
+        verify(mockBundle).get(TEST_NAME);
+        verify(mockBundle, never()).containsKey(TEST_NAME);
+        verify(mockBundle, never()).getInt(TEST_NAME);
+    }
+
+    @Test
+    public void getOptionalTypedExtra() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        //missing nullable primitives take the Bundle default, as they cannot be null
+        assertEquals(0, ExtraUtil.getInt(mockBundle, TEST_NAME, true));
+        assertEquals(0, ExtraUtil.getInt(null, TEST_NAME, true));
+        assertFalse(ExtraUtil.getBoolean(null, TEST_NAME, true));
+        assertNull(ExtraUtil.getString(mockBundle, TEST_NAME, true));
+        verify(mockBundle, never()).containsKey(TEST_NAME);
+    }
+
+    @Test(expected = TransfuseInjectionException.class)
+    public void getPrimitiveExtraThatIsExpectedToExist() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        when(mockBundle.containsKey(TEST_NAME)).thenReturn(false);
+
+        ExtraUtil.getInt(mockBundle, TEST_NAME, false);
+    }
+
+    @Test(expected = TransfuseInjectionException.class)
+    public void getObjectExtraThatIsExpectedToExist() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        ExtraUtil.getString(mockBundle, TEST_NAME, false);
+    }
+
+    @Test(expected = TransfuseInjectionException.class)
+    public void getExtraThatIsPresentButNull() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        when(mockBundle.containsKey(TEST_NAME)).thenReturn(true);
+
+        ExtraUtil.getExtra(mockBundle, TEST_NAME, false);
+    }
+
+    @Test(expected = TransfuseInjectionException.class)
+    public void getObjectExtraThatIsPresentButNull() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        //matches getExtra(): a required extra mapped to null is treated as missing
+        when(mockBundle.containsKey(TEST_NAME)).thenReturn(true);
+
+        ExtraUtil.getString(mockBundle, TEST_NAME, false);
+    }
+
+    @Test
+    public void getOptionalObjectExtraThatIsPresentButNull() {
+
+        Bundle mockBundle = PowerMockito.mock(Bundle.class);
+
+        when(mockBundle.containsKey(TEST_NAME)).thenReturn(true);
+
+        assertNull(ExtraUtil.getString(mockBundle, TEST_NAME, true));
+        assertNull(ExtraUtil.getParcelable(mockBundle, TEST_NAME, true));
+    }
+
+    @Test
+    public void verifyTypedExtraMethodNames() throws NoSuchMethodException {
+        for (String accessor : new String[]{ExtraUtil.GET_BOOLEAN, ExtraUtil.GET_BYTE, ExtraUtil.GET_CHAR,
+                ExtraUtil.GET_SHORT, ExtraUtil.GET_INT, ExtraUtil.GET_LONG, ExtraUtil.GET_FLOAT, ExtraUtil.GET_DOUBLE,
+                ExtraUtil.GET_STRING, ExtraUtil.GET_CHAR_SEQUENCE, ExtraUtil.GET_PARCELABLE}) {
+            assertNotNull(ExtraUtil.class.getMethod(accessor, Bundle.class, String.class, boolean.class));
+        }
+    }
 }
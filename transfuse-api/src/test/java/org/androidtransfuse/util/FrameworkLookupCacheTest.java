@@ -0,0 +1,154 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author John Ericksen
+ */
+public class FrameworkLookupCacheTest {
+
+    private static final int RESOURCE_ID = 0x7f040001;
+    private static final int OTHER_RESOURCE_ID = 0x7f040002;
+    private static final String VALUE = "value";
+    private static final String CACHEABLE_SERVICE = "alarm";
+    private static final String CONTEXT_SERVICE = "layout_inflater";
+
+    private FrameworkLookupCache cache;
+    private Resources resources;
+    private Configuration configuration;
+    private Context context;
+    private Context applicationContext;
+
+    @Before
+    public void setup() {
+        cache = new FrameworkLookupCache() {
+            @Override
+            protected Configuration copy(Configuration current) {
+                return current;
+            }
+        };
+        resources = mock(Resources.class);
+        configuration = mock(Configuration.class);
+        context = mock(Context.class);
+        applicationContext = mock(Context.class);
+
+        when(resources.getConfiguration()).thenReturn(configuration);
+        when(configuration.diff(configuration)).thenReturn(0);
+        when(resources.getString(RESOURCE_ID)).thenReturn(VALUE);
+        when(resources.getIntArray(RESOURCE_ID)).thenReturn(new int[]{1, 2, 3});
+        when(context.getApplicationContext()).thenReturn(applicationContext);
+    }
+
+    @Test
+    public void testResourceCached() {
+        assertEquals(VALUE, cache.getString(resources, RESOURCE_ID));
+        assertEquals(VALUE, cache.getString(resources, RESOURCE_ID));
+
+        verify(resources, times(1)).getString(RESOURCE_ID);
+    }
+
+    @Test
+    public void testConfigurationChange() {
+        cache.getString(resources, RESOURCE_ID);
+
+        Configuration changed = mock(Configuration.class);
+        when(configuration.diff(changed)).thenReturn(Integer.MAX_VALUE);
+        when(changed.diff(changed)).thenReturn(0);
+        when(resources.getConfiguration()).thenReturn(changed);
+
+        cache.getString(resources, RESOURCE_ID);
+        cache.getString(resources, RESOURCE_ID);
+
+        verify(resources, times(2)).getString(RESOURCE_ID);
+    }
+
+    @Test
+    public void testConfigurationChangeDuringLookup() {
+        final Configuration changed = mock(Configuration.class);
+        when(configuration.diff(changed)).thenReturn(Integer.MAX_VALUE);
+        when(changed.diff(configuration)).thenReturn(Integer.MAX_VALUE);
+        when(changed.diff(changed)).thenReturn(0);
+        when(resources.getString(RESOURCE_ID)).then(new Answer<String>() {
+            @Override
+            public String answer(InvocationOnMock invocation) {
+                //another lookup observes the configuration change while this lookup is in flight
+                when(resources.getConfiguration()).thenReturn(changed);
+                cache.getInteger(resources, OTHER_RESOURCE_ID);
+                return VALUE;
+            }
+        });
+
+        cache.getString(resources, RESOURCE_ID);
+        cache.getString(resources, RESOURCE_ID);
+
+        verify(resources, times(2)).getString(RESOURCE_ID);
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.getString(resources, RESOURCE_ID);
+        cache.invalidate();
+        cache.getString(resources, RESOURCE_ID);
+
+        verify(resources, times(2)).getString(RESOURCE_ID);
+    }
+
+    @Test
+    public void testArraysCopied() {
+        int[] first = cache.getIntArray(resources, RESOURCE_ID);
+        first[0] = 42;
+        int[] second = cache.getIntArray(resources, RESOURCE_ID);
+
+        assertNotSame(first, second);
+        assertEquals(1, second[0]);
+        verify(resources, times(1)).getIntArray(RESOURCE_ID);
+    }
+
+    @Test
+    public void testSystemServiceCached() {
+        Object service = new Object();
+        when(applicationContext.getSystemService(CACHEABLE_SERVICE)).thenReturn(service);
+
+        assertSame(service, cache.getSystemService(context, CACHEABLE_SERVICE));
+        assertSame(service, cache.getSystemService(context, CACHEABLE_SERVICE));
+
+        verify(applicationContext, times(1)).getSystemService(CACHEABLE_SERVICE);
+        verify(context, never()).getSystemService(CACHEABLE_SERVICE);
+    }
+
+    @Test
+    public void testContextServiceNotCached() {
+        Object service = new Object();
+        when(context.getSystemService(CONTEXT_SERVICE)).thenReturn(service);
+
+        assertSame(service, cache.getSystemService(context, CONTEXT_SERVICE));
+        assertSame(service, cache.getSystemService(context, CONTEXT_SERVICE));
+
+        verify(context, times(2)).getSystemService(CONTEXT_SERVICE);
+        verify(applicationContext, never()).getSystemService(CONTEXT_SERVICE);
+    }
+}
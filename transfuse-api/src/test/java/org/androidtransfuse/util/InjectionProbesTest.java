@@ -0,0 +1,57 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author John Ericksen
+ */
+public class InjectionProbesTest {
+
+    @After
+    public void tearDown() {
+        InjectionProbes.setListener(null);
+    }
+
+    @Test
+    public void testProbe() {
+        InjectionProbeListener listener = mock(InjectionProbeListener.class);
+        InjectionProbes.setListener(listener);
+
+        long start = InjectionProbes.begin(Target.class, InjectionProbes.INJECTION);
+        InjectionProbes.end(Target.class, InjectionProbes.INJECTION, start);
+
+        verify(listener).onBegin(Target.class, InjectionProbes.INJECTION);
+        verify(listener).onEnd(eq(Target.class), eq(InjectionProbes.INJECTION), anyLong());
+    }
+
+    @Test
+    public void testListenerRegisteredMidPhase() {
+        InjectionProbeListener listener = mock(InjectionProbeListener.class);
+
+        long start = InjectionProbes.begin(Target.class, InjectionProbes.CALLBACKS);
+        InjectionProbes.setListener(listener);
+        InjectionProbes.end(Target.class, InjectionProbes.CALLBACKS, start);
+
+        verifyZeroInteractions(listener);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.inject.Provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author John Ericksen
+ */
+public class LazyHolderTest {
+
+    private int built;
+    private Lazy<Object> lazy;
+
+    @Before
+    public void setup() {
+        built = 0;
+        lazy = new LazyHolder<Object>(new Provider<Object>() {
+            @Override
+            public Object get() {
+                built++;
+                return new Object();
+            }
+        });
+    }
+
+    @Test
+    public void testLazyConstruction() {
+        assertEquals(0, built);
+        Object value = lazy.get();
+        assertEquals(1, built);
+        assertSame(value, lazy.get());
+        assertEquals(1, built);
+    }
+
+    @Test
+    public void testNullMemoized() {
+        Lazy<Object> nullLazy = new LazyHolder<Object>(new Provider<Object>() {
+            @Override
+            public Object get() {
+                built++;
+                return null;
+            }
+        });
+
+        assertNull(nullLazy.get());
+        assertNull(nullLazy.get());
+        assertEquals(1, built);
+    }
+}
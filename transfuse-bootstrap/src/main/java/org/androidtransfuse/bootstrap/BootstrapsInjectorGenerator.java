@@ -16,6 +16,7 @@
 package org.androidtransfuse.bootstrap;
 
 import com.sun.codemodel.*;
+import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.analysis.module.ModuleRepository;
 import org.androidtransfuse.gen.*;
@@ -23,8 +24,11 @@ import org.androidtransfuse.gen.variableBuilder.VariableBuilder;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.util.Repository;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * @author John Ericksen
@@ -40,6 +44,7 @@ public class BootstrapsInjectorGenerator {
     private final InjectionFragmentGenerator injectionGenerator;
     private final ExistingVariableInjectionBuilderFactory variableBuilderFactory;
     private final ModuleRepository repository;
+    private final SortedSet<String> registeredNames = new TreeSet<String>();
 
     private JDefinedClass injectorClass = null;
     private JBlock registerBlock = null;
@@ -61,15 +66,16 @@ public class BootstrapsInjectorGenerator {
 
     public void generate(InjectionNode injectionNode){
 
+        // add injector class
+        PackageClass bootstrapClassName = ClassNamer.className(injectionNode)
+                .append(Bootstraps.IMPL_EXT)
+                .build();
+
+        variableNamer.enterNamespace(bootstrapClassName.getCanonicalName());
         try {
             JClass nodeClass = generationUtil.ref(injectionNode.getASTType());
 
-            // add injector class
-            PackageClass bootstrapClassName = ClassNamer.className(injectionNode)
-                    .append(Bootstraps.IMPL_EXT)
-                    .build();
-
-            JDefinedClass innerInjectorClass = generationUtil.defineClass(bootstrapClassName);
+            JDefinedClass innerInjectorClass = generationUtil.defineClass(bootstrapClassName, injectionNode.getASTType());
 
             innerInjectorClass._extends(codeModel.ref(Bootstraps.BootstrapsInjectorAdapter.class).narrow(nodeClass));
 
@@ -87,12 +93,14 @@ public class BootstrapsInjectorGenerator {
             injectionGenerator.buildFragment(injectorBlock, innerInjectorClass, injectionNode, scopesVar);
 
             // add instance to map
-            addBootstrapRegistration(nodeClass, innerInjectorClass);
+            addBootstrapRegistration(injectionNode.getASTType(), nodeClass, innerInjectorClass);
 
         } catch (JClassAlreadyExistsException e) {
             throw new BootstrapException("Unable to crate Bootstrap Factory, class already exists.", e);
         } catch (ClassNotFoundException e) {
             throw new BootstrapException("Unable to find class", e);
+        } finally {
+            variableNamer.exitNamespace();
         }
     }
 
@@ -100,7 +108,7 @@ public class BootstrapsInjectorGenerator {
         injectionNode.addAspect(VariableBuilder.class, variableBuilderFactory.buildVariableBuilder(input));
     }
 
-    private synchronized void addBootstrapRegistration(JClass nodeClass, JDefinedClass innerInjectorClass) throws JClassAlreadyExistsException {
+    private synchronized void addBootstrapRegistration(ASTType nodeType, JClass nodeClass, JDefinedClass innerInjectorClass) throws JClassAlreadyExistsException {
         if(injectorClass == null){
             injectorClass = generationUtil.defineClass(BOOTSTRAPS_INJECTOR);
             injectorClass._implements(codeModel.ref(Repository.class).narrow(Bootstraps.BootstrapInjector.class));
@@ -120,6 +128,12 @@ public class BootstrapsInjectorGenerator {
 
         }
 
+        // keep the registrations in name order, independent of the order the bootstraps were generated in
+        String registeredName = nodeClass.fullName();
+        registeredNames.add(registeredName);
+        registerBlock.pos(registeredNames.headSet(registeredName).size());
+
         registerBlock.invoke(registerField, "put").arg(nodeClass.dotclass()).arg(JExpr._new(innerInjectorClass));
+        generationUtil.addOriginatingTypes(BOOTSTRAPS_INJECTOR, Collections.singleton(nodeType));
     }
 }
@@ -79,6 +79,7 @@ public class CoreFactory {
     private final ModuleRepositoryImpl moduleRepository = new ModuleRepositoryImpl();
     private final Validator validator;
     private final ScopePredicate scopePredicate = new ScopePredicate(astClassFactory);
+    private final OriginatingElements originatingElements = new OriginatingElements();
 
     private BootstrapsInjectorGenerator bootstrapsInjectorGenerator = null;
 
@@ -86,7 +87,7 @@ public class CoreFactory {
         this.elements = elements;
         this.filer = filer;
         this.classNamer = new ClassNamer(namespace);
-        this.generationUtil = new ClassGenerationUtil(codeModel);
+        this.generationUtil = new ClassGenerationUtil(codeModel, originatingElements);
         this.virtualProxyCache = new VirtualProxyGenerator.VirtualProxyGeneratorCache(classNamer);
         this.moduleRepository.addModuleRepository(buildScopeRepository());
         this.validator = new Validator(messager);
@@ -183,7 +184,7 @@ public class CoreFactory {
         };
 
         GeneratedProviderBuilderFactory generatedProviderBuilderFactory = new GeneratedProviderBuilderFactory(providerGeneratorProvider,
-                Providers.of(variableNamer), Providers.of(typedExpressionFactory));
+                Providers.of(variableNamer), Providers.of(typedExpressionFactory), Providers.of(generationUtil));
 
         return new GeneratedProviderInjectionNodeBuilder(generatedProviderBuilderFactory, buildInjectionPointFactory(), buildAnalyser());
     }
@@ -229,7 +230,7 @@ public class CoreFactory {
     }
 
     public CodeWriter buildCodeWriter() {
-        return new FilerSourceCodeWriter(filer);
+        return new FilerSourceCodeWriter(filer, originatingElements);
     }
 
     public CodeWriter buildResourceWriter(){
@@ -15,56 +15,62 @@
  */
 package org.androidtransfuse.analysis;
 
-import com.google.common.collect.ImmutableMap;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.analysis.repository.AnalysisRepository;
 import org.androidtransfuse.analysis.repository.InjectionNodeBuilderRepository;
 import org.androidtransfuse.model.InjectionNode;
+import org.androidtransfuse.util.PersistentHashMap;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
+ * Context of the current analysis, tracking the chain of dependents leading to the type under analysis.
+ *
+ * The dependents are kept in a persistent hash trie shared between contexts, so adding and looking up a dependent
+ * costs O(log32 d) regardless of the depth d of the dependency graph, and sibling contexts branch without copying.
+ * The parent-linked chain of dependents is kept alongside for the ordered dependency history.
+ *
  * @author John Ericksen
  */
 public class AnalysisContext {
 
-    private final ImmutableMap<ASTType, InjectionNode> dependents;
+    private final Dependent dependents;
+    private final PersistentHashMap<ASTType, InjectionNode> dependentTypes;
+    private final SharedInjectionNodes sharedInjectionNodes;
     private final AnalysisRepository analysisRepository;
     private final InjectionNodeBuilderRepository injectionNodeBuilders;
 
     @Inject
     public AnalysisContext(/*@Assisted*/ InjectionNodeBuilderRepository injectionNodeBuilders, AnalysisRepository analysisRepository) {
-        this.dependents = ImmutableMap.of();
-        this.analysisRepository = analysisRepository;
-        this.injectionNodeBuilders = injectionNodeBuilders;
+        this(null, PersistentHashMap.<ASTType, InjectionNode>empty(), new SharedInjectionNodes(), analysisRepository, injectionNodeBuilders);
     }
 
-    private AnalysisContext(InjectionNode node, AnalysisContext previousContext, AnalysisRepository analysisRepository, InjectionNodeBuilderRepository injectionNodeBuilders) {
-        ImmutableMap.Builder<ASTType, InjectionNode> dependentsBuilder = ImmutableMap.builder();
-
-        dependentsBuilder.putAll(previousContext.dependents);
-        if(!previousContext.dependents.containsKey(node.getASTType())){
-            //avoid adding duplicate keys (result of dependency loops)
-            dependentsBuilder.put(node.getASTType(), node);
-        }
-
-        this.dependents = dependentsBuilder.build();
-
+    private AnalysisContext(Dependent dependents, PersistentHashMap<ASTType, InjectionNode> dependentTypes, SharedInjectionNodes sharedInjectionNodes, AnalysisRepository analysisRepository, InjectionNodeBuilderRepository injectionNodeBuilders) {
+        this.dependents = dependents;
+        this.dependentTypes = dependentTypes;
+        this.sharedInjectionNodes = sharedInjectionNodes;
         this.analysisRepository = analysisRepository;
         this.injectionNodeBuilders = injectionNodeBuilders;
     }
 
     public AnalysisContext addDependent(InjectionNode node) {
-        return new AnalysisContext(node, this, analysisRepository, injectionNodeBuilders);
+        if(isDependent(node.getASTType())){
+            //avoid adding duplicate types (result of dependency loops)
+            return new AnalysisContext(dependents, dependentTypes, sharedInjectionNodes, analysisRepository, injectionNodeBuilders);
+        }
+        return new AnalysisContext(new Dependent(node, dependents), dependentTypes.plus(node.getASTType(), node), sharedInjectionNodes, analysisRepository, injectionNodeBuilders);
     }
 
     public boolean isDependent(ASTType astType) {
-        return dependents.containsKey(astType);
+        return dependentTypes.containsKey(astType);
     }
 
     public InjectionNode getInjectionNode(ASTType astType) {
-        return dependents.get(astType);
+        return dependentTypes.get(astType);
     }
 
     public AnalysisRepository getAnalysisRepository() {
@@ -75,7 +81,36 @@ public class AnalysisContext {
         return injectionNodeBuilders;
     }
 
+    SharedInjectionNodes getSharedInjectionNodes() {
+        return sharedInjectionNodes;
+    }
+
+    /**
+     * Returns the dependents leading to the current analysis, ordered from the root of the graph.
+     *
+     * @return dependency history
+     */
     public Collection<InjectionNode> getDependencyHistory() {
-        return dependents.values();
+        if(dependents == null){
+            return Collections.emptyList();
+        }
+        List<InjectionNode> history = new ArrayList<InjectionNode>(dependents.depth);
+        for(Dependent current = dependents; current != null; current = current.parent){
+            history.add(current.node);
+        }
+        Collections.reverse(history);
+        return Collections.unmodifiableList(history);
+    }
+
+    private static final class Dependent {
+        private final InjectionNode node;
+        private final Dependent parent;
+        private final int depth;
+
+        private Dependent(InjectionNode node, Dependent parent) {
+            this.node = node;
+            this.parent = parent;
+            this.depth = parent == null ? 1 : parent.depth + 1;
+        }
     }
 }
@@ -57,10 +57,12 @@ public class Analyzer {
     public InjectionNode analyze(final InjectionSignature signature, final InjectionSignature concreteType, final AnalysisContext context) {
 
         InjectionNode injectionNode;
+        SharedInjectionNodes sharedInjectionNodes = context.getSharedInjectionNodes();
 
         if (context.isDependent(concreteType.getType())) {
             //if this type is a dependency of itself, we've found a back link.
             //This dependency loop must be broken using a virtual proxy
+            sharedInjectionNodes.loopDetected();
             injectionNode = context.getInjectionNode(concreteType.getType());
 
             Collection<InjectionNode> loopedDependencies = context.getDependencyHistory();
@@ -75,14 +77,22 @@ public class Analyzer {
             proxyAspect.getProxyInterfaces().add(proxyDependency.getUsageType());
 
         } else {
-            injectionNode = new InjectionNode(signature, concreteType);
-            //default variable builder
-            injectionNode.addAspect(VariableBuilder.class, variableInjectionBuilderProvider.get());
+            injectionNode = sharedInjectionNodes.get(signature, concreteType, context);
 
-            AnalysisContext nextContext = context.addDependent(injectionNode);
+            if (injectionNode == null) {
+                int loopCount = sharedInjectionNodes.getLoopCount();
+                injectionNode = new InjectionNode(signature, concreteType);
+                //default variable builder
+                injectionNode.addAspect(VariableBuilder.class, variableInjectionBuilderProvider.get());
 
-            //loop over super classes (extension and implements)
-            scanClassHierarchy(concreteType.getType(), injectionNode, nextContext);
+                AnalysisContext nextContext = context.addDependent(injectionNode);
+
+                //loop over super classes (extension and implements)
+                scanClassHierarchy(concreteType.getType(), injectionNode, nextContext);
+
+                //share the analyzed subgraph with the other paths reaching this type
+                sharedInjectionNodes.put(signature, concreteType, context, injectionNode, loopCount);
+            }
         }
 
         return injectionNode;
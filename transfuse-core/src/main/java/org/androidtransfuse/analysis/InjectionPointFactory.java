@@ -25,6 +25,7 @@ import org.androidtransfuse.gen.variableBuilder.InjectionNodeBuilder;
 import org.androidtransfuse.gen.variableBuilder.VariableInjectionNodeBuilder;
 import org.androidtransfuse.gen.variableDecorator.GeneratedProviderInjectionNodeBuilder;
 import org.androidtransfuse.model.*;
+import org.androidtransfuse.util.Lazy;
 import org.androidtransfuse.util.QualifierPredicate;
 import org.androidtransfuse.util.matcher.Matcher;
 import org.androidtransfuse.util.matcher.Matchers;
@@ -45,6 +46,7 @@ public class InjectionPointFactory {
     private final QualifierPredicate qualifierPredicate;
     private final VariableInjectionNodeBuilder defaultBinding;
     private final Matcher<ASTType> providerMatcher;
+    private final Matcher<ASTType> lazyMatcher;
     private final Provider<GeneratedProviderInjectionNodeBuilder> generatedProviderInjectionNodeBuilderProvider;
 
     @Inject
@@ -58,6 +60,7 @@ public class InjectionPointFactory {
         this.generatedProviderInjectionNodeBuilderProvider = generatedProviderInjectionNodeBuilderProvider;
 
         this.providerMatcher = Matchers.type(astClassFactory.getType(Provider.class)).ignoreGenerics().build();
+        this.lazyMatcher = Matchers.type(astClassFactory.getType(Lazy.class)).ignoreGenerics().build();
     }
 
     /**
@@ -170,6 +173,11 @@ public class InjectionPointFactory {
             return generatedProviderInjectionNodeBuilderProvider.get().buildInjectionNode(injectionSignature, context);
         }
 
+        //generated lazy
+        if(lazyMatcher.matches(injectionSignature.getType())){
+            return generatedProviderInjectionNodeBuilderProvider.get().buildLazyInjectionNode(injectionSignature, context);
+        }
+
         //default case
         return defaultBinding.buildInjectionNode(injectionSignature, context);
     }
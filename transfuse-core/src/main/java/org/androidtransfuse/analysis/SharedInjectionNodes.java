@@ -0,0 +1,169 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.analysis;
+
+import org.androidtransfuse.analysis.astAnalyzer.ASTInjectionAspect;
+import org.androidtransfuse.analysis.astAnalyzer.ScopeAspect;
+import org.androidtransfuse.analysis.astAnalyzer.VirtualProxyAspect;
+import org.androidtransfuse.model.CopyableAspect;
+import org.androidtransfuse.model.InjectionNode;
+import org.androidtransfuse.model.InjectionSignature;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Hash-consing table of analyzed InjectionNodes, shared by all AnalysisContexts derived from a single component
+ * analysis.  Reaching the same type from multiple paths of a diamond shaped graph reuses the previously analyzed node
+ * and its subgraph instead of rescanning the type hierarchy.
+ *
+ * Scoped nodes are shared as-is, as a scope guarantees a single instance.  Unscoped nodes are handed out as a copy of
+ * the analyzed subgraph: the copy shares the analysis results but has its own InjectionNode identities, so the
+ * generated code still constructs one instance per injection point.  Copying stops at scoped nodes.
+ *
+ * Nodes whose analysis encountered a dependency loop are not recorded, as their virtual proxy wiring depends on the
+ * path they were analyzed under.  Only the nodes on the looping path are affected; nodes analyzed before or after the
+ * loop are shared as usual.
+ *
+ * @author John Ericksen
+ */
+class SharedInjectionNodes {
+
+    private final Map<NodeKey, InjectionNode> nodes = new HashMap<NodeKey, InjectionNode>();
+    private int loops = 0;
+    private int analyzed = 0;
+
+    /**
+     * Returns the shared node for the given signature, or null if it has not been analyzed yet or may not be reused
+     * under the given context.
+     */
+    public InjectionNode get(InjectionSignature signature, InjectionSignature concreteType, AnalysisContext context) {
+        InjectionNode injectionNode = nodes.get(new NodeKey(signature, concreteType, context));
+        if (injectionNode == null || injectionNode.containsAspect(ScopeAspect.class)) {
+            return injectionNode;
+        }
+        return new SubgraphCopier(context).copySubgraph(injectionNode);
+    }
+
+    public void put(InjectionSignature signature, InjectionSignature concreteType, AnalysisContext context, InjectionNode injectionNode, int loopCount) {
+        analyzed++;
+        if(loopCount == loops){
+            nodes.put(new NodeKey(signature, concreteType, context), injectionNode);
+        }
+    }
+
+    public int getLoopCount() {
+        return loops;
+    }
+
+    public void loopDetected() {
+        loops++;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Number of nodes whose type hierarchy has been scanned, excluding reused nodes.
+     */
+    public int getAnalyzedCount() {
+        return analyzed;
+    }
+
+    private static final class SubgraphCopier implements CopyableAspect.InjectionNodeCopier {
+
+        private final AnalysisContext context;
+        private final Map<InjectionNode, InjectionNode> copies = new IdentityHashMap<InjectionNode, InjectionNode>();
+        private boolean reusable = true;
+
+        private SubgraphCopier(AnalysisContext context) {
+            this.context = context;
+        }
+
+        public InjectionNode copySubgraph(InjectionNode injectionNode) {
+            InjectionNode copy = copy(injectionNode);
+            return reusable ? copy : null;
+        }
+
+        @Override
+        public InjectionNode copy(InjectionNode injectionNode) {
+            if (injectionNode.containsAspect(ScopeAspect.class)) {
+                return injectionNode;
+            }
+            if (copies.containsKey(injectionNode)) {
+                return copies.get(injectionNode);
+            }
+            if (injectionNode.containsAspect(VirtualProxyAspect.class) ||
+                    (injectionNode.containsAspect(ASTInjectionAspect.class) && context.isDependent(injectionNode.getASTType()))) {
+                //the subgraph would close a loop with the current dependency chain, it must be analyzed in place
+                reusable = false;
+                return injectionNode;
+            }
+
+            InjectionNode copy = new InjectionNode(injectionNode.getSignature(), injectionNode.getTypeSignature());
+            copies.put(injectionNode, copy);
+
+            for (Map.Entry<Class, Object> aspectEntry : injectionNode.getAspects().entrySet()) {
+                Object aspect = aspectEntry.getValue();
+                if (aspect instanceof CopyableAspect) {
+                    aspect = ((CopyableAspect<?>) aspect).copy(this);
+                }
+                copy.getAspects().put(aspectEntry.getKey(), aspect);
+            }
+
+            return copy;
+        }
+    }
+
+    private static final class NodeKey {
+        private final InjectionSignature signature;
+        private final InjectionSignature concreteType;
+        private final Object contextKey;
+
+        private NodeKey(InjectionSignature signature, InjectionSignature concreteType, AnalysisContext context) {
+            this.signature = signature;
+            this.concreteType = concreteType;
+            //analysis results depend on the bindings the type was analyzed with
+            this.contextKey = context.getInjectionNodeBuilders();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NodeKey)) {
+                return false;
+            }
+
+            NodeKey that = (NodeKey) o;
+
+            return new EqualsBuilder()
+                    .append(signature, that.signature)
+                    .append(concreteType, that.concreteType)
+                    .isEquals() && contextKey == that.contextKey;
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder().append(signature).append(concreteType).append(System.identityHashCode(contextKey)).hashCode();
+        }
+    }
+}
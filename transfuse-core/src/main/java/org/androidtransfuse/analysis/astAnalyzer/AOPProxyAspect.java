@@ -17,6 +17,7 @@ package org.androidtransfuse.analysis.astAnalyzer;
 
 import org.androidtransfuse.adapter.ASTMethod;
 import org.androidtransfuse.adapter.MethodSignature;
+import org.androidtransfuse.model.CopyableAspect;
 import org.androidtransfuse.model.InjectionNode;
 
 import java.util.*;
@@ -27,13 +28,14 @@ import java.util.*;
  *
  * @author John Ericksen
  */
-public class AOPProxyAspect {
+public class AOPProxyAspect implements CopyableAspect<AOPProxyAspect> {
 
-    private final Map<MethodSignature, Set<InjectionNode>> methodInterceptors = new HashMap<MethodSignature, Set<InjectionNode>>();
+    //insertion ordered, keeping the generated proxy methods and constructor parameters stable between builds
+    private final Map<MethodSignature, Set<InjectionNode>> methodInterceptors = new LinkedHashMap<MethodSignature, Set<InjectionNode>>();
     private final Map<MethodSignature, ASTMethod> methodMapping = new HashMap<MethodSignature, ASTMethod>();
 
     public Map<ASTMethod, Set<InjectionNode>> getMethodInterceptors() {
-        Map<ASTMethod, Set<InjectionNode>> unboxedMethodInterceptors = new HashMap<ASTMethod, Set<InjectionNode>>();
+        Map<ASTMethod, Set<InjectionNode>> unboxedMethodInterceptors = new LinkedHashMap<ASTMethod, Set<InjectionNode>>();
 
         for (Map.Entry<MethodSignature, Set<InjectionNode>> methodSignatureSetEntry : methodInterceptors.entrySet()) {
             ASTMethod astMethod = methodMapping.get(methodSignatureSetEntry.getKey());
@@ -52,10 +54,22 @@ public class AOPProxyAspect {
     public void addInterceptor(ASTMethod astMethod, InjectionNode interceptorInjectionNode) {
         MethodSignature methodSignature = new MethodSignature(astMethod);
         if (!methodInterceptors.containsKey(methodSignature)) {
-            methodInterceptors.put(methodSignature, new HashSet<InjectionNode>());
+            methodInterceptors.put(methodSignature, new LinkedHashSet<InjectionNode>());
         }
 
         methodMapping.put(methodSignature, astMethod);
         methodInterceptors.get(methodSignature).add(interceptorInjectionNode);
     }
+
+    @Override
+    public AOPProxyAspect copy(InjectionNodeCopier copier) {
+        AOPProxyAspect copy = new AOPProxyAspect();
+        for (Map.Entry<MethodSignature, Set<InjectionNode>> methodInterceptorEntry : methodInterceptors.entrySet()) {
+            ASTMethod astMethod = methodMapping.get(methodInterceptorEntry.getKey());
+            for (InjectionNode interceptorInjectionNode : methodInterceptorEntry.getValue()) {
+                copy.addInterceptor(astMethod, copier.copy(interceptorInjectionNode));
+            }
+        }
+        return copy;
+    }
 }
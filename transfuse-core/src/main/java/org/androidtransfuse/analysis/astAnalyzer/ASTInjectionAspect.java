@@ -16,8 +16,11 @@
 package org.androidtransfuse.analysis.astAnalyzer;
 
 import org.androidtransfuse.model.ConstructorInjectionPoint;
+import org.androidtransfuse.model.CopyableAspect;
 import org.androidtransfuse.model.FieldInjectionPoint;
+import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.MethodInjectionPoint;
+import org.androidtransfuse.model.MethodInjectionPointBase;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +31,7 @@ import java.util.List;
  *
  * @author John Ericksen
  */
-public class ASTInjectionAspect {
+public class ASTInjectionAspect implements CopyableAspect<ASTInjectionAspect> {
 
     public enum InjectionAssignmentType {
         FIELD,
@@ -95,4 +98,42 @@ public class ASTInjectionAspect {
     public void setAssignmentType(InjectionAssignmentType assignmentType) {
         this.assignmentType = assignmentType;
     }
+
+    @Override
+    public ASTInjectionAspect copy(InjectionNodeCopier copier) {
+        ASTInjectionAspect copy = new ASTInjectionAspect();
+        copy.assignmentType = assignmentType;
+
+        if (constructorInjectionPoint != null) {
+            ConstructorInjectionPoint constructorCopy = new ConstructorInjectionPoint(
+                    constructorInjectionPoint.getContainingType(), constructorInjectionPoint.getAccessModifier());
+            copyInjectionNodes(constructorInjectionPoint, constructorCopy, copier);
+            copy.constructorInjectionPoint = constructorCopy;
+        }
+
+        for (InjectionGroup group : groups) {
+            InjectionGroup groupCopy = new InjectionGroup();
+            for (MethodInjectionPoint methodInjectionPoint : group.methodInjectionPoints) {
+                MethodInjectionPoint methodCopy = new MethodInjectionPoint(methodInjectionPoint.getContainingType(),
+                        methodInjectionPoint.getAccessModifier(), methodInjectionPoint.getName());
+                copyInjectionNodes(methodInjectionPoint, methodCopy, copier);
+                groupCopy.methodInjectionPoints.add(methodCopy);
+            }
+            for (FieldInjectionPoint fieldInjectionPoint : group.fieldInjectionPoints) {
+                groupCopy.fieldInjectionPoints.add(new FieldInjectionPoint(fieldInjectionPoint.getContainingType(),
+                        fieldInjectionPoint.getAccessModifier(), fieldInjectionPoint.getName(),
+                        copier.copy(fieldInjectionPoint.getInjectionNode())));
+            }
+            copy.groups.add(groupCopy);
+        }
+
+        return copy;
+    }
+
+    private static void copyInjectionNodes(MethodInjectionPointBase source, MethodInjectionPointBase target, InjectionNodeCopier copier) {
+        for (InjectionNode injectionNode : source.getInjectionNodes()) {
+            target.addInjectionNode(copier.copy(injectionNode));
+        }
+        target.addThrows(source.getThrowsTypes());
+    }
 }
@@ -21,40 +21,65 @@ import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.util.Generated;
 
 import javax.inject.Inject;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Utility class unifying the creation of a basic class from a PackageClass
  *
  * Annotates the generated class with the recommended annotation:
- * `@Generated(value = "org.androidtransfuse.TransfuseAnnotationProcessor", date = "2001-07-04T12:08:56.235-0700")`
+ * `@Generated(value = "org.androidtransfuse.TransfuseAnnotationProcessor")`
+ *
+ * The optional generation date is left off so repeated builds of unchanged input produce identical output.
  *
  * @author John Ericksen
  */
 public class ClassGenerationUtil {
 
-    // ISO 8601 standard date format
-    private final DateFormat iso8601 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mmZ");
     private final JCodeModel codeModel;
+    private final OriginatingElements originatingElements;
 
     @Inject
-    public ClassGenerationUtil(JCodeModel codeModel) {
+    public ClassGenerationUtil(JCodeModel codeModel, OriginatingElements originatingElements) {
         this.codeModel = codeModel;
+        this.originatingElements = originatingElements;
+    }
+
+    /**
+     * Defines a new top level class.
+     *
+     * @param className class name
+     * @param originatingTypes the types the class is generated from, handed to the Filer as originating elements
+     * @return defined class
+     * @throws JClassAlreadyExistsException
+     */
+    public JDefinedClass defineClass(PackageClass className, ASTType... originatingTypes) throws JClassAlreadyExistsException {
+        return defineClass(className, Arrays.asList(originatingTypes));
     }
 
-    public JDefinedClass defineClass(PackageClass className) throws JClassAlreadyExistsException {
+    public JDefinedClass defineClass(PackageClass className, Collection<? extends ASTType> originatingTypes) throws JClassAlreadyExistsException {
 
         JPackage jPackage = codeModel._package(className.getPackage());
 
         JDefinedClass definedClass = jPackage._class(className.getClassName());
 
         annotateGeneratedClass(definedClass);
+        addOriginatingTypes(className, originatingTypes);
 
         return definedClass;
     }
 
+    /**
+     * Associates additional originating types with an already defined class, used by aggregating classes which are
+     * filled in incrementally.
+     *
+     * @param className class name
+     * @param originatingTypes originating types
+     */
+    public void addOriginatingTypes(PackageClass className, Collection<? extends ASTType> originatingTypes) {
+        originatingElements.add(className, originatingTypes);
+    }
+
     public JClass ref(PackageClass packageClass){
         return ref(packageClass.getCanonicalName());
     }
@@ -82,7 +107,6 @@ public class ClassGenerationUtil {
      */
     private void annotateGeneratedClass(JDefinedClass definedClass) {
         definedClass.annotate(Generated.class)
-                .param("value", "org.androidtransfuse.TransfuseAnnotationProcessor")
-                .param("date", iso8601.format(new Date()));
+                .param("value", "org.androidtransfuse.TransfuseAnnotationProcessor");
     }
 }
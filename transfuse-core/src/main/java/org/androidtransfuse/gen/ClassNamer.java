@@ -16,6 +16,7 @@
 package org.androidtransfuse.gen;
 
 import com.sun.codemodel.JDefinedClass;
+import org.androidtransfuse.TransfuseAnalysisException;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.model.InjectionNode;
@@ -30,6 +31,15 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Builds class names for generated classes.
+ *
+ * Numbered names are counted per package (or per enclosing class for inner classes), so the number handed out only
+ * depends on the other classes generated into the same namespace.  Top-level classes which may be generated more than
+ * once for the same type from parallel transactions should be keyed, which derives the suffix purely from a 64 bit hash
+ * of the given key instead of from the generation order.  Keys must therefore identify the generated class completely,
+ * including the namespace requesting it.  Repeated requests for the same key are numbered, which is only deterministic
+ * if those requests are made in a deterministic order, ie: from within the same namespace.
+ *
  * @author John Ericksen
  */
 @Singleton
@@ -43,6 +53,8 @@ public class ClassNamer {
     }
 
     private final ConcurrentMap<String, AtomicInteger> nameMap = new ConcurrentHashMap<String, AtomicInteger>();
+    private final Map<String, String> keyedNames = new HashMap<String, String>();
+    private final Map<String, Integer> keyedCounts = new HashMap<String, Integer>();
     private final String namespace;
 
     @Inject
@@ -60,6 +72,8 @@ public class ClassNamer {
         private final String namespace;
         private boolean namespaced;
         private String appendment;
+        private String enclosing;
+        private String key;
 
         public ClassNameBuilder(PackageClass packageClass, String namespace, ClassNamer classNamer) {
             this.packageClass = packageClass;
@@ -77,6 +91,16 @@ public class ClassNamer {
             return this;
         }
 
+        public ClassNameBuilder enclosedBy(JDefinedClass enclosingClass) {
+            this.enclosing = enclosingClass.fullName();
+            return this;
+        }
+
+        public ClassNameBuilder keyed(String key) {
+            this.key = key;
+            return this;
+        }
+
         public PackageClass build(){
             return new PackageClass(
                     getPackage(packageClass.getPackage()),
@@ -125,7 +149,11 @@ public class ClassNamer {
             String nameRoot = namer.build();
 
             if(classNamer != null){
-                namer.append(classNamer.get(nameRoot));
+                String scope = enclosing != null ? enclosing : packageClass.getPackage();
+                if(key != null){
+                    return classNamer.getKeyed(scope, nameRoot, key);
+                }
+                namer.append(classNamer.get(scope + ':' + nameRoot));
             }
             return namer.build();
         }
@@ -167,6 +195,39 @@ public class ClassNamer {
         return numberedClassName(new PackageClass(definedClass._package().name(), definedClass.name()));
     }
 
+    private synchronized String getKeyed(String scope, String nameRoot, String key){
+        String base = Namer.name(nameRoot).append(Long.toHexString(hash(key))).build();
+        String scopedBase = scope + ':' + base;
+        String previousKey = keyedNames.get(scopedBase);
+        if(previousKey == null){
+            keyedNames.put(scopedBase, key);
+        }
+        else if(!previousKey.equals(key)){
+            // resolving the collision by arrival order would make the name depend on transaction order
+            throw new TransfuseAnalysisException("Generated class name " + base + " collides for keys " + previousKey + " and " + key);
+        }
+        Integer count = keyedCounts.get(scopedBase);
+        int repeat = count == null ? 0 : count;
+        keyedCounts.put(scopedBase, repeat + 1);
+
+        if(repeat == 0){
+            return base;
+        }
+        return Namer.name(base).append(repeat).build();
+    }
+
+    /**
+     * 64 bit FNV-1a hash, stable across builds and JVMs.
+     */
+    private static long hash(String key){
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < key.length(); i++){
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
     private int get(String name){
         AtomicInteger result = nameMap.get(name);
         if (result == null) {
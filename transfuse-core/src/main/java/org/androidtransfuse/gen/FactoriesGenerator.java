@@ -19,6 +19,7 @@ import com.sun.codemodel.*;
 import org.androidtransfuse.Factories;
 import org.androidtransfuse.TransfuseAnalysisException;
 import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.adapter.ASTTypeNameComparator;
 import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.scope.Scopes;
 import org.androidtransfuse.util.Repository;
@@ -27,6 +28,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
@@ -52,6 +54,7 @@ public class FactoriesGenerator {
     }
 
     public JDefinedClass generateFactories(Map<Provider<ASTType>, JDefinedClass> processedAggregate) {
+        variableNamer.enterNamespace(REPOSITORY_NAME.getCanonicalName());
         try {
             JDefinedClass factoryRepositoryClass = generationUtil.defineClass(REPOSITORY_NAME);
 
@@ -71,6 +74,8 @@ public class FactoriesGenerator {
             return factoryRepositoryClass;
         } catch (JClassAlreadyExistsException e) {
             throw new TransfuseAnalysisException("Already generated Factories class", e);
+        } finally {
+            variableNamer.exitNamespace();
         }
     }
 
@@ -78,12 +83,19 @@ public class FactoriesGenerator {
         // constructor registration block
         JBlock factoryRegistrationBlock = factoryRepositoryClass.constructor(JMod.PUBLIC).body();
 
-        for (Map.Entry<Provider<ASTType>, JDefinedClass> astTypeJDefinedClassEntry : processedAggregate.entrySet()) {
-            ASTType astType = astTypeJDefinedClassEntry.getKey().get();
+        //registered in name order, independent of the order the factories were generated in
+        Map<ASTType, JDefinedClass> sortedAggregate = new TreeMap<ASTType, JDefinedClass>(new ASTTypeNameComparator());
+        for (Map.Entry<Provider<ASTType>, JDefinedClass> aggregateEntry : processedAggregate.entrySet()) {
+            sortedAggregate.put(aggregateEntry.getKey().get(), aggregateEntry.getValue());
+        }
+        generationUtil.addOriginatingTypes(REPOSITORY_NAME, sortedAggregate.keySet());
+
+        for (Map.Entry<ASTType, JDefinedClass> astTypeJDefinedClassEntry : sortedAggregate.entrySet()) {
+            ASTType astType = astTypeJDefinedClassEntry.getKey();
             JClass interfaceClass = generationUtil.ref(astType);
 
             //factory builder
-            JDefinedClass factoryClass = factoryRepositoryClass._class(JMod.PRIVATE | JMod.FINAL | JMod.STATIC, classNamer.numberedClassName(astType).build().getClassName());
+            JDefinedClass factoryClass = factoryRepositoryClass._class(JMod.PRIVATE | JMod.FINAL | JMod.STATIC, classNamer.numberedClassName(astType).enclosedBy(factoryRepositoryClass).build().getClassName());
             factoryClass._implements(generationUtil.ref(Factories.FactoryBuilder.class).narrow(interfaceClass));
 
             //getter without given scopes
@@ -96,10 +96,11 @@ public class FactoryGenerator {
             throw new TransfuseAnalysisException("Unable to build factory from concrete class: " + descriptor.getName());
         }
 
-        try {
-            PackageClass factoryClassName = getFactoryName(descriptor.getPackageClass());
+        PackageClass factoryClassName = getFactoryName(descriptor.getPackageClass());
 
-            JDefinedClass implClass = generationUtil.defineClass(factoryClassName);
+        variableNamer.enterNamespace(factoryClassName.getCanonicalName());
+        try {
+            JDefinedClass implClass = generationUtil.defineClass(factoryClassName, descriptor);
             JClass interfaceClass = generationUtil.ref(descriptor);
 
             //scope holder definition
@@ -141,6 +142,8 @@ public class FactoryGenerator {
             throw new TransfuseAnalysisException("Class already exists for generated type " + descriptor.getName(), e);
         } catch (ClassNotFoundException e) {
             throw new TransfuseAnalysisException("Target class not found", e);
+        } finally {
+            variableNamer.exitNamespace();
         }
     }
 }
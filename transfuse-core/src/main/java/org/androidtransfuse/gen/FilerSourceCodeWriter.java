@@ -35,17 +35,20 @@ import java.util.HashSet;
 public class FilerSourceCodeWriter extends CodeWriter {
 
     private final Filer filer;
+    private final OriginatingElements originatingElements;
     private final Collection<OutputStream> openStreams = new HashSet<OutputStream>();
 
     @Inject
-    public FilerSourceCodeWriter(Filer filer) {
+    public FilerSourceCodeWriter(Filer filer, OriginatingElements originatingElements) {
         this.filer = filer;
+        this.originatingElements = originatingElements;
     }
 
     @Override
     public OutputStream openBinary(JPackage jPackage, String fileName) throws IOException {
-        //generate a source file based on package and filename
-        JavaFileObject sourceFile = filer.createSourceFile(toQualifiedClassName(jPackage, fileName));
+        //generate a source file based on package and filename, associated with the elements it was generated from
+        PackageClass generated = new PackageClass(jPackage.name(), fileName);
+        JavaFileObject sourceFile = filer.createSourceFile(generated.getFullyQualifiedName(), originatingElements.get(generated));
 
         OutputStream os = sourceFile.openOutputStream();
         openStreams.add(os);
@@ -53,10 +56,6 @@ public class FilerSourceCodeWriter extends CodeWriter {
         return os;
     }
 
-    private String toQualifiedClassName(JPackage pkg, String fileName) {
-        return new PackageClass(pkg.name(), fileName).getFullyQualifiedName();
-    }
-
     @Override
     public void close() throws IOException {
         for (OutputStream openStream : openStreams) {
@@ -35,6 +35,7 @@ public class InjectionBuilderContext {
     private final JDefinedClass definedClass;
     private final JExpression scopeVar;
     private final Map<InjectionNode, TypedExpression> proxyLoad = new HashMap<InjectionNode, TypedExpression>();
+    private final Map<String, TypedExpression> sharedExpressions = new HashMap<String, TypedExpression>();
 
     @Inject
     public InjectionBuilderContext(/*@Assisted*/ JBlock block,
@@ -64,6 +65,16 @@ public class InjectionBuilderContext {
         return proxyLoad;
     }
 
+    /**
+     * Expressions shared by all variables built within this context that are not tied to a single InjectionNode, such as
+     * a component's Intent extras.
+     *
+     * @return shared expressions by key
+     */
+    public Map<String, TypedExpression> getSharedExpressions() {
+        return sharedExpressions;
+    }
+
     public JExpression getScopeVar() {
         return scopeVar;
     }
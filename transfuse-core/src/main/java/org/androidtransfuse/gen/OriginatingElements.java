@@ -0,0 +1,94 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.gen;
+
+import org.androidtransfuse.adapter.ASTGenericTypeWrapper;
+import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.adapter.PackageClass;
+import org.androidtransfuse.adapter.element.ASTElementBase;
+
+import javax.inject.Singleton;
+import javax.lang.model.element.Element;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the source elements each generated class was derived from.  These are handed to the Filer when the class is
+ * written so the build tool can associate each generated file with the inputs that produced it.  Element instances are
+ * only valid for the round that produced them, so the recorded elements must be cleared at the start of each round.
+ *
+ * Types backed by reflection (framework and library classes) have no source element and are ignored.
+ *
+ * @author John Ericksen
+ */
+@Singleton
+public class OriginatingElements {
+
+    private static final Element[] EMPTY = new Element[0];
+
+    private final ConcurrentMap<String, Set<Element>> originatingElements = new ConcurrentHashMap<String, Set<Element>>();
+
+    public void add(PackageClass generated, Collection<? extends ASTType> originatingTypes) {
+        Set<Element> elements = getElements(generated.getFullyQualifiedName());
+        synchronized (elements) {
+            for (ASTType originatingType : originatingTypes) {
+                Element element = getElement(originatingType);
+                if (element != null) {
+                    elements.add(element);
+                }
+            }
+        }
+    }
+
+    public Element[] get(PackageClass generated) {
+        Set<Element> elements = originatingElements.get(generated.getFullyQualifiedName());
+        if (elements == null) {
+            return EMPTY;
+        }
+        synchronized (elements) {
+            return elements.toArray(new Element[elements.size()]);
+        }
+    }
+
+    public void clear() {
+        originatingElements.clear();
+    }
+
+    private Set<Element> getElements(String name) {
+        Set<Element> elements = originatingElements.get(name);
+        if (elements == null) {
+            Set<Element> value = new LinkedHashSet<Element>();
+            elements = originatingElements.putIfAbsent(name, value);
+            if (elements == null) {
+                elements = value;
+            }
+        }
+        return elements;
+    }
+
+    private Element getElement(ASTType astType) {
+        if (astType instanceof ASTElementBase) {
+            return ((ASTElementBase) astType).getElement();
+        }
+        if (astType instanceof ASTGenericTypeWrapper) {
+            return getElement(((ASTGenericTypeWrapper) astType).getWrappedType());
+        }
+        return null;
+    }
+}
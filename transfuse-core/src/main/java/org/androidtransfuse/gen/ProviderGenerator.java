@@ -109,9 +109,10 @@ public class ProviderGenerator {
             PackageClass providerClassName = classNamer.numberedClassName(injectionNode.getASTType())
                     .append(extension)
                     .namespaced()
+                    .keyed(injectionNode.getTypeSignature().buildScopeKeySignature())
                     .build();
 
-            JDefinedClass providerClass = generationUtil.defineClass(providerClassName);
+            JDefinedClass providerClass = generationUtil.defineClass(providerClassName, injectionNode.getASTType());
 
             providerClass._implements(codeModel.ref(Provider.class).narrow(injectionNodeClassRef));
 
@@ -124,6 +125,7 @@ public class ProviderGenerator {
 
     protected JDefinedClass fillInProvider(InjectionNode injectionNode, JDefinedClass providerClass) {
 
+        variableNamer.enterNamespace(providerClass);
         try{
             JClass injectionNodeClassRef = generationUtil.ref(injectionNode.getASTType());
 
@@ -150,6 +152,8 @@ public class ProviderGenerator {
             throw new TransfuseAnalysisException("Error while creating provider", e);
         } catch (JClassAlreadyExistsException e) {
             throw new TransfuseAnalysisException("Error while creating provider", e);
+        } finally {
+            variableNamer.exitNamespace();
         }
     }
 }
@@ -18,6 +18,7 @@ package org.androidtransfuse.gen;
 import com.sun.codemodel.*;
 import org.androidtransfuse.TransfuseAnalysisException;
 import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.adapter.ASTTypeNameComparator;
 import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.analysis.module.ModuleRepository;
 import org.androidtransfuse.scope.Scopes;
@@ -25,6 +26,7 @@ import org.androidtransfuse.util.Namer;
 
 import javax.inject.Inject;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * @author John Ericksen
@@ -48,6 +50,7 @@ public class ScopesGenerator {
 
     public void generate(){
 
+        namer.enterNamespace(TRANSFUSE_SCOPES_UTIL.getCanonicalName());
         try {
             JDefinedClass scopesUtil = generationUtil.defineClass(TRANSFUSE_SCOPES_UTIL);
             scopesUtil.mods().setFinal(true);
@@ -71,6 +74,8 @@ public class ScopesGenerator {
 
         } catch (JClassAlreadyExistsException e) {
             throw new TransfuseAnalysisException("Unable to build Transfuse$ScopesUtil class", e);
+        } finally {
+            namer.exitNamespace();
         }
     }
 
@@ -78,7 +83,10 @@ public class ScopesGenerator {
         JClass scopesRef = generationUtil.ref(Scopes.class);
         JVar scopesVar = injectorBlock.decl(scopesRef, namer.generateName(Scopes.class), JExpr._new(scopesRef));
 
-        for (Map.Entry<ASTType, ASTType> scopeTypeEntry : repository.buildModuleConfiguration().getScopeAnnotations().entrySet()) {
+        Map<ASTType, ASTType> scopeAnnotations = new TreeMap<ASTType, ASTType>(new ASTTypeNameComparator());
+        scopeAnnotations.putAll(repository.buildModuleConfiguration().getScopeAnnotations());
+
+        for (Map.Entry<ASTType, ASTType> scopeTypeEntry : scopeAnnotations.entrySet()) {
             JExpression annotation = generationUtil.ref(scopeTypeEntry.getKey()).dotclass();
             JClass scopeType = generationUtil.ref(scopeTypeEntry.getValue());
 
@@ -15,12 +15,15 @@
  */
 package org.androidtransfuse.gen;
 
+import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JType;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.util.Namer;
 
 import javax.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,12 +31,39 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Generates a unique name for the given type.
  *
+ * Names only need to be unique within the class they are generated into.  Generators enter the namespace of the class
+ * they are building for the duration of its generation, which keeps the numbering a function of that class alone
+ * rather than of the order in which parallel transactions happened to run.  Namespaces nest per thread; names
+ * generated outside of any namespace fall back to a shared counter.
+ *
  * @author John Ericksen
  */
 @Singleton
 public class UniqueVariableNamer {
 
     private final ConcurrentMap<String, AtomicInteger> nameMap = new ConcurrentHashMap<String, AtomicInteger>();
+    private final ThreadLocal<Deque<String>> namespaces = new ThreadLocal<Deque<String>>(){
+        @Override
+        protected Deque<String> initialValue() {
+            return new ArrayDeque<String>();
+        }
+    };
+
+    public void enterNamespace(JDefinedClass definedClass) {
+        enterNamespace(definedClass.fullName());
+    }
+
+    public void enterNamespace(String namespace) {
+        namespaces.get().push(namespace);
+    }
+
+    public void exitNamespace() {
+        namespaces.get().pop();
+    }
+
+    public String getNamespace() {
+        return namespaces.get().peek();
+    }
 
     public String generateName(Class clazz) {
         return generateName(clazz.getName());
@@ -74,7 +104,10 @@ public class UniqueVariableNamer {
 
         String nameRoot = builder.toString();
 
-        return Namer.name(nameRoot).append(nullSafeIterGet(nameRoot)).build();
+        String namespace = getNamespace();
+        String counterName = namespace == null ? nameRoot : namespace + ':' + nameRoot;
+
+        return Namer.name(nameRoot).append(nullSafeIterGet(counterName)).build();
     }
 
     private int nullSafeIterGet(String name){
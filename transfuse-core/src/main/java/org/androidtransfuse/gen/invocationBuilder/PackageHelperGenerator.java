@@ -24,8 +24,10 @@ import org.androidtransfuse.gen.ClassGenerationUtil;
 import org.androidtransfuse.gen.UniqueVariableNamer;
 
 import javax.inject.Inject;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author John Ericksen
@@ -50,35 +52,40 @@ public class PackageHelperGenerator {
 
     public void generate() {
         for (PackageHelperDescriptor packageHelper : repository.getPackageHelpers()) {
-            JDefinedClass packageHelperClass = buildPackageHelper(packageHelper.getName());
-
-            //constructor
-            for (Map.Entry<ConstructorCall, String> constructorEntry : packageHelper.getConstructorMapping().entrySet()) {
-                buildConstructorCall(constructorEntry.getKey(), constructorEntry.getValue(), packageHelperClass);
-            }
-
-            //method
-            for (Map.Entry<MethodCall, String> methodCallEntry : packageHelper.getMethodCallMapping().entrySet()) {
-                ASTType type = methodCallEntry.getKey().getType();
-                ASTType returnType = methodCallEntry.getKey().getReturnType();
-                String methodName = methodCallEntry.getKey().getMethodName();
-                List<ASTType> paramTypes = methodCallEntry.getKey().getParamTypes();
-
-                buildMethodCall(returnType, type, methodName, paramTypes, methodCallEntry.getValue(), packageHelperClass);
-            }
-
-            //field get
-            for (Map.Entry<FieldReference, String> fieldGetEntry : packageHelper.getFieldGetMapping().entrySet()) {
-                ASTType returnType = fieldGetEntry.getKey().getReturnType();
-                ASTType variableType = fieldGetEntry.getKey().getVariableType();
-                String name = fieldGetEntry.getKey().getName();
-
-                buildFieldGet(returnType, variableType, name, fieldGetEntry.getValue(), packageHelperClass);
-            }
-
-            //field set
-            for (Map.Entry<FieldReference, String> fieldSetEntry : packageHelper.getFieldSetMapping().entrySet()) {
-                buildFieldSet(fieldSetEntry.getKey(), fieldSetEntry.getValue(), packageHelperClass);
+            JDefinedClass packageHelperClass = buildPackageHelper(packageHelper.getName(), getAccessedTypes(packageHelper));
+
+            namer.enterNamespace(packageHelperClass);
+            try {
+                //constructor
+                for (Map.Entry<ConstructorCall, String> constructorEntry : packageHelper.getConstructorMapping().entrySet()) {
+                    buildConstructorCall(constructorEntry.getKey(), constructorEntry.getValue(), packageHelperClass);
+                }
+
+                //method
+                for (Map.Entry<MethodCall, String> methodCallEntry : packageHelper.getMethodCallMapping().entrySet()) {
+                    ASTType type = methodCallEntry.getKey().getType();
+                    ASTType returnType = methodCallEntry.getKey().getReturnType();
+                    String methodName = methodCallEntry.getKey().getMethodName();
+                    List<ASTType> paramTypes = methodCallEntry.getKey().getParamTypes();
+
+                    buildMethodCall(returnType, type, methodName, paramTypes, methodCallEntry.getValue(), packageHelperClass);
+                }
+
+                //field get
+                for (Map.Entry<FieldReference, String> fieldGetEntry : packageHelper.getFieldGetMapping().entrySet()) {
+                    ASTType returnType = fieldGetEntry.getKey().getReturnType();
+                    ASTType variableType = fieldGetEntry.getKey().getVariableType();
+                    String name = fieldGetEntry.getKey().getName();
+
+                    buildFieldGet(returnType, variableType, name, fieldGetEntry.getValue(), packageHelperClass);
+                }
+
+                //field set
+                for (Map.Entry<FieldReference, String> fieldSetEntry : packageHelper.getFieldSetMapping().entrySet()) {
+                    buildFieldSet(fieldSetEntry.getKey(), fieldSetEntry.getValue(), packageHelperClass);
+                }
+            } finally {
+                namer.exitNamespace();
             }
         }
     }
@@ -148,9 +155,26 @@ public class PackageHelperGenerator {
         body.assign(containerParam.ref(fieldReference.getName()), inputParam);
     }
 
-    private JDefinedClass buildPackageHelper(PackageClass helperClassName) {
+    private Set<ASTType> getAccessedTypes(PackageHelperDescriptor packageHelper) {
+        Set<ASTType> accessedTypes = new HashSet<ASTType>();
+        for (ConstructorCall constructorCall : packageHelper.getConstructorMapping().keySet()) {
+            accessedTypes.add(constructorCall.getType());
+        }
+        for (MethodCall methodCall : packageHelper.getMethodCallMapping().keySet()) {
+            accessedTypes.add(methodCall.getType());
+        }
+        for (FieldReference fieldReference : packageHelper.getFieldGetMapping().keySet()) {
+            accessedTypes.add(fieldReference.getVariableType());
+        }
+        for (FieldReference fieldReference : packageHelper.getFieldSetMapping().keySet()) {
+            accessedTypes.add(fieldReference.getVariableType());
+        }
+        return accessedTypes;
+    }
+
+    private JDefinedClass buildPackageHelper(PackageClass helperClassName, Set<ASTType> accessedTypes) {
         try {
-            return generationUtil.defineClass(helperClassName);
+            return generationUtil.defineClass(helperClassName, accessedTypes);
 
         } catch (JClassAlreadyExistsException e) {
             throw new TransfuseAnalysisException("Unable to create helper", e);
@@ -40,9 +40,8 @@ import java.util.*;
 public class AOPProxyGenerator {
 
     private static final String SUPER_REF = "super";
-    private static final String CLASS_GET_METHOD = "getMethod";
+    private static final String EMPTY_ARGUMENTS_REF = "EMPTY_ARGUMENTS";
     private static final String AOPPROXY_EXT = "AOPProxy";
-    private static final String METHOD_INTERCEPTOR_INVOKE = "invoke";
 
     private final JCodeModel codeModel;
     private final UniqueVariableNamer variableNamer;
@@ -67,13 +66,20 @@ public class AOPProxyGenerator {
         ConstructorInjectionPoint constructorInjectionPoint = injectionAspect.getConstructorInjectionPoint();
         ConstructorInjectionPoint proxyConstructorInjectionPoint = new ConstructorInjectionPoint(injectionNode.getASTType(), ASTAccessModifier.PUBLIC);
 
-        try {
-            PackageClass aopClassName = classNamer.numberedClassName(injectionNode.getASTType().getPackageClass())
-                    .namespaced()
-                    .append(AOPPROXY_EXT)
-                    .build();
+        //proxies are generated per injection point, so key them by the requesting class
+        String requestingNamespace = variableNamer.getNamespace();
+        if (requestingNamespace == null) {
+            throw new TransfuseAnalysisException("AOP proxy of " + injectionNode.getClassName() + " must be generated within the namespace of the requesting class");
+        }
+        PackageClass aopClassName = classNamer.numberedClassName(injectionNode.getASTType().getPackageClass())
+                .namespaced()
+                .append(AOPPROXY_EXT)
+                .keyed(requestingNamespace + ':' + injectionNode.getTypeSignature().buildScopeKeySignature())
+                .build();
 
-            definedClass = generationUtil.defineClass(aopClassName);
+        variableNamer.enterNamespace(aopClassName.getCanonicalName());
+        try {
+            definedClass = generationUtil.defineClass(aopClassName, injectionNode.getASTType());
 
             //extending injectionNode
             definedClass._extends(generationUtil.ref(injectionNode.getASTType()));
@@ -114,6 +120,8 @@ public class AOPProxyGenerator {
             throw new TransfuseAnalysisException("JClassAlreadyExistsException while building AOP Proxy", e);
         } catch (ClassNotFoundException e) {
             throw new TransfuseAnalysisException("ClassNotFoundException while building AOP Proxy", e);
+        } finally {
+            variableNamer.exitNamespace();
         }
 
         return buildProxyInjectionNode(injectionNode, definedClass.fullName(), injectionAspect, proxyConstructorInjectionPoint);
@@ -184,14 +192,32 @@ public class AOPProxyGenerator {
         //aop interceptor
         Map<InjectionNode, JFieldVar> interceptorNameMap = interceptorFields.get(methodInterceptorEntry.getKey());
 
-        JArray paramArray = JExpr.newArray(codeModel.ref(Object.class));
+        //cached reflected method of the proxied type, looked up once during class initialization
+        JInvocation getMethodInvocation = codeModel.ref(MethodInterceptorChain.class).staticInvoke(MethodInterceptorChain.GET_METHOD)
+                .arg(definedClass._extends().erasure().dotclass())
+                .arg(method.getName());
+        for (ASTParameter astParameter : method.getParameters()) {
+            getMethodInvocation.arg(generationUtil.ref(astParameter.getASTType()).dotclass());
+        }
+        JFieldVar methodField = definedClass.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, Method.class, variableNamer.generateName(Method.class), getMethodInvocation);
+
+        //single interceptor chain per proxied method
+        JFieldVar chainField = definedClass.field(JMod.PRIVATE | JMod.FINAL, MethodInterceptorChain.class, variableNamer.generateName(MethodInterceptorChain.class));
+        JInvocation newInterceptorChain = JExpr._new(codeModel.ref(MethodInterceptorChain.class))
+                .arg(methodField)
+                .arg(JExpr._this());
+        for (InjectionNode interceptor : methodInterceptorEntry.getValue()) {
+            newInterceptorChain.arg(interceptorNameMap.get(interceptor));
+        }
+        constructorBody.assign(chainField, newInterceptorChain);
 
+        JInvocation methodExecutionInvocation = JExpr._new(buildMethodExecution(definedClass, method, parameterMap))
+                .arg(chainField);
         for (ASTParameter astParameter : method.getParameters()) {
-            paramArray.add(parameterMap.get(astParameter));
+            methodExecutionInvocation.arg(parameterMap.get(astParameter));
         }
 
-        JInvocation interceptorInvocation = buildInterceptorChain(definedClass, method, parameterMap, methodInterceptorEntry.getValue(), interceptorNameMap).invoke(METHOD_INTERCEPTOR_INVOKE);
-        interceptorInvocation.arg(paramArray);
+        JInvocation interceptorInvocation = chainField.invoke(MethodInterceptorChain.INVOKE).arg(methodExecutionInvocation);
 
         if (method.getReturnType().equals(ASTVoidType.VOID)) {
             body.add(interceptorInvocation);
@@ -200,45 +226,38 @@ public class AOPProxyGenerator {
         }
     }
 
-    private JExpression buildInterceptorChain(JDefinedClass definedClass, ASTMethod method, Map<ASTParameter, JVar> parameterMap, Set<InjectionNode> interceptors, Map<InjectionNode, JFieldVar> interceptorNameMap) {
+    private JDefinedClass buildMethodExecution(JDefinedClass definedClass, ASTMethod method, Map<ASTParameter, JVar> parameterMap) {
 
         try {
-            JDefinedClass methodExecutionClass = definedClass._class(JMod.PRIVATE | JMod.FINAL, classNamer.numberedClassName(MethodInterceptorChain.MethodExecution.class).build().getClassName());
-            methodExecutionClass._implements(MethodInterceptorChain.MethodExecution.class);
+            JDefinedClass methodExecutionClass = definedClass._class(JMod.PRIVATE | JMod.FINAL, classNamer.numberedClassName(MethodInterceptorChain.MethodExecution.class).enclosedBy(definedClass).build().getClassName());
+            methodExecutionClass._extends(MethodInterceptorChain.MethodExecution.class);
 
             //setup constructor with needed parameters
             JMethod constructor = methodExecutionClass.constructor(JMod.PUBLIC);
             JBlock constructorBody = constructor.body();
-            List<JExpression> methodParameters = new ArrayList<JExpression>();
-            for (ASTParameter parameter : method.getParameters()) {
-                JType parameterType = parameterMap.get(parameter).type();
-                JVar param = constructor.param(parameterType, variableNamer.generateName(parameterType));
-                JFieldVar field = methodExecutionClass.field(JMod.PRIVATE, parameterType, variableNamer.generateName(parameterType));
-                constructorBody.assign(field, param);
-                methodParameters.add(field);
-            }
-
-
-            //getMethod()
-            JMethod getMethod = methodExecutionClass.method(JMod.PUBLIC, Method.class, MethodInterceptorChain.MethodExecution.GET_METHOD);
-            getMethod.annotate(Override.class);
-
-            JInvocation getMethodInvocation = definedClass.dotclass().invoke(CLASS_GET_METHOD).arg(method.getName());
-            getMethod.body()._return(getMethodInvocation);
-            getMethod._throws(NoSuchMethodException.class);
+            JVar chainParam = constructor.param(MethodInterceptorChain.class, variableNamer.generateName(MethodInterceptorChain.class));
+            JInvocation superConstructorInvocation = constructorBody.invoke(SUPER_REF).arg(chainParam);
 
-            for (ASTParameter astParameter : method.getParameters()) {
-                getMethodInvocation.arg(generationUtil.ref(astParameter.getASTType()).dotclass());
+            List<JExpression> methodParameters = new ArrayList<JExpression>();
+            if (method.getParameters().isEmpty()) {
+                superConstructorInvocation.arg(codeModel.ref(MethodInterceptorChain.class).staticRef(EMPTY_ARGUMENTS_REF));
+            } else {
+                JArray paramArray = JExpr.newArray(codeModel.ref(Object.class));
+                superConstructorInvocation.arg(paramArray);
+                for (ASTParameter parameter : method.getParameters()) {
+                    JType parameterType = parameterMap.get(parameter).type();
+                    JVar param = constructor.param(parameterType, variableNamer.generateName(parameterType));
+                    JFieldVar field = methodExecutionClass.field(JMod.PRIVATE | JMod.FINAL, parameterType, variableNamer.generateName(parameterType));
+                    paramArray.add(param);
+                    constructorBody.assign(field, param);
+                    methodParameters.add(field);
+                }
             }
 
             //invoke()
-            JMethod invokeMethod = methodExecutionClass.method(JMod.PUBLIC, Object.class, MethodInterceptorChain.MethodExecution.INVOKE);
+            JMethod invokeMethod = methodExecutionClass.method(JMod.PROTECTED, Object.class, MethodInterceptorChain.INVOKE);
             invokeMethod.annotate(Override.class);
-
-            //add all throws of contained method
-            for (ASTType throwable : method.getThrowsTypes()) {
-                invokeMethod._throws(generationUtil.ref(throwable));
-            }
+            invokeMethod._throws(Throwable.class);
 
             JInvocation superCall = definedClass.staticRef(SUPER_REF).invoke(method.getName());
 
@@ -253,21 +272,7 @@ public class AOPProxyGenerator {
                 invokeMethod.body()._return(superCall);
             }
 
-            JInvocation methodExecutionInvocation = JExpr._new(methodExecutionClass);
-
-            for (ASTParameter astParameter : method.getParameters()) {
-                methodExecutionInvocation.arg(parameterMap.get(astParameter));
-            }
-
-            JInvocation newInterceptorInvocation = JExpr._new(codeModel.ref(MethodInterceptorChain.class))
-                    .arg(methodExecutionInvocation)
-                    .arg(JExpr._this());
-
-            for (InjectionNode interceptor : interceptors) {
-                newInterceptorInvocation.arg(interceptorNameMap.get(interceptor));
-            }
-
-            return newInterceptorInvocation;
+            return methodExecutionClass;
         } catch (JClassAlreadyExistsException e) {
             throw new TransfuseAnalysisException("Class already defined while generating inner class", e);
         }
@@ -32,10 +32,7 @@ import org.androidtransfuse.util.VirtualProxyException;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 
 /**
@@ -114,7 +111,9 @@ public class VirtualProxyGenerator {
     public JClass generateProxy(InjectionNode injectionNode) {
         VirtualProxyDescriptor descriptor = cache.getCached(injectionNode);
 
-        descriptor.getProxyInterfaces().addAll(injectionNode.getAspect(VirtualProxyAspect.class).getProxyInterfaces());
+        synchronized (descriptor) {
+            descriptor.getProxyInterfaces().addAll(injectionNode.getAspect(VirtualProxyAspect.class).getProxyInterfaces());
+        }
 
         return codeModel.directClass(descriptor.getProxyName().getCanonicalName());
     }
@@ -127,14 +126,18 @@ public class VirtualProxyGenerator {
 
     private void innerGenerateProxy(VirtualProxyDescriptor descriptor) {
 
+        variableNamer.enterNamespace(descriptor.getProxyName().getCanonicalName());
         try {
 
-            JDefinedClass definedClass = generationUtil.defineClass(descriptor.getProxyName());
+            JDefinedClass definedClass = generationUtil.defineClass(descriptor.getProxyName(), descriptor.getDelegate());
 
             //define delegate
             JClass delegateClass = generationUtil.ref(descriptor.getDelegate());
 
-            Set<ASTType> proxyInterfaces = descriptor.getProxyInterfaces();
+            //interfaces are collected from parallel transactions, sort them to keep the output stable
+            List<ASTType> proxyInterfaces = new ArrayList<ASTType>(descriptor.getProxyInterfaces());
+            Collections.sort(proxyInterfaces, new ASTTypeNameComparator());
+            generationUtil.addOriginatingTypes(descriptor.getProxyName(), proxyInterfaces);
 
             JFieldVar delegateField = definedClass.field(JMod.PRIVATE, delegateClass, DELEGATE_NAME,
                     JExpr._null());
@@ -185,6 +188,8 @@ public class VirtualProxyGenerator {
             throw new TransfuseAnalysisException("Error while trying to build new class: " + descriptor.getProxyName() , e);
         } catch (NoSuchMethodException e) {
             throw new TransfuseAnalysisException("Unable to find expected method", e);
+        } finally {
+            variableNamer.exitNamespace();
         }
     }
 
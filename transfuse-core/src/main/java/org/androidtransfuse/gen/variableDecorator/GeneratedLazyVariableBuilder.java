@@ -0,0 +1,68 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.gen.variableDecorator;
+
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import org.androidtransfuse.gen.ClassGenerationUtil;
+import org.androidtransfuse.gen.InjectionBuilderContext;
+import org.androidtransfuse.gen.ProviderGenerator;
+import org.androidtransfuse.gen.UniqueVariableNamer;
+import org.androidtransfuse.gen.variableBuilder.ConsistentTypeVariableBuilder;
+import org.androidtransfuse.model.InjectionNode;
+import org.androidtransfuse.util.Lazy;
+import org.androidtransfuse.util.LazyHolder;
+
+import javax.inject.Inject;
+
+/**
+ * Builds a memoizing `Lazy` around the generated Provider of the given type.  The underlying dependency graph is not
+ * constructed until the first call to `Lazy.get()`.
+ *
+ * @author John Ericksen
+ */
+public class GeneratedLazyVariableBuilder extends ConsistentTypeVariableBuilder {
+
+    private final ProviderGenerator providerGenerator;
+    private final UniqueVariableNamer variableNamer;
+    private final ClassGenerationUtil generationUtil;
+    private final InjectionNode lazyTypeInjectionNode;
+
+    @Inject
+    public GeneratedLazyVariableBuilder(/*@Assisted*/ InjectionNode lazyTypeInjectionNode,
+                                        ProviderGenerator providerGenerator,
+                                        UniqueVariableNamer variableNamer,
+                                        ClassGenerationUtil generationUtil,
+                                        TypedExpressionFactory typedExpressionFactory) {
+        super(Lazy.class, typedExpressionFactory);
+        this.providerGenerator = providerGenerator;
+        this.variableNamer = variableNamer;
+        this.generationUtil = generationUtil;
+        this.lazyTypeInjectionNode = lazyTypeInjectionNode;
+    }
+
+    @Override
+    public JExpression buildExpression(InjectionBuilderContext injectionBuilderContext, InjectionNode injectionNode) {
+
+        JDefinedClass providerClass = providerGenerator.generateProvider(lazyTypeInjectionNode, false);
+        JClass lazyType = generationUtil.ref(LazyHolder.class).narrow(generationUtil.ref(lazyTypeInjectionNode.getASTType()));
+
+        return injectionBuilderContext.getBlock().decl(lazyType, variableNamer.generateName(LazyHolder.class),
+                JExpr._new(lazyType).arg(JExpr._new(providerClass).arg(injectionBuilderContext.getScopeVar())));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.androidtransfuse.gen.variableDecorator;
 
+import org.androidtransfuse.gen.ClassGenerationUtil;
 import org.androidtransfuse.gen.ProviderGenerator;
 import org.androidtransfuse.gen.UniqueVariableNamer;
 import org.androidtransfuse.model.InjectionNode;
@@ -30,18 +31,26 @@ public class GeneratedProviderBuilderFactory {
     private final Provider<ProviderGenerator> providerGeneratorProvider;
     private final Provider<UniqueVariableNamer> namerProvider;
     private final Provider<TypedExpressionFactory> typedExpressionFactoryProvider;
+    private final Provider<ClassGenerationUtil> generationUtilProvider;
 
     @Inject
     public GeneratedProviderBuilderFactory(Provider<ProviderGenerator> providerGeneratorProvider,
                                            Provider<UniqueVariableNamer> namerProvider,
-                                           Provider<TypedExpressionFactory> typedExpressionFactoryProvider) {
+                                           Provider<TypedExpressionFactory> typedExpressionFactoryProvider,
+                                           Provider<ClassGenerationUtil> generationUtilProvider) {
         this.providerGeneratorProvider = providerGeneratorProvider;
         this.namerProvider = namerProvider;
         this.typedExpressionFactoryProvider = typedExpressionFactoryProvider;
+        this.generationUtilProvider = generationUtilProvider;
     }
 
     public GeneratedProviderVariableBuilder buildProviderVariableBuilder(InjectionNode providerTypeInjectionNode){
 
         return new GeneratedProviderVariableBuilder(providerTypeInjectionNode, providerGeneratorProvider.get(), namerProvider.get(), typedExpressionFactoryProvider.get());
     }
+
+    public GeneratedLazyVariableBuilder buildLazyVariableBuilder(InjectionNode lazyTypeInjectionNode){
+
+        return new GeneratedLazyVariableBuilder(lazyTypeInjectionNode, providerGeneratorProvider.get(), namerProvider.get(), generationUtilProvider.get(), typedExpressionFactoryProvider.get());
+    }
 }
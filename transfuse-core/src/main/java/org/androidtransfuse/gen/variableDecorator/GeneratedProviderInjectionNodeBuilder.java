@@ -47,16 +47,37 @@ public class GeneratedProviderInjectionNodeBuilder implements InjectionNodeBuild
     @Override
     public InjectionNode buildInjectionNode(InjectionSignature signature, AnalysisContext context) {
 
-        ASTType providerGenericType = getProviderTemplateType(signature.getType());
-
         InjectionNode injectionNode = analyzer.analyze(signature, context);
-        InjectionNode providerInjectionNode = injectionPointFactory.buildInjectionNode(signature.getAnnotations(), providerGenericType, context.addDependent(injectionNode));
+        InjectionNode providerInjectionNode = buildProviderTypeInjectionNode(signature, injectionNode, context);
 
         injectionNode.addAspect(VariableBuilder.class, variableInjectionBuilderFactory.buildProviderVariableBuilder(providerInjectionNode));
 
         return injectionNode;
     }
 
+    /**
+     * Builds an injection node for `Lazy<T>`, backed by the same generated Provider of T used by `Provider<T>`.
+     *
+     * @param signature Lazy injection signature
+     * @param context analysis context
+     * @return InjectionNode
+     */
+    public InjectionNode buildLazyInjectionNode(InjectionSignature signature, AnalysisContext context) {
+
+        InjectionNode injectionNode = analyzer.analyze(signature, context);
+        InjectionNode lazyTypeInjectionNode = buildProviderTypeInjectionNode(signature, injectionNode, context);
+
+        injectionNode.addAspect(VariableBuilder.class, variableInjectionBuilderFactory.buildLazyVariableBuilder(lazyTypeInjectionNode));
+
+        return injectionNode;
+    }
+
+    private InjectionNode buildProviderTypeInjectionNode(InjectionSignature signature, InjectionNode injectionNode, AnalysisContext context) {
+        ASTType providerGenericType = getProviderTemplateType(signature.getType());
+
+        return injectionPointFactory.buildInjectionNode(signature.getAnnotations(), providerGenericType, context.addDependent(injectionNode));
+    }
+
     private ASTType getProviderTemplateType(ASTType astType) {
         return astType.getGenericParameters().iterator().next();
     }
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.model;
+
+/**
+ * InjectionNode aspect referencing InjectionNodes that are instantiated along with the owning InjectionNode.  When an
+ * analyzed subgraph is reused for another injection point, these aspects are copied so each injection point keeps its
+ * own instances in the generated code.  Aspects not implementing this interface are shared by the copies.
+ *
+ * @author John Ericksen
+ */
+public interface CopyableAspect<T> {
+
+    /**
+     * Copies this aspect, copying the referenced InjectionNodes through the given copier.
+     *
+     * @param copier InjectionNode copier
+     * @return aspect copy
+     */
+    T copy(InjectionNodeCopier copier);
+
+    interface InjectionNodeCopier {
+
+        InjectionNode copy(InjectionNode injectionNode);
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+/**
+ * Immutable hash array mapped trie.  `plus()` returns a new map sharing all but the O(log32 n) nodes on the path to the
+ * added key with the original, so maps derived from a common parent are independent and cheap to branch.  Lookups
+ * compare hashes along the path and call `equals()` only on an exact hash match.
+ *
+ * @author John Ericksen
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentHashMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return new PersistentHashMap<K, V>(null, 0);
+    }
+
+    public V get(K key) {
+        if (root == null || key == null) {
+            return null;
+        }
+        return root.find(key, spread(key.hashCode()), 0);
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map containing the given mapping in addition to the contents of this map, replacing the existing value
+     * of an equal key.  Null keys and values are not supported.
+     *
+     * @param key key
+     * @param value value
+     * @return derived map
+     */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("PersistentHashMap does not support null keys or values");
+        }
+        int hash = spread(key.hashCode());
+        if (root == null) {
+            return new PersistentHashMap<K, V>(new Leaf<K, V>(key, hash, value, null), 1);
+        }
+        int newSize = root.find(key, hash, 0) == null ? size + 1 : size;
+        return new PersistentHashMap<K, V>(root.plus(key, hash, value, 0), newSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of trie levels visited by the longest lookup.
+     */
+    int depth() {
+        return root == null ? 0 : root.depth();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private abstract static class Node<K, V> {
+
+        abstract V find(K key, int hash, int shift);
+
+        abstract Node<K, V> plus(K key, int hash, V value, int shift);
+
+        abstract int depth();
+    }
+
+    /**
+     * Single mapping, chained with any other mappings sharing the full hash.
+     */
+    private static final class Leaf<K, V> extends Node<K, V> {
+        private final K key;
+        private final int hash;
+        private final V value;
+        private final Leaf<K, V> next;
+
+        private Leaf(K key, int hash, V value, Leaf<K, V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        V find(K key, int hash, int shift) {
+            if (hash != this.hash) {
+                return null;
+            }
+            for (Leaf<K, V> current = this; current != null; current = current.next) {
+                if (key.equals(current.key)) {
+                    return current.value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Node<K, V> plus(K key, int hash, V value, int shift) {
+            if (hash == this.hash) {
+                return new Leaf<K, V>(key, hash, value, without(key));
+            }
+            return Branch.<K, V>of(this, shift).plus(key, hash, value, shift);
+        }
+
+        @Override
+        int depth() {
+            return 1;
+        }
+
+        private Leaf<K, V> without(K key) {
+            if (key.equals(this.key)) {
+                return next;
+            }
+            Leaf<K, V> remainder = next == null ? null : next.without(key);
+            if (remainder == next) {
+                return this;
+            }
+            return new Leaf<K, V>(this.key, hash, value, remainder);
+        }
+    }
+
+    /**
+     * Bitmap indexed node, holding up to 32 children compacted into an array ordered by their hash bits.
+     */
+    private static final class Branch<K, V> extends Node<K, V> {
+        private final int bitmap;
+        private final Node<K, V>[] children;
+
+        private Branch(int bitmap, Node<K, V>[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static <K, V> Branch<K, V> of(Leaf<K, V> leaf, int shift) {
+            Node<K, V>[] children = newArray(1);
+            children[0] = leaf;
+            return new Branch<K, V>(bit(leaf.hash, shift), children);
+        }
+
+        @Override
+        V find(K key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            return children[index(bit)].find(key, hash, shift + BITS);
+        }
+
+        @Override
+        Node<K, V> plus(K key, int hash, V value, int shift) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Node<K, V>[] expanded = newArray(children.length + 1);
+                System.arraycopy(children, 0, expanded, 0, index);
+                expanded[index] = new Leaf<K, V>(key, hash, value, null);
+                System.arraycopy(children, index, expanded, index + 1, children.length - index);
+                return new Branch<K, V>(bitmap | bit, expanded);
+            }
+            Node<K, V>[] copy = children.clone();
+            copy[index] = children[index].plus(key, hash, value, shift + BITS);
+            return new Branch<K, V>(bitmap, copy);
+        }
+
+        @Override
+        int depth() {
+            int depth = 0;
+            for (Node<K, V> child : children) {
+                depth = Math.max(depth, child.depth());
+            }
+            return depth + 1;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> Node<K, V>[] newArray(int length) {
+            return new Node[length];
+        }
+    }
+}
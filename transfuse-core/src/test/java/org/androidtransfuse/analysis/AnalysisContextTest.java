@@ -0,0 +1,145 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.analysis;
+
+import org.androidtransfuse.adapter.ASTStringType;
+import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.model.InjectionNode;
+import org.androidtransfuse.model.InjectionSignature;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class AnalysisContextTest {
+
+    private static final int DEEP_GRAPH_DEPTH = 5000;
+    private static final int OPERATIONS_PER_LOOKUP = 4;
+
+    private AnalysisContext rootContext;
+
+    @Before
+    public void setup() {
+        CountingType.operations = 0;
+        rootContext = new AnalysisContext(null, null);
+    }
+
+    @Test
+    public void testDependents() {
+        InjectionNode one = buildNode("one");
+        InjectionNode two = buildNode("two");
+
+        AnalysisContext context = rootContext.addDependent(one).addDependent(two);
+
+        assertTrue(context.isDependent(one.getASTType()));
+        assertTrue(context.isDependent(new ASTStringType("two")));
+        assertFalse(context.isDependent(new ASTStringType("three")));
+        assertSame(one, context.getInjectionNode(new ASTStringType("one")));
+        assertNull(context.getInjectionNode(new ASTStringType("three")));
+
+        assertFalse(rootContext.isDependent(one.getASTType()));
+        assertTrue(rootContext.getDependencyHistory().isEmpty());
+    }
+
+    @Test
+    public void testSiblingContextsAreIndependent() {
+        AnalysisContext parent = rootContext.addDependent(buildNode("parent"));
+        AnalysisContext left = parent.addDependent(buildNode("left"));
+        AnalysisContext right = parent.addDependent(buildNode("right"));
+
+        assertTrue(left.isDependent(new ASTStringType("left")));
+        assertFalse(left.isDependent(new ASTStringType("right")));
+        assertTrue(right.isDependent(new ASTStringType("right")));
+        assertFalse(right.isDependent(new ASTStringType("left")));
+        assertFalse(parent.isDependent(new ASTStringType("left")));
+    }
+
+    @Test
+    public void testDuplicateDependent() {
+        InjectionNode first = buildNode("loop");
+        InjectionNode second = buildNode("loop");
+
+        AnalysisContext context = rootContext.addDependent(first).addDependent(buildNode("other")).addDependent(second);
+
+        assertSame(first, context.getInjectionNode(new ASTStringType("loop")));
+        assertEquals(2, context.getDependencyHistory().size());
+    }
+
+    @Test
+    public void testDependencyHistoryOrder() {
+        List<InjectionNode> nodes = new ArrayList<InjectionNode>();
+        AnalysisContext context = rootContext;
+        for(int i = 0; i < 10; i++){
+            InjectionNode node = buildNode("node" + i);
+            nodes.add(node);
+            context = context.addDependent(node);
+        }
+
+        assertEquals(nodes, new ArrayList<InjectionNode>(context.getDependencyHistory()));
+    }
+
+    @Test
+    public void testDeepDependencyGraph() {
+        List<ASTType> types = new ArrayList<ASTType>();
+        AnalysisContext context = rootContext;
+        for(int i = 0; i < DEEP_GRAPH_DEPTH; i++){
+            InjectionNode node = new InjectionNode(new InjectionSignature(new CountingType("deep" + i)));
+            types.add(node.getASTType());
+            //mirrors the Analyzer, which checks for a loop before descending
+            assertFalse(context.isDependent(node.getASTType()));
+            context = context.addDependent(node);
+        }
+
+        for (ASTType type : types) {
+            assertTrue(context.isDependent(type));
+        }
+        assertEquals(DEEP_GRAPH_DEPTH, context.getDependencyHistory().size());
+
+        //each lookup hashes the type once and compares it only against an entry with the same hash
+        assertTrue("Type comparisons: " + CountingType.operations, CountingType.operations < OPERATIONS_PER_LOOKUP * 3 * DEEP_GRAPH_DEPTH);
+    }
+
+    private static final class CountingType extends ASTStringType {
+
+        private static int operations = 0;
+
+        private CountingType(String name) {
+            super(name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            operations++;
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            operations++;
+            return super.hashCode();
+        }
+    }
+
+    private InjectionNode buildNode(String name) {
+        return new InjectionNode(new InjectionSignature(new ASTStringType(name)));
+    }
+}
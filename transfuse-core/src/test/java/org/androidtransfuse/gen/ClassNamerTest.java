@@ -0,0 +1,150 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.gen;
+
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import org.androidtransfuse.adapter.PackageClass;
+import org.androidtransfuse.util.Namer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author John Ericksen
+ */
+public class ClassNamerTest {
+
+    private static final PackageClass FIRST = new PackageClass("org.first", "Target");
+    private static final PackageClass SECOND = new PackageClass("org.second", "Target");
+
+    private ClassNamer classNamer;
+
+    @Before
+    public void setup() {
+        classNamer = new ClassNamer();
+    }
+
+    @Test
+    public void testNumberedPerPackage() {
+        assertEquals(Namer.name("Target").append(0).build(), classNamer.numberedClassName(FIRST).build().getClassName());
+        assertEquals(Namer.name("Target").append(0).build(), classNamer.numberedClassName(SECOND).build().getClassName());
+        assertEquals(Namer.name("Target").append(1).build(), classNamer.numberedClassName(FIRST).build().getClassName());
+    }
+
+    @Test
+    public void testNumberedPerEnclosingClass() throws Exception {
+        JCodeModel codeModel = new JCodeModel();
+        JDefinedClass one = codeModel._class("org.test.One");
+        JDefinedClass two = codeModel._class("org.test.Two");
+
+        assertEquals(Namer.name("Target").append(0).build(), classNamer.numberedClassName(FIRST).enclosedBy(one).build().getClassName());
+        assertEquals(Namer.name("Target").append(0).build(), classNamer.numberedClassName(FIRST).enclosedBy(two).build().getClassName());
+        assertEquals(Namer.name("Target").append(1).build(), classNamer.numberedClassName(FIRST).enclosedBy(one).build().getClassName());
+    }
+
+    @Test
+    public void testKeyedIndependentOfOrder() {
+        String first = classNamer.numberedClassName(FIRST).keyed("a").build().getClassName();
+        String second = classNamer.numberedClassName(FIRST).keyed("b").build().getClassName();
+
+        ClassNamer reversedNamer = new ClassNamer();
+        assertEquals(second, reversedNamer.numberedClassName(FIRST).keyed("b").build().getClassName());
+        assertEquals(first, reversedNamer.numberedClassName(FIRST).keyed("a").build().getClassName());
+    }
+
+    @Test
+    public void testKeyedRepeat() {
+        String first = classNamer.numberedClassName(FIRST).keyed("a").build().getClassName();
+        String repeat = classNamer.numberedClassName(FIRST).keyed("a").build().getClassName();
+
+        assertFalse(first.equals(repeat));
+        assertEquals(Namer.name(first).append(1).build(), repeat);
+    }
+
+    @Test
+    public void testKeyedHashCodeCollision() {
+        //"Aa" and "BB" share a String.hashCode()
+        String first = classNamer.numberedClassName(FIRST).keyed("Aa").build().getClassName();
+        String second = classNamer.numberedClassName(FIRST).keyed("BB").build().getClassName();
+
+        ClassNamer reversedNamer = new ClassNamer();
+        assertEquals(second, reversedNamer.numberedClassName(FIRST).keyed("BB").build().getClassName());
+        assertEquals(first, reversedNamer.numberedClassName(FIRST).keyed("Aa").build().getClassName());
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void testParallelRunsDeterministic() throws Exception {
+        final List<String> keys = new ArrayList<String>();
+        for (int i = 0; i < 500; i++) {
+            keys.add("org.test.Requesting" + (i % 25) + ":org.test.Target" + i);
+        }
+        List<String> reversedKeys = new ArrayList<String>(keys);
+        Collections.reverse(reversedKeys);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            Future<Map<String, String>> first = executorService.submit(new NamingRun(new ClassNamer(), keys, executorService));
+            Future<Map<String, String>> second = executorService.submit(new NamingRun(new ClassNamer(), reversedKeys, executorService));
+
+            assertEquals(first.get(), second.get());
+            assertEquals(keys.size(), new HashSet<String>(first.get().values()).size());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Names each key as a separate task, as parallel transactions do, collecting the key to name mapping.
+     */
+    private static final class NamingRun implements Callable<Map<String, String>> {
+
+        private final ClassNamer namer;
+        private final List<String> keys;
+        private final ExecutorService executorService;
+
+        private NamingRun(ClassNamer namer, List<String> keys, ExecutorService executorService) {
+            this.namer = namer;
+            this.keys = keys;
+            this.executorService = executorService;
+        }
+
+        @Override
+        public Map<String, String> call() throws Exception {
+            final Map<String, String> names = new ConcurrentHashMap<String, String>();
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+            for (final String key : keys) {
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        names.put(key, namer.numberedClassName(FIRST).append("AOPProxy").keyed(key).build().getClassName());
+                        return null;
+                    }
+                });
+            }
+            for (Future<Void> future : executorService.invokeAll(tasks)) {
+                future.get();
+            }
+            return names;
+        }
+    }
+}
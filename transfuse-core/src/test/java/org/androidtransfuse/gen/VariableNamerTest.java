@@ -49,5 +49,23 @@ public class VariableNamerTest {
         Assert.assertEquals(Namer.name("a").append("0").build(), variableNamer.generateName(A.class));
     }
 
+    @Test
+    public void testNamespaces() {
+        Assert.assertEquals(Namer.name("fieldInjectable").append("0").build(), variableNamer.generateName(FieldInjectable.class));
+
+        variableNamer.enterNamespace("first");
+        Assert.assertEquals(Namer.name("fieldInjectable").append("0").build(), variableNamer.generateName(FieldInjectable.class));
+
+        variableNamer.enterNamespace("second");
+        Assert.assertEquals(Namer.name("fieldInjectable").append("0").build(), variableNamer.generateName(FieldInjectable.class));
+        variableNamer.exitNamespace();
+
+        Assert.assertEquals(Namer.name("fieldInjectable").append("1").build(), variableNamer.generateName(FieldInjectable.class));
+        variableNamer.exitNamespace();
+
+        Assert.assertNull(variableNamer.getNamespace());
+        Assert.assertEquals(Namer.name("fieldInjectable").append("1").build(), variableNamer.generateName(FieldInjectable.class));
+    }
+
 
 }
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class PersistentHashMapTest {
+
+    private static final int ENTRIES = 5000;
+    //ceil(log32(5000)) = 3 levels, plus slack for keys sharing their lower hash bits
+    private static final int MAX_DEPTH = 6;
+
+    @Test
+    public void testPlusAndGet() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < ENTRIES; i++) {
+            map = map.plus("key" + i, i);
+        }
+
+        assertEquals(ENTRIES, map.size());
+        for (int i = 0; i < ENTRIES; i++) {
+            assertEquals(Integer.valueOf(i), map.get("key" + i));
+        }
+        assertNull(map.get("missing"));
+    }
+
+    @Test
+    public void testBranchesAreIndependent() {
+        PersistentHashMap<String, Integer> parent = PersistentHashMap.<String, Integer>empty().plus("parent", 0);
+        PersistentHashMap<String, Integer> left = parent.plus("left", 1);
+        PersistentHashMap<String, Integer> right = parent.plus("right", 2);
+
+        assertTrue(left.containsKey("left"));
+        assertFalse(left.containsKey("right"));
+        assertTrue(right.containsKey("right"));
+        assertFalse(right.containsKey("left"));
+        assertFalse(parent.containsKey("left"));
+        assertEquals(1, parent.size());
+    }
+
+    @Test
+    public void testReplace() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("key", 1);
+        PersistentHashMap<String, Integer> replaced = map.plus("key", 2);
+
+        assertEquals(Integer.valueOf(1), map.get("key"));
+        assertEquals(Integer.valueOf(2), replaced.get("key"));
+        assertEquals(1, replaced.size());
+    }
+
+    @Test
+    public void testHashCollisions() {
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.plus(new CollidingKey(i), i);
+        }
+        map = map.plus(new CollidingKey(3), 30);
+
+        assertEquals(10, map.size());
+        assertEquals(Integer.valueOf(30), map.get(new CollidingKey(3)));
+        assertEquals(Integer.valueOf(9), map.get(new CollidingKey(9)));
+        assertNull(map.get(new CollidingKey(10)));
+    }
+
+    @Test
+    public void testLookupDepth() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < ENTRIES; i++) {
+            map = map.plus("deep" + i, i);
+        }
+
+        //a lookup visits at most MAX_DEPTH nodes, where walking a chain of entries visits up to ENTRIES
+        assertTrue("Depth: " + map.depth(), map.depth() <= MAX_DEPTH);
+    }
+
+    private static final class CollidingKey {
+        private final int value;
+
+        private CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -34,6 +34,16 @@ public interface ASTAnnotation {
      */
     <T> T getProperty(String name, Class<T> type);
 
+    /**
+     * Getter for a given annotation property, falling back to the default declared by the annotation type
+     *
+     * @param name
+     * @param type
+     * @param <T>
+     * @return annotation property identified by name with the given type, or its declared default
+     */
+    <T> T getPropertyOrDefault(String name, Class<T> type);
+
     /**
      * Getter for the name of the current annotation
      *
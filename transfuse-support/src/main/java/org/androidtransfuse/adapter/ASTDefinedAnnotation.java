@@ -36,6 +36,11 @@ public class ASTDefinedAnnotation implements ASTAnnotation {
         return (T) properties.get(name);
     }
 
+    @Override
+    public <T> T getPropertyOrDefault(String name, Class<T> type) {
+        return getProperty(name, type);
+    }
+
     @Override
     public ASTType getASTType() {
         return type;
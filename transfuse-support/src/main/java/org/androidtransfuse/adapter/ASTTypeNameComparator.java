@@ -13,23 +13,19 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.androidtransfuse.util;
+package org.androidtransfuse.adapter;
+
+import java.util.Comparator;
 
 /**
+ * Orders ASTTypes by their fully qualified name, giving generated registries a stable ordering.
+ *
  * @author John Ericksen
  */
-public abstract class TypeMirrorRunnable<T> implements Runnable{
-
-    private final T annotation;
-
-    protected TypeMirrorRunnable(T annotation) {
-        this.annotation = annotation;
-    }
+public class ASTTypeNameComparator implements Comparator<ASTType> {
 
     @Override
-    public void run() {
-        run(annotation);
+    public int compare(ASTType first, ASTType second) {
+        return first.getName().compareTo(second.getName());
     }
-
-    public abstract void run(T annotation);
 }
@@ -95,6 +95,12 @@ public class ASTClassAnnotation implements ASTAnnotation {
         }
     }
 
+    @Override
+    public <T> T getPropertyOrDefault(String name, Class<T> type) {
+        //reflected annotations already report the declared default for unspecified properties
+        return getProperty(name, type);
+    }
+
     @Override
     public ASTType getASTType() {
         return type;
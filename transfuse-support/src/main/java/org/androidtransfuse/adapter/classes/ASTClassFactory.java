@@ -77,10 +77,6 @@ public class ASTClassFactory {
     }
 
     private ASTType buildType(Class<?> clazz) {
-        ImmutableSet.Builder<ASTConstructor> constructorBuilder = ImmutableSet.builder();
-        ImmutableSet.Builder<ASTMethod> methodBuilder = ImmutableSet.builder();
-        ImmutableSet.Builder<ASTField> fieldBuilder = ImmutableSet.builder();
-
         ASTType superClass = null;
         if (clazz.getSuperclass() != null) {
             superClass = getType(clazz.getSuperclass(), clazz.getGenericSuperclass());
@@ -88,8 +84,6 @@ public class ASTClassFactory {
 
         ImmutableSet.Builder<ASTType> interfaceBuilder = ImmutableSet.builder();
 
-        ImmutableSet.Builder<ASTAnnotation> annotationBuilder = ImmutableSet.builder();
-
         PackageClass packageClass = new PackageClass(clazz);
 
         ASTTypeVirtualProxy astClassTypeProxy = new ASTTypeVirtualProxy(packageClass);
@@ -103,35 +97,43 @@ public class ASTClassFactory {
             interfaceBuilder.add(getType(classInterfaces[i], classGenericInterfaces[i]));
         }
 
-        //fill in the guts after building the class tree
-        //building after the class types have been defined avoids an infinite loop between
-        //defining classes and their attributes
+        //only the class tree is built here, the annotations, constructors, methods and fields are decoded on first
+        //access.  Eagerly building them would pull in every type referenced by every signature, transitively, which
+        //for framework classes like android.app.Activity is the bulk of the processor warm-up.
+        ASTType astType = new ASTClassType(clazz, packageClass, superClass, interfaceBuilder.build(), this);
+
+        astClassTypeProxy.load(astType);
+
+        return astType;
+    }
+
+    synchronized ImmutableSet<ASTConstructor> buildConstructors(Class<?> clazz) {
+        ImmutableSet.Builder<ASTConstructor> constructorBuilder = ImmutableSet.builder();
         for (Constructor constructor : clazz.getDeclaredConstructors()) {
             constructorBuilder.add(getConstructor(constructor));
         }
+        return constructorBuilder.build();
+    }
 
+    synchronized ImmutableSet<ASTMethod> buildMethods(Class<?> clazz) {
+        ImmutableSet.Builder<ASTMethod> methodBuilder = ImmutableSet.builder();
         for (Method method : clazz.getDeclaredMethods()) {
             methodBuilder.add(getMethod(method));
         }
+        return methodBuilder.build();
+    }
 
+    synchronized ImmutableSet<ASTField> buildFields(Class<?> clazz) {
+        ImmutableSet.Builder<ASTField> fieldBuilder = ImmutableSet.builder();
         for (Field field : clazz.getDeclaredFields()) {
             fieldBuilder.add(getField(field));
         }
-
-        annotationBuilder.addAll(getAnnotations(clazz));
-
-        ASTType astType = new ASTClassType(clazz, packageClass, annotationBuilder.build(),
-                constructorBuilder.build(),
-                methodBuilder.build(),
-                fieldBuilder.build(),
-                superClass,
-                interfaceBuilder.build());
-
-        astClassTypeProxy.load(astType);
-
-        return astType;
+        return fieldBuilder.build();
     }
 
+    synchronized ImmutableSet<ASTAnnotation> buildAnnotations(Class<?> clazz) {
+        return getAnnotations(clazz);
+    }
 
     /**
      * Builds the parameters for a given method
@@ -31,29 +31,34 @@ public class ASTClassType implements ASTType {
 
     private final Class<?> clazz;
     private final PackageClass packageClass;
-    private final ImmutableSet<ASTAnnotation> annotationList;
-    private final ImmutableSet<ASTMethod> methods;
-    private final ImmutableSet<ASTConstructor> constructors;
-    private final ImmutableSet<ASTField> fields;
     private final ASTType superClass;
     private final ImmutableSet<ASTType> interfaces;
-
+    private final ASTClassFactory astClassFactory;
+    private ImmutableSet<ASTAnnotation> annotationList = null;
+    private ImmutableSet<ASTMethod> methods = null;
+    private ImmutableSet<ASTConstructor> constructors = null;
+    private ImmutableSet<ASTField> fields = null;
+
+    /**
+     * Builds a type whose annotations, constructors, methods and fields are decoded from the given class by the
+     * ASTClassFactory on first access.
+     *
+     * @param clazz backing class
+     * @param packageClass class name
+     * @param superClass super class, null if none
+     * @param interfaces implemented interfaces
+     * @param astClassFactory factory used to decode the members
+     */
     public ASTClassType(Class<?> clazz,
                         PackageClass packageClass,
-                        ImmutableSet<ASTAnnotation> annotationList,
-                        ImmutableSet<ASTConstructor> constructors,
-                        ImmutableSet<ASTMethod> methods,
-                        ImmutableSet<ASTField> fields,
                         ASTType superClass,
-                        ImmutableSet<ASTType> interfaces) {
+                        ImmutableSet<ASTType> interfaces,
+                        ASTClassFactory astClassFactory) {
         this.clazz = clazz;
         this.packageClass = packageClass;
-        this.annotationList = annotationList;
-        this.constructors = constructors;
-        this.methods = methods;
-        this.fields = fields;
         this.superClass = superClass;
         this.interfaces = interfaces;
+        this.astClassFactory = astClassFactory;
     }
 
     @Override
@@ -67,17 +72,26 @@ public class ASTClassType implements ASTType {
     }
 
     @Override
-    public ImmutableSet<ASTMethod> getMethods() {
+    public synchronized ImmutableSet<ASTMethod> getMethods() {
+        if (methods == null) {
+            methods = astClassFactory.buildMethods(clazz);
+        }
         return methods;
     }
 
     @Override
-    public ImmutableSet<ASTField> getFields() {
+    public synchronized ImmutableSet<ASTField> getFields() {
+        if (fields == null) {
+            fields = astClassFactory.buildFields(clazz);
+        }
         return fields;
     }
 
     @Override
-    public ImmutableSet<ASTConstructor> getConstructors() {
+    public synchronized ImmutableSet<ASTConstructor> getConstructors() {
+        if (constructors == null) {
+            constructors = astClassFactory.buildConstructors(clazz);
+        }
         return constructors;
     }
 
@@ -92,7 +106,10 @@ public class ASTClassType implements ASTType {
     }
 
     @Override
-    public ImmutableSet<ASTAnnotation> getAnnotations() {
+    public synchronized ImmutableSet<ASTAnnotation> getAnnotations() {
+        if (annotationList == null) {
+            annotationList = astClassFactory.buildAnnotations(clazz);
+        }
         return annotationList;
     }
 
@@ -15,9 +15,9 @@
  */
 package org.androidtransfuse.adapter.element;
 
-import com.google.common.base.Function;
-import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Primitives;
 import org.androidtransfuse.adapter.ASTAnnotation;
 import org.androidtransfuse.adapter.ASTType;
 import org.apache.commons.lang.builder.HashCodeBuilder;
@@ -26,19 +26,31 @@ import javax.inject.Inject;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.util.ElementFilter;
+import java.lang.reflect.Array;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Element specific AST Annotation
  *
+ * The annotation mirror is decoded once, on first access, into two immutable maps of property name to value: the
+ * explicitly specified values and the defaults declared by the annotation type.  Converted values are memoized per
+ * requested type, so repeated lookups from signatures, validators and analysis neither rescan the mirror nor rebuild
+ * converters.  Instances may be shared across threads.
+ *
  * @author John Ericksen
  */
 public class ASTElementAnnotation implements ASTAnnotation {
 
+    private static final Object NULL_VALUE = new Object();
+
     private final AnnotationMirror annotationMirror;
     private final ASTType type;
     private final ElementConverterFactory elementConverterFactory;
+    private volatile Properties properties;
 
     @Inject
     public ASTElementAnnotation(/*@Assisted*/ AnnotationMirror annotationMirror,
@@ -51,30 +63,122 @@ public class ASTElementAnnotation implements ASTAnnotation {
 
     @Override
     public ImmutableSet<String> getPropertyNames() {
-        return FluentIterable.from(annotationMirror.getElementValues().keySet())
-                .transform(new ExtractElementName())
-                .toImmutableSet();
+        return getProperties().explicit.keySet();
     }
 
     public AnnotationMirror getAnnotationMirror() {
         return annotationMirror;
     }
 
-    private static final class ExtractElementName implements Function<ExecutableElement, String> {
-        @Override
-        public String apply(ExecutableElement property) {
-            return property.getSimpleName().toString();
+    /**
+     * Getter for a property explicitly specified on the annotation.
+     *
+     * @param name property name
+     * @param type expected type
+     * @param <T>
+     * @return the converted value or null if the property was not specified
+     */
+    @Override
+    public <T> T getProperty(String name, Class<T> type) {
+        PropertyValue value = getProperties().explicit.get(name);
+        if (value == null) {
+            return null;
         }
+        return value.get(type);
     }
 
+    /**
+     * Getter for a property, falling back to the default declared by the annotation type.
+     *
+     * @param name property name
+     * @param type expected type
+     * @param <T>
+     * @return the converted value or null if the property was not specified and has no default
+     */
     @Override
-    public <T> T getProperty(String value, Class<T> type) {
+    public <T> T getPropertyOrDefault(String name, Class<T> type) {
+        Properties properties = getProperties();
+        PropertyValue value = properties.explicit.get(name);
+        if (value == null) {
+            value = properties.defaults.get(name);
+        }
+        if (value == null) {
+            return null;
+        }
+        return value.get(type);
+    }
+
+    private Properties getProperties() {
+        Properties result = properties;
+        if (result == null) {
+            synchronized (this) {
+                result = properties;
+                if (result == null) {
+                    result = decode();
+                    properties = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Properties decode() {
+        ImmutableMap.Builder<String, PropertyValue> explicit = ImmutableMap.builder();
+        ImmutableMap.Builder<String, PropertyValue> defaults = ImmutableMap.builder();
+
         for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
-            if (value.equals(entry.getKey().getSimpleName().toString())) {
-                return entry.getValue().accept(elementConverterFactory.buildAnnotationValueConverter(type), null);
+            explicit.put(entry.getKey().getSimpleName().toString(), new PropertyValue(entry.getValue()));
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(annotationMirror.getAnnotationType().asElement().getEnclosedElements())) {
+            AnnotationValue defaultValue = method.getDefaultValue();
+            if (defaultValue != null) {
+                defaults.put(method.getSimpleName().toString(), new PropertyValue(defaultValue));
+            }
+        }
+
+        return new Properties(explicit.build(), defaults.build());
+    }
+
+    private static final class Properties {
+        private final ImmutableMap<String, PropertyValue> explicit;
+        private final ImmutableMap<String, PropertyValue> defaults;
+
+        private Properties(ImmutableMap<String, PropertyValue> explicit, ImmutableMap<String, PropertyValue> defaults) {
+            this.explicit = explicit;
+            this.defaults = defaults;
+        }
+    }
+
+    private final class PropertyValue {
+        private final AnnotationValue value;
+        private final ConcurrentMap<Class<?>, Object> converted = new ConcurrentHashMap<Class<?>, Object>();
+
+        private PropertyValue(AnnotationValue value) {
+            this.value = value;
+        }
+
+        public <T> T get(Class<T> type) {
+            Object result = converted.get(type);
+            if (result == null) {
+                result = value.accept(elementConverterFactory.buildAnnotationValueConverter(type), null);
+                if (result == null) {
+                    result = NULL_VALUE;
+                }
+                converted.putIfAbsent(type, result);
+            }
+            if (result == NULL_VALUE) {
+                return null;
+            }
+            if (result.getClass().isArray()) {
+                //arrays are mutable, hand out a copy
+                int length = Array.getLength(result);
+                Object copy = Array.newInstance(result.getClass().getComponentType(), length);
+                System.arraycopy(result, 0, copy, 0, length);
+                result = copy;
             }
+            return Primitives.wrap(type).cast(result);
         }
-        return null;
     }
 
     @Override
@@ -105,6 +105,9 @@ public class AnnotationValueConverterVisitor<T> extends SimpleAnnotationValueVis
         if (type.isAssignableFrom(ASTType.class)) {
             return (T) typeMirror.accept(astTypeBuilderVisitor, null);
         }
+        if (type.isAssignableFrom(TypeMirror.class)) {
+            return (T) typeMirror;
+        }
         return null;
     }
 
@@ -122,7 +125,7 @@ public class AnnotationValueConverterVisitor<T> extends SimpleAnnotationValueVis
 
         for (AnnotationValue annotationValue : annotationValues) {
             annotationASTTypes.add(annotationValue.accept(
-                    new AnnotationValueConverterVisitor(type.getComponentType(), astTypeBuilderVisitor, astTypeElementConverterFactory, astFactory),
+                    astTypeElementConverterFactory.buildAnnotationValueConverter(type.getComponentType()),
                     null));
         }
 
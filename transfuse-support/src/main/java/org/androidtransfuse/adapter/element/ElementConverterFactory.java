@@ -19,6 +19,8 @@ import org.androidtransfuse.adapter.ASTFactory;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Factory to create Element Converters
@@ -30,6 +32,8 @@ public class ElementConverterFactory {
     private final ASTTypeBuilderVisitor astTypeBuilderVisitor;
     private final Provider<ASTElementFactory> astElementFactoryProvider;
     private final ASTFactory astFactory;
+    private final ConcurrentMap<Class<?>, AnnotationValueConverterVisitor<?>> annotationValueConverters =
+            new ConcurrentHashMap<Class<?>, AnnotationValueConverterVisitor<?>>();
 
     @Inject
     public ElementConverterFactory(ASTTypeBuilderVisitor astTypeBuilderVisitor,
@@ -45,6 +49,15 @@ public class ElementConverterFactory {
     }
 
     public <T> AnnotationValueConverterVisitor<T> buildAnnotationValueConverter(Class<T> clazz) {
-        return new AnnotationValueConverterVisitor<T>(clazz, astTypeBuilderVisitor, this, astFactory);
+        //converters are stateless, so a single instance per target type is shared
+        AnnotationValueConverterVisitor<?> converter = annotationValueConverters.get(clazz);
+        if (converter == null) {
+            converter = new AnnotationValueConverterVisitor<T>(clazz, astTypeBuilderVisitor, this, astFactory);
+            AnnotationValueConverterVisitor<?> existing = annotationValueConverters.putIfAbsent(clazz, converter);
+            if (existing != null) {
+                converter = existing;
+            }
+        }
+        return (AnnotationValueConverterVisitor<T>) converter;
     }
 }
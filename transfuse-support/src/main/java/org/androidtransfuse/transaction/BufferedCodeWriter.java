@@ -0,0 +1,80 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.transaction;
+
+import com.sun.codemodel.CodeWriter;
+import com.sun.codemodel.JPackage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CodeWriter rendering each file into an in-memory buffer.  Rendering through this writer does not touch the
+ * underlying Filer, allowing multiple code models to be rendered in parallel before the buffers are written through
+ * a single writer via `writeTo()`.
+ *
+ * @author John Ericksen
+ */
+public class BufferedCodeWriter extends CodeWriter {
+
+    private final List<BufferedFile> files = new ArrayList<BufferedFile>();
+
+    @Override
+    public OutputStream openBinary(JPackage jPackage, String fileName) throws IOException {
+        BufferedFile file = new BufferedFile(jPackage, fileName);
+        files.add(file);
+        return file.buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        //buffers remain available until written
+    }
+
+    /**
+     * Streams the buffered files through the given CodeWriter, closing it once all files are written.
+     *
+     * @param codeWriter target
+     * @return number of files written
+     * @throws IOException
+     */
+    public int writeTo(CodeWriter codeWriter) throws IOException {
+        for (BufferedFile file : files) {
+            OutputStream outputStream = codeWriter.openBinary(file.jPackage, file.fileName);
+            file.buffer.writeTo(outputStream);
+        }
+        codeWriter.close();
+        return files.size();
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    private static final class BufferedFile {
+        private final JPackage jPackage;
+        private final String fileName;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private BufferedFile(JPackage jPackage, String fileName) {
+            this.jPackage = jPackage;
+            this.fileName = fileName;
+        }
+    }
+}
@@ -29,15 +29,18 @@ public class CodeGenerationScopedTransactionWorker<V, R> extends AbstractComplet
     private final JCodeModel codeModel;
     private final CodeWriter codeWriter;
     private final CodeWriter resourceWriter;
+    private final CodeGenerationWriter codeGenerationWriter;
     private final TransactionWorker<V, R> worker;
 
     public CodeGenerationScopedTransactionWorker(JCodeModel codeModel,
                                                  CodeWriter codeWriter,
                                                  CodeWriter resourceWriter,
+                                                 CodeGenerationWriter codeGenerationWriter,
                                                  TransactionWorker<V, R> worker) {
         this.codeModel = codeModel;
         this.codeWriter = codeWriter;
         this.resourceWriter = resourceWriter;
+        this.codeGenerationWriter = codeGenerationWriter;
         this.worker = worker;
     }
 
@@ -46,7 +49,14 @@ public class CodeGenerationScopedTransactionWorker<V, R> extends AbstractComplet
         try {
             R result = worker.run(value);
 
-            codeModel.build(codeWriter, resourceWriter);
+            //render in parallel to memory, then queue on the single Filer writer
+            BufferedCodeWriter sourceBuffer = new BufferedCodeWriter();
+            BufferedCodeWriter resourceBuffer = new BufferedCodeWriter();
+
+            long start = System.nanoTime();
+            codeModel.build(sourceBuffer, resourceBuffer);
+
+            codeGenerationWriter.write(System.nanoTime() - start, sourceBuffer, codeWriter, resourceBuffer, resourceWriter);
 
             return result;
         } catch (IOException e) {
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.transaction;
+
+import com.sun.codemodel.CodeWriter;
+import org.androidtransfuse.util.TransfuseRuntimeException;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single, dedicated writer streaming rendered source buffers through the Filer.  Code models are rendered to
+ * `BufferedCodeWriter`s in parallel on the transaction threads and queued here without waiting, while all Filer access
+ * is funneled through this writer's thread, removing contention on the Filer lock and overlapping rendering with
+ * Filer I/O.  Queued writes are joined, and any write failure surfaced, by `awaitWrites()` at the end of each round.
+ * The writer thread is released by `shutdown()` once processing is over.
+ *
+ * Also tracks the time spent rendering, writing and blocked waiting on outstanding writes.
+ *
+ * @author John Ericksen
+ */
+@Singleton
+public class CodeGenerationWriter {
+
+    private static final String THREAD_NAME = "Transfuse Filer Writer";
+
+    private final ConcurrentLinkedQueue<Future<Integer>> pendingWrites = new ConcurrentLinkedQueue<Future<Integer>>();
+    private final AtomicLong renderNanos = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final AtomicLong blockedNanos = new AtomicLong();
+    private final AtomicInteger fileCount = new AtomicInteger();
+    private ExecutorService writerExecutor;
+
+    @Inject
+    public CodeGenerationWriter() {
+        //writer thread created on first write
+    }
+
+    /**
+     * Queues the given rendered buffers to be written through their target CodeWriters on the dedicated writer thread.
+     * This does not wait for the write; failures are reported by `awaitWrites()`.
+     *
+     * @param renderTime nanoseconds spent rendering the buffers
+     * @param sourceBuffer rendered sources
+     * @param sourceWriter source target
+     * @param resourceBuffer rendered resources
+     * @param resourceWriter resource target
+     */
+    public void write(long renderTime,
+                      final BufferedCodeWriter sourceBuffer, final CodeWriter sourceWriter,
+                      final BufferedCodeWriter resourceBuffer, final CodeWriter resourceWriter) {
+        renderNanos.addAndGet(renderTime);
+
+        pendingWrites.add(getWriterExecutor().submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws IOException {
+                long writeStart = System.nanoTime();
+                try {
+                    return sourceBuffer.writeTo(sourceWriter) + resourceBuffer.writeTo(resourceWriter);
+                } finally {
+                    writeNanos.addAndGet(System.nanoTime() - writeStart);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Waits for all queued writes to complete.  Every queued write is joined, after which the first failure, if any,
+     * is thrown.
+     *
+     * @throws IOException if a write failed
+     */
+    public void awaitWrites() throws IOException {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            Future<Integer> written;
+            while ((written = pendingWrites.poll()) != null) {
+                try {
+                    fileCount.addAndGet(written.get());
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransfuseRuntimeException("Interrupted while writing generated code", e);
+        } finally {
+            blockedNanos.addAndGet(System.nanoTime() - start);
+        }
+
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure != null) {
+            throw new TransfuseRuntimeException("Unable to write generated code", failure);
+        }
+    }
+
+    /**
+     * Releases the writer thread.  Writes queued afterwards start a new writer thread.
+     */
+    public synchronized void shutdown() {
+        if (writerExecutor != null) {
+            writerExecutor.shutdown();
+            writerExecutor = null;
+        }
+    }
+
+    private synchronized ExecutorService getWriterExecutor() {
+        if (writerExecutor == null) {
+            writerExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return writerExecutor;
+    }
+
+    public long getRenderTime(TimeUnit unit) {
+        return unit.convert(renderNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getWriteTime(TimeUnit unit) {
+        return unit.convert(writeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getBlockedTime(TimeUnit unit) {
+        return unit.convert(blockedNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public int getFileCount() {
+        return fileCount.get();
+    }
+
+    public void reset() {
+        renderNanos.set(0);
+        writeNanos.set(0);
+        blockedNanos.set(0);
+        fileCount.set(0);
+    }
+}
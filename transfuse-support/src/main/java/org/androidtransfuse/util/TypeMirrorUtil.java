@@ -15,8 +15,12 @@
  */
 package org.androidtransfuse.util;
 
-import javax.lang.model.type.MirroredTypeException;
+import org.androidtransfuse.adapter.ASTAnnotation;
+import org.androidtransfuse.adapter.ASTBase;
+import org.androidtransfuse.adapter.element.ASTElementAnnotation;
+
 import javax.lang.model.type.TypeMirror;
+import java.lang.annotation.Annotation;
 
 /**
  * @author John Ericksen
@@ -27,12 +31,19 @@ public final class TypeMirrorUtil {
         //noop utility class constructor
     }
 
-    public static TypeMirror getTypeMirror(Runnable runnable) {
-        //http://blog.retep.org/2009/02/13/getting-class-values-from-annotations-in-an-annotationprocessor/
-        try {
-            runnable.run();
-        } catch (MirroredTypeException mte) {
-            return mte.getTypeMirror();
+    /**
+     * Reads the given Class valued annotation property as a TypeMirror directly from the backing AnnotationMirror,
+     * avoiding the cost of triggering and catching a MirroredTypeException.
+     *
+     * @param astBase annotated element
+     * @param annotation annotation type
+     * @param property Class valued property name
+     * @return TypeMirror, or null if the property is not set or the annotation is not backed by an AnnotationMirror
+     */
+    public static TypeMirror getTypeMirror(ASTBase astBase, Class<? extends Annotation> annotation, String property) {
+        ASTAnnotation astAnnotation = astBase.getASTAnnotation(annotation);
+        if (astAnnotation instanceof ASTElementAnnotation) {
+            return astAnnotation.getProperty(property, TypeMirror.class);
         }
         return null;
     }
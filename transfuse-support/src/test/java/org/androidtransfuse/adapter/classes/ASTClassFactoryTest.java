@@ -0,0 +1,102 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.adapter.classes;
+
+import com.google.common.collect.ImmutableSet;
+import org.androidtransfuse.adapter.ASTFactory;
+import org.androidtransfuse.adapter.ASTMethod;
+import org.androidtransfuse.adapter.ASTType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author John Ericksen
+ */
+public class ASTClassFactoryTest {
+
+    public static class Referenced {
+        public void method(){}
+    }
+
+    public static class Target {
+        private String field;
+
+        public Target(){}
+
+        public Referenced first(){
+            return null;
+        }
+
+        public void second(Referenced referenced){}
+    }
+
+    private CountingASTClassFactory astClassFactory;
+
+    private static class CountingASTClassFactory extends ASTClassFactory {
+
+        private final Set<Class<?>> methodsBuilt = new HashSet<Class<?>>();
+
+        public CountingASTClassFactory(ASTFactory astFactory) {
+            super(astFactory);
+        }
+
+        @Override
+        synchronized ImmutableSet<ASTMethod> buildMethods(Class<?> clazz) {
+            methodsBuilt.add(clazz);
+            return super.buildMethods(clazz);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        astClassFactory = new CountingASTClassFactory(mock(ASTFactory.class));
+    }
+
+    @Test
+    public void testMembersDecodedOnAccess() {
+        ASTType targetType = astClassFactory.getType(Target.class);
+
+        assertTrue(astClassFactory.methodsBuilt.isEmpty());
+
+        ImmutableSet<ASTMethod> methods = targetType.getMethods();
+
+        assertEquals(2, methods.size());
+        assertSame(methods, targetType.getMethods());
+        assertEquals(1, targetType.getConstructors().size());
+        assertEquals(1, targetType.getFields().size());
+        assertTrue(astClassFactory.methodsBuilt.contains(Target.class));
+        assertFalse(astClassFactory.methodsBuilt.contains(Referenced.class));
+    }
+
+    @Test
+    public void testReferencedTypesShared() {
+        ASTType targetType = astClassFactory.getType(Target.class);
+        ASTType referencedType = astClassFactory.getType(Referenced.class);
+
+        for (ASTMethod method : targetType.getMethods()) {
+            if (method.getName().equals("first")) {
+                assertSame(referencedType, method.getReturnType());
+            }
+        }
+        assertEquals(1, referencedType.getMethods().size());
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.adapter.element;
+
+import org.androidtransfuse.adapter.ASTType;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author John Ericksen
+ */
+public class ASTElementAnnotationTest {
+
+    private static final String VALUE = "value";
+    private static final String TAG = "tag";
+    private static final String ARRAY = "array";
+    private static final String UNSET = "unset";
+
+    private AnnotationMirror annotationMirror;
+    private AnnotationValue valueValue;
+    private AnnotationValue valueDefault;
+    private AnnotationValue tagDefault;
+    private AnnotationValue arrayValue;
+    private AnnotationValueConverterVisitor<Integer> integerConverter;
+    private AnnotationValueConverterVisitor<String> stringConverter;
+    private AnnotationValueConverterVisitor<String[]> arrayConverter;
+    private ASTElementAnnotation annotation;
+
+    @Before
+    public void setUp() {
+        annotationMirror = mock(AnnotationMirror.class);
+        DeclaredType annotationType = mock(DeclaredType.class);
+        Element annotationElement = mock(Element.class);
+        ElementConverterFactory elementConverterFactory = mock(ElementConverterFactory.class);
+
+        valueValue = mock(AnnotationValue.class);
+        valueDefault = mock(AnnotationValue.class);
+        tagDefault = mock(AnnotationValue.class);
+        arrayValue = mock(AnnotationValue.class);
+        ExecutableElement valueMethod = buildMethod(VALUE, valueDefault);
+        ExecutableElement tagMethod = buildMethod(TAG, tagDefault);
+        ExecutableElement arrayMethod = buildMethod(ARRAY, null);
+        ExecutableElement unsetMethod = buildMethod(UNSET, null);
+
+        Map<ExecutableElement, AnnotationValue> elementValues = new HashMap<ExecutableElement, AnnotationValue>();
+        elementValues.put(valueMethod, valueValue);
+        elementValues.put(arrayMethod, arrayValue);
+
+        List<Element> methods = Arrays.<Element>asList(valueMethod, tagMethod, arrayMethod, unsetMethod);
+
+        when(annotationMirror.getAnnotationType()).thenReturn(annotationType);
+        when(annotationType.asElement()).thenReturn(annotationElement);
+        doReturn(methods).when(annotationElement).getEnclosedElements();
+        doReturn(elementValues).when(annotationMirror).getElementValues();
+
+        integerConverter = mock(AnnotationValueConverterVisitor.class);
+        stringConverter = mock(AnnotationValueConverterVisitor.class);
+        arrayConverter = mock(AnnotationValueConverterVisitor.class);
+        when(elementConverterFactory.buildAnnotationValueConverter(Integer.class)).thenReturn(integerConverter);
+        when(elementConverterFactory.buildAnnotationValueConverter(String.class)).thenReturn(stringConverter);
+        when(elementConverterFactory.buildAnnotationValueConverter(String[].class)).thenReturn(arrayConverter);
+
+        doReturn(5).when(valueValue).accept(integerConverter, null);
+        doReturn(null).when(valueValue).accept(stringConverter, null);
+        doReturn(-1).when(valueDefault).accept(integerConverter, null);
+        doReturn("default").when(tagDefault).accept(stringConverter, null);
+        doReturn(new String[]{"one", "two"}).when(arrayValue).accept(arrayConverter, null);
+
+        annotation = new ASTElementAnnotation(annotationMirror, mock(ASTType.class), elementConverterFactory);
+    }
+
+    private ExecutableElement buildMethod(String name, AnnotationValue defaultValue) {
+        ExecutableElement method = mock(ExecutableElement.class);
+        when(method.getKind()).thenReturn(ElementKind.METHOD);
+        when(method.getSimpleName()).thenReturn(new TestName(name));
+        when(method.getDefaultValue()).thenReturn(defaultValue);
+        return method;
+    }
+
+    @Test
+    public void testExplicitProperties() {
+        assertEquals(Integer.valueOf(5), annotation.getProperty(VALUE, Integer.class));
+        assertNull(annotation.getProperty(VALUE, String.class));
+        assertNull(annotation.getProperty(TAG, String.class));
+        assertEquals(new HashSet<String>(Arrays.asList(VALUE, ARRAY)), annotation.getPropertyNames());
+    }
+
+    @Test
+    public void testDefaultProperties() {
+        assertEquals(Integer.valueOf(5), annotation.getPropertyOrDefault(VALUE, Integer.class));
+        assertEquals("default", annotation.getPropertyOrDefault(TAG, String.class));
+        assertNull(annotation.getPropertyOrDefault(UNSET, String.class));
+        assertNull(annotation.getPropertyOrDefault("missing", String.class));
+        assertFalse(annotation.getPropertyNames().contains(TAG));
+    }
+
+    @Test
+    public void testDecodedOnce() {
+        for (int i = 0; i < 10; i++) {
+            annotation.getProperty(VALUE, Integer.class);
+            annotation.getProperty(VALUE, String.class);
+            annotation.getProperty(TAG, String.class);
+            annotation.getPropertyOrDefault(TAG, String.class);
+        }
+
+        verify(annotationMirror, times(1)).getElementValues();
+        verify(annotationMirror, times(1)).getAnnotationType();
+        verify(valueValue, times(1)).accept(integerConverter, null);
+        verify(valueValue, times(1)).accept(stringConverter, null);
+        verify(tagDefault, times(1)).accept(stringConverter, null);
+        verify(valueDefault, never()).accept(integerConverter, null);
+    }
+
+    @Test
+    public void testArrayCopies() {
+        String[] first = annotation.getProperty(ARRAY, String[].class);
+        first[0] = "changed";
+
+        assertArrayEquals(new String[]{"one", "two"}, annotation.getProperty(ARRAY, String[].class));
+        verify(arrayValue, times(1)).accept(arrayConverter, null);
+    }
+
+    private static final class TestName implements Name {
+
+        private final String name;
+
+        private TestName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean contentEquals(CharSequence cs) {
+            return name.contentEquals(cs);
+        }
+
+        @Override
+        public int length() {
+            return name.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return name.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return name.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
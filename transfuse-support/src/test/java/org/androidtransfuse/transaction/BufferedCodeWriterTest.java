@@ -0,0 +1,82 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.transaction;
+
+import com.sun.codemodel.CodeWriter;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JPackage;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author John Ericksen
+ */
+public class BufferedCodeWriterTest {
+
+    private static final String TEST_PACKAGE = "org.test";
+    private static final String TEST_CLASS = "Tester";
+
+    private JCodeModel codeModel;
+    private BufferedCodeWriter bufferedCodeWriter;
+    private RecordingCodeWriter target;
+
+    @Before
+    public void setUp() throws Exception {
+        codeModel = new JCodeModel();
+        codeModel._class(TEST_PACKAGE + "." + TEST_CLASS);
+        bufferedCodeWriter = new BufferedCodeWriter();
+        target = new RecordingCodeWriter();
+    }
+
+    @Test
+    public void testBufferedRender() throws IOException {
+        codeModel.build(bufferedCodeWriter, bufferedCodeWriter);
+
+        assertEquals(1, bufferedCodeWriter.size());
+        assertTrue(target.files.isEmpty());
+
+        assertEquals(1, bufferedCodeWriter.writeTo(target));
+
+        assertTrue(target.closed);
+        String source = target.files.get(TEST_PACKAGE + ":" + TEST_CLASS + ".java").toString("UTF-8");
+        assertTrue(source.contains("class " + TEST_CLASS));
+    }
+
+    private static final class RecordingCodeWriter extends CodeWriter {
+        private final Map<String, ByteArrayOutputStream> files = new HashMap<String, ByteArrayOutputStream>();
+        private boolean closed = false;
+
+        @Override
+        public OutputStream openBinary(JPackage jPackage, String fileName) throws IOException {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            files.put(jPackage.name() + ":" + fileName, outputStream);
+            return outputStream;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class CodeGenerationScopedTransactionWorkerTest {
     private JCodeModel mockCodeModel;
     private CodeWriter mockCodeWriter;
     private CodeWriter mockResourceWriter;
+    private CodeGenerationWriter mockCodeGenerationWriter;
     private TransactionWorker<Object, Object> mockWorker;
 
 
@@ -46,9 +47,10 @@ public class CodeGenerationScopedTransactionWorkerTest {
         mockCodeModel = PowerMockito.mock(JCodeModel.class);
         mockCodeWriter = PowerMockito.mock(CodeWriter.class);
         mockResourceWriter = PowerMockito.mock(CodeWriter.class);
+        mockCodeGenerationWriter = PowerMockito.mock(CodeGenerationWriter.class);
         mockWorker = PowerMockito.mock(TransactionWorker.class);
 
-        worker = new CodeGenerationScopedTransactionWorker<Object, Object>(mockCodeModel, mockCodeWriter, mockResourceWriter, mockWorker);
+        worker = new CodeGenerationScopedTransactionWorker<Object, Object>(mockCodeModel, mockCodeWriter, mockResourceWriter, mockCodeGenerationWriter, mockWorker);
     }
 
     @Test
@@ -61,7 +63,10 @@ public class CodeGenerationScopedTransactionWorkerTest {
         worker.run(mockValue);
 
         Mockito.verify(mockWorker).run(mockValue);
-        Mockito.verify(mockCodeModel).build(mockCodeWriter, mockResourceWriter);
+        Mockito.verify(mockCodeModel).build(Mockito.any(BufferedCodeWriter.class), Mockito.any(BufferedCodeWriter.class));
+        Mockito.verify(mockCodeGenerationWriter).write(Mockito.anyLong(),
+                Mockito.any(BufferedCodeWriter.class), Mockito.eq(mockCodeWriter),
+                Mockito.any(BufferedCodeWriter.class), Mockito.eq(mockResourceWriter));
 
         Assert.assertTrue(worker.isComplete());
     }
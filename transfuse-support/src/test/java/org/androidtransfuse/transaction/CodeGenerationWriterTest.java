@@ -0,0 +1,88 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.transaction;
+
+import com.sun.codemodel.CodeWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.api.mockito.PowerMockito;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author John Ericksen
+ */
+public class CodeGenerationWriterTest {
+
+    private CodeGenerationWriter codeGenerationWriter;
+    private CodeWriter mockSourceWriter;
+    private CodeWriter mockResourceWriter;
+    private BufferedCodeWriter mockSourceBuffer;
+    private BufferedCodeWriter mockResourceBuffer;
+
+    @Before
+    public void setUp() throws IOException {
+        codeGenerationWriter = new CodeGenerationWriter();
+        mockSourceWriter = PowerMockito.mock(CodeWriter.class);
+        mockResourceWriter = PowerMockito.mock(CodeWriter.class);
+        mockSourceBuffer = PowerMockito.mock(BufferedCodeWriter.class);
+        mockResourceBuffer = PowerMockito.mock(BufferedCodeWriter.class);
+
+        when(mockResourceBuffer.writeTo(mockResourceWriter)).thenReturn(1);
+    }
+
+    @After
+    public void tearDown() {
+        codeGenerationWriter.shutdown();
+    }
+
+    @Test(timeout = 5000)
+    public void testWriteDoesNotWait() throws IOException {
+        final CountDownLatch release = new CountDownLatch(1);
+        when(mockSourceBuffer.writeTo(mockSourceWriter)).then(new Answer<Integer>() {
+            @Override
+            public Integer answer(InvocationOnMock invocation) throws InterruptedException {
+                release.await();
+                return 1;
+            }
+        });
+
+        //would block forever if write() waited on the Filer
+        codeGenerationWriter.write(0, mockSourceBuffer, mockSourceWriter, mockResourceBuffer, mockResourceWriter);
+        codeGenerationWriter.write(0, mockSourceBuffer, mockSourceWriter, mockResourceBuffer, mockResourceWriter);
+        release.countDown();
+
+        codeGenerationWriter.awaitWrites();
+
+        assertEquals(4, codeGenerationWriter.getFileCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteFailureSurfaced() throws IOException {
+        when(mockSourceBuffer.writeTo(mockSourceWriter)).thenThrow(new IOException());
+
+        codeGenerationWriter.write(0, mockSourceBuffer, mockSourceWriter, mockResourceBuffer, mockResourceWriter);
+
+        codeGenerationWriter.awaitWrites();
+    }
+}
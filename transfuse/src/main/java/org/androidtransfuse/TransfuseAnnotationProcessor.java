@@ -16,26 +16,31 @@
 package org.androidtransfuse;
 
 import org.androidtransfuse.adapter.ASTType;
-import org.androidtransfuse.adapter.element.ASTElementConverterFactory;
 import org.androidtransfuse.annotations.*;
 import org.androidtransfuse.bootstrap.Bootstrap;
 import org.androidtransfuse.bootstrap.Bootstraps;
+import org.androidtransfuse.config.CachingElements;
 import org.androidtransfuse.config.ConfigurationScope;
 import org.androidtransfuse.config.EnterableScope;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.config.TransfuseAndroidModule;
+import org.androidtransfuse.gen.OriginatingElements;
 import org.androidtransfuse.model.manifest.Manifest;
+import org.androidtransfuse.model.r.LazyRResource;
 import org.androidtransfuse.model.r.RBuilder;
 import org.androidtransfuse.model.r.RResource;
 import org.androidtransfuse.model.r.RResourceComposite;
 import org.androidtransfuse.processor.ReloadableASTElementFactory;
 import org.androidtransfuse.processor.TransfuseProcessor;
 import org.androidtransfuse.scope.ScopeKey;
+import org.androidtransfuse.transaction.CodeGenerationWriter;
 import org.androidtransfuse.util.Logger;
 import org.androidtransfuse.util.ManifestLocator;
 import org.androidtransfuse.util.ManifestSerializer;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -43,15 +48,14 @@ import javax.inject.Singleton;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import java.io.File;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
-
-import static com.google.common.collect.Collections2.transform;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Transfuse Annotation processor.  Kicks off the process of analyzing and generating code based on the compiled
@@ -62,6 +66,10 @@ import static com.google.common.collect.Collections2.transform;
  * <p/>
  * This approach is compatible with Java 6 and above.
  * <p/>
+ * Unlike the bootstrap processor, this processor is not declared to Gradle as an incremental annotation processor.
+ * It reads the project's AndroidManifest.xml from disk and merges generated entries back into that same file, outside
+ * of the Filer's locations, so Gradle could not track either the input or the output.
+ * <p/>
  * See http://androidtransfuse.org for more details
  *
  * @author John Ericksen
@@ -74,13 +82,13 @@ import static com.google.common.collect.Collections2.transform;
         Fragment.class,
         TransfuseModule.class,
         Factory.class,
-        ImplementedBy.class})
+        ImplementedBy.class,
+        Eager.class})
 @SupportedSourceVersion(SourceVersion.RELEASE_6)
+@SupportedOptions({ProcessorOptions.INSTRUMENT_SCOPES, ProcessorOptions.INJECTION_PROBES, ProcessorOptions.CACHE_FRAMEWORK_LOOKUPS})
 @Bootstrap
 public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
 
-    @Inject
-    private ASTElementConverterFactory astElementConverterFactory;
     @Inject
     private ManifestSerializer manifestParser;
     @Inject
@@ -98,6 +106,12 @@ public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
     private Provider<TransfuseProcessor> processorProvider;
     @Inject
     private Elements elements;
+    @Inject
+    private CodeGenerationWriter codeGenerationWriter;
+    @Inject
+    private CachingElements cachingElements;
+    @Inject
+    private OriginatingElements originatingElements;
     private boolean baseModuleConfiguration = false;
 
     @Override
@@ -114,6 +128,10 @@ public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
 
         long start = System.currentTimeMillis();
 
+        //Elements are rebuilt by the compiler each round
+        cachingElements.clear();
+        originatingElements.clear();
+
         //setup transfuse processor with manifest and R classes
         File manifestFile = manifestLocator.findManifest();
         Manifest manifest = manifestParser.readManifest(manifestFile);
@@ -152,6 +170,7 @@ public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
 
         transfuseProcessor.submit(TransfuseModule.class, buildASTCollection(roundEnvironment, TransfuseModule.class));
         transfuseProcessor.submit(ImplementedBy.class, buildASTCollection(roundEnvironment, ImplementedBy.class));
+        transfuseProcessor.submit(Eager.class, buildASTCollection(roundEnvironment, Eager.class));
         transfuseProcessor.submit(Factory.class, buildASTCollection(roundEnvironment, Factory.class));
         transfuseProcessor.submit(Activity.class, buildASTCollection(roundEnvironment, Activity.class));
         transfuseProcessor.submit(BroadcastReceiver.class, buildASTCollection(roundEnvironment, BroadcastReceiver.class));
@@ -160,11 +179,31 @@ public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
 
         transfuseProcessor.execute();
 
+        try {
+            //generated code is written in the background, complete the round's writes before returning
+            codeGenerationWriter.awaitWrites();
+        } catch (IOException e) {
+            throw new TransfuseAnalysisException("Unable to write generated code", e);
+        } finally {
+            if (roundEnvironment.processingOver()) {
+                codeGenerationWriter.shutdown();
+            }
+        }
+
         if (roundEnvironment.processingOver()) {
             transfuseProcessor.checkForErrors();
         }
 
         logger.info("Transfuse took " + (System.currentTimeMillis() - start) + "ms to process");
+        logger.info("Transfuse rendered " + codeGenerationWriter.getFileCount() + " files in " +
+                codeGenerationWriter.getRenderTime(TimeUnit.MILLISECONDS) + "ms, blocked " +
+                codeGenerationWriter.getBlockedTime(TimeUnit.MILLISECONDS) + "ms on Filer I/O (" +
+                codeGenerationWriter.getWriteTime(TimeUnit.MILLISECONDS) + "ms writing)");
+        codeGenerationWriter.reset();
+        logger.info("Transfuse Elements lookups: " + cachingElements.getHitCount() + " cached, " +
+                cachingElements.getMissCount() + " delegated, " +
+                cachingElements.getLockWaitTime(TimeUnit.MILLISECONDS) + "ms lock wait");
+        cachingElements.resetStatistics();
 
         configurationScope.exit();
 
@@ -174,8 +213,7 @@ public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
     private RResource buildR(RBuilder rBuilder, String className) {
         TypeElement rTypeElement = elements.getTypeElement(className);
         if (rTypeElement != null) {
-            Collection<ASTType> rInnerTypes = wrapASTCollection(ElementFilter.typesIn(rTypeElement.getEnclosedElements()));
-            return rBuilder.buildR(rInnerTypes);
+            return new LazyRResource(rBuilder, rTypeElement);
         }
         return null;
     }
@@ -183,10 +221,4 @@ public class TransfuseAnnotationProcessor extends AnnotationProcessorBase {
     private Collection<Provider<ASTType>> buildASTCollection(RoundEnvironment round, Class<? extends Annotation> annotation) {
         return reloadableASTElementFactory.buildProviders(round.getElementsAnnotatedWith(annotation));
     }
-
-    private Collection<ASTType> wrapASTCollection(Collection<? extends Element> elementCollection) {
-        return transform(elementCollection,
-                astElementConverterFactory.buildASTElementConverter(ASTType.class)
-        );
-    }
 }
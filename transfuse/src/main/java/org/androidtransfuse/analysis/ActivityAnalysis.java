@@ -36,7 +36,6 @@ import org.androidtransfuse.model.ComponentDescriptor;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.processor.ManifestManager;
 import org.androidtransfuse.scope.ContextScopeHolder;
-import org.androidtransfuse.util.TypeMirrorRunnable;
 import org.apache.commons.lang.StringUtils;
 
 import javax.inject.Inject;
@@ -136,9 +135,8 @@ public class ActivityAnalysis implements Analysis<ComponentDescriptor> {
             activityClassName = buildPackageClass(input, activityAnnotation.name());
 
             Layout layoutAnnotation = input.getAnnotation(Layout.class);
-            LayoutHandler layoutHandlerAnnotation = input.getAnnotation(LayoutHandler.class);
 
-            TypeMirror type = getTypeMirror(new ActivityTypeMirrorRunnable(activityAnnotation));
+            TypeMirror type = getTypeMirror(input, Activity.class, "type");
 
             String activityType = type == null ? android.app.Activity.class.getName() : type.toString();
 
@@ -146,9 +144,9 @@ public class ActivityAnalysis implements Analysis<ComponentDescriptor> {
 
             AnalysisContext context = analysisContextFactory.buildAnalysisContext(buildVariableBuilderMap(type));
 
-            InjectionNode layoutHandlerInjectionNode = buildLayoutHandlerInjectionNode(layoutHandlerAnnotation, context);
+            InjectionNode layoutHandlerInjectionNode = buildLayoutHandlerInjectionNode(input, context);
 
-            activityDescriptor = new ComponentDescriptor(activityType, activityClassName);
+            activityDescriptor = new ComponentDescriptor(input, activityType, activityClassName);
 
             //application generation profile
             setupActivityProfile(activityType, activityDescriptor, input, context, layout, layoutHandlerInjectionNode);
@@ -160,14 +158,12 @@ public class ActivityAnalysis implements Analysis<ComponentDescriptor> {
         return activityDescriptor;
     }
 
-    private InjectionNode buildLayoutHandlerInjectionNode(final LayoutHandler layoutHandlerAnnotation, AnalysisContext context) {
-        if (layoutHandlerAnnotation != null) {
-            TypeMirror layoutHandlerType = getTypeMirror(new LayoutHandlerTypeMirrorRunnable(layoutHandlerAnnotation));
+    private InjectionNode buildLayoutHandlerInjectionNode(ASTType input, AnalysisContext context) {
+        TypeMirror layoutHandlerType = getTypeMirror(input, LayoutHandler.class, "value");
 
-            if (layoutHandlerType != null) {
-                ASTType layoutHandlerASTType = layoutHandlerType.accept(astTypeBuilderVisitorProvider.get(), null);
-                return injectionPointFactory.buildInjectionNode(layoutHandlerASTType, context);
-            }
+        if (layoutHandlerType != null) {
+            ASTType layoutHandlerASTType = layoutHandlerType.accept(astTypeBuilderVisitorProvider.get(), null);
+            return injectionPointFactory.buildInjectionNode(layoutHandlerASTType, context);
         }
         return null;
     }
@@ -307,26 +303,4 @@ public class ActivityAnalysis implements Analysis<ComponentDescriptor> {
         return injectionNodeBuilderRepository;
 
     }
-
-    private static class ActivityTypeMirrorRunnable extends TypeMirrorRunnable<Activity> {
-        public ActivityTypeMirrorRunnable(Activity activityAnnotation) {
-            super(activityAnnotation);
-        }
-
-        @Override
-        public void run(Activity annotation) {
-            annotation.type();
-        }
-    }
-
-    private static class LayoutHandlerTypeMirrorRunnable extends TypeMirrorRunnable<LayoutHandler> {
-        public LayoutHandlerTypeMirrorRunnable(LayoutHandler layoutHandlerAnnotation) {
-            super(layoutHandlerAnnotation);
-        }
-
-        @Override
-        public void run(LayoutHandler annotation) {
-            annotation.value();
-        }
-    }
 }
\ No newline at end of file
@@ -17,13 +17,16 @@ package org.androidtransfuse.analysis;
 
 import android.content.Context;
 import android.content.res.Configuration;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.androidtransfuse.TransfuseAnalysisException;
 import org.androidtransfuse.adapter.ASTAnnotation;
 import org.androidtransfuse.adapter.ASTMethod;
+import org.androidtransfuse.adapter.ASTPrimitiveType;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.adapter.classes.ASTClassFactory;
+import org.androidtransfuse.adapter.element.ASTElementFactory;
 import org.androidtransfuse.analysis.repository.InjectionNodeBuilderRepository;
 import org.androidtransfuse.analysis.repository.InjectionNodeBuilderRepositoryFactory;
 import org.androidtransfuse.annotations.*;
@@ -31,13 +34,20 @@ import org.androidtransfuse.gen.ManifestBuilder;
 import org.androidtransfuse.gen.componentBuilder.*;
 import org.androidtransfuse.gen.variableBuilder.InjectionBindingBuilder;
 import org.androidtransfuse.model.ComponentDescriptor;
+import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.processor.ManifestManager;
 import org.androidtransfuse.scope.ContextScopeHolder;
 import org.apache.commons.lang.StringUtils;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import static org.androidtransfuse.util.AnnotationUtil.checkBlank;
 import static org.androidtransfuse.util.AnnotationUtil.checkDefault;
@@ -47,6 +57,8 @@ import static org.androidtransfuse.util.AnnotationUtil.checkDefault;
  */
 public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
 
+    private static final String ON_TRIM_MEMORY = "onTrimMemory";
+
     private final InjectionNodeBuilderRepositoryFactory variableBuilderRepositoryFactory;
     private final Provider<InjectionNodeBuilderRepository> injectionNodeBuilderRepositoryProvider;
     private final ComponentBuilderFactory componentBuilderFactory;
@@ -57,6 +69,9 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
     private final ContextScopeComponentBuilder contextScopeComponentBuilder;
     private final ObservesRegistrationGenerator observesExpressionDecorator;
     private final ManifestBuilder manifestBuilder;
+    private final InjectionPointFactory injectionPointFactory;
+    private final Elements elements;
+    private final ASTElementFactory astElementFactory;
 
     @Inject
     public ApplicationAnalysis(InjectionNodeBuilderRepositoryFactory variableBuilderRepositoryFactory,
@@ -68,7 +83,10 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
                                InjectionBindingBuilder injectionBindingBuilder,
                                ContextScopeComponentBuilder contextScopeComponentBuilder,
                                ObservesRegistrationGenerator observesExpressionDecorator,
-                               ManifestBuilder manifestBuilder) {
+                               ManifestBuilder manifestBuilder,
+                               InjectionPointFactory injectionPointFactory,
+                               Elements elements,
+                               ASTElementFactory astElementFactory) {
         this.variableBuilderRepositoryFactory = variableBuilderRepositoryFactory;
         this.injectionNodeBuilderRepositoryProvider = injectionNodeBuilderRepositoryProvider;
         this.componentBuilderFactory = componentBuilderFactory;
@@ -79,6 +97,9 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
         this.contextScopeComponentBuilder = contextScopeComponentBuilder;
         this.observesExpressionDecorator = observesExpressionDecorator;
         this.manifestBuilder = manifestBuilder;
+        this.injectionPointFactory = injectionPointFactory;
+        this.elements = elements;
+        this.astElementFactory = astElementFactory;
     }
 
     public ComponentDescriptor analyze(ASTType astType) {
@@ -96,7 +117,7 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
 
             applicationClassName = buildPackageClass(astType, applicationAnnotation.name());
 
-            applicationDescriptor = new ComponentDescriptor(android.app.Application.class.getName(), applicationClassName);
+            applicationDescriptor = new ComponentDescriptor(astType, android.app.Application.class.getName(), applicationClassName);
 
             //analyze delegate
             AnalysisContext analysisContext = analysisContextFactory.buildAnalysisContext(buildVariableBuilderMap());
@@ -130,8 +151,17 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
 
         applicationDescriptor.setInjectionNodeFactory(componentBuilderFactory.buildInjectionNodeFactory(ImmutableSet.<ASTAnnotation>of(), astType, context));
 
-        //onLowMemory
-        applicationDescriptor.addGenerators(buildEventMethod(OnLowMemory.class, "onLowMemory"));
+        //onLowMemory, always generated to trim the evicting scopes
+        applicationDescriptor.addGenerators(
+                componentBuilderFactory.buildLowMemoryScopesGenerator(astClassFactory.getType(OnLowMemory.class),
+                        componentBuilderFactory.buildMirroredMethodGenerator(getASTMethod("onLowMemory"), true)));
+        //onTrimMemory, only available when building against API 14 or later
+        ASTMethod onTrimMemoryASTMethod = getCompiledASTMethod(ON_TRIM_MEMORY, ASTPrimitiveType.INT);
+        if (onTrimMemoryASTMethod != null) {
+            applicationDescriptor.addGenerators(
+                    componentBuilderFactory.buildLowMemoryScopesGenerator(astClassFactory.getType(OnTrimMemory.class),
+                            componentBuilderFactory.buildMirroredMethodGenerator(onTrimMemoryASTMethod, true)));
+        }
         //onTerminate
         applicationDescriptor.addGenerators(buildEventMethod(OnTerminate.class, "onTerminate"));
         //onConfigurationChanged
@@ -143,6 +173,16 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
         applicationDescriptor.addGenerators(contextScopeComponentBuilder);
 
         applicationDescriptor.addRegistration(observesExpressionDecorator);
+
+        //eager singletons
+        ImmutableList.Builder<InjectionNode> eagerInjectionNodes = ImmutableList.builder();
+        List<ASTType> eagerTypes = new ArrayList<ASTType>(variableBuilderRepositoryFactory.getInstalledAnnotatedWith(Eager.class));
+        // stable generation order
+        Collections.sort(eagerTypes, new ASTTypeNameComparator());
+        for (ASTType eagerType : eagerTypes) {
+            eagerInjectionNodes.add(injectionPointFactory.buildInjectionNode(eagerType, context));
+        }
+        applicationDescriptor.addRegistration(componentBuilderFactory.buildEagerSingletonGenerator(eagerInjectionNodes.build()));
     }
 
     private MethodCallbackGenerator buildEventMethod(Class<? extends Annotation> eventAnnotationClass, String methodName) {
@@ -161,6 +201,34 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
         }
     }
 
+    /**
+     * Looks up the given Application method in the android.jar the application is compiled against, rather than the one
+     * Transfuse is built against, so methods of newer API levels are found.
+     */
+    private ASTMethod getCompiledASTMethod(String methodName, ASTType... args) {
+        TypeElement applicationElement = elements.getTypeElement(android.app.Application.class.getName());
+        if (applicationElement != null) {
+            for (ASTMethod method : astElementFactory.getType(applicationElement).getMethods()) {
+                if (method.getName().equals(methodName) && matches(method, args)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(ASTMethod method, ASTType... args) {
+        if (method.getParameters().size() != args.length) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (!method.getParameters().get(i).getASTType().equals(args[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private InjectionNodeBuilderRepository buildVariableBuilderMap() {
         InjectionNodeBuilderRepository injectionNodeBuilderRepository = injectionNodeBuilderRepositoryProvider.get();
 
@@ -200,4 +268,11 @@ public class ApplicationAnalysis implements Analysis<ComponentDescriptor> {
         manifestApplication.setUiOptions(checkDefault(annotation.uiOptions(), UIOptions.NONE));
         manifestManager.setApplication(manifestApplication);
     }
+
+    private static final class ASTTypeNameComparator implements Comparator<ASTType> {
+        @Override
+        public int compare(ASTType first, ASTType second) {
+            return first.getName().compareTo(second.getName());
+        }
+    }
 }
@@ -26,7 +26,6 @@ import org.androidtransfuse.gen.componentBuilder.ObservesRegistrationGenerator;
 import org.androidtransfuse.model.ComponentDescriptor;
 import org.androidtransfuse.model.manifest.Receiver;
 import org.androidtransfuse.processor.ManifestManager;
-import org.androidtransfuse.util.TypeMirrorRunnable;
 import org.apache.commons.lang.StringUtils;
 
 import javax.inject.Inject;
@@ -85,10 +84,10 @@ public class BroadcastReceiverAnalysis implements Analysis<ComponentDescriptor>
         } else {
             receiverClassName = buildPackageClass(astType, broadcastReceiver.name());
 
-            TypeMirror type = getTypeMirror(new ReceiverTypeRunnable(broadcastReceiver));
+            TypeMirror type = getTypeMirror(astType, BroadcastReceiver.class, "type");
             String receiverType = buildReceiverType(type);
 
-            receiverDescriptor = new ComponentDescriptor(receiverType, receiverClassName);
+            receiverDescriptor = new ComponentDescriptor(astType, receiverType, receiverClassName);
 
             receiverDescriptor.setInjectionNodeFactory(componentBuilderFactory.buildBroadcastReceiverInjectionNodeFactory(astType));
 
@@ -145,16 +144,4 @@ public class BroadcastReceiverAnalysis implements Analysis<ComponentDescriptor>
             return inputPackageClass.replaceName(className);
         }
     }
-
-    private static final class ReceiverTypeRunnable extends TypeMirrorRunnable<BroadcastReceiver> {
-        private ReceiverTypeRunnable(BroadcastReceiver receiverAnnotation) {
-            super(receiverAnnotation);
-        }
-
-        @Override
-        public void run(BroadcastReceiver annotation) {
-            //accessing this throws an exception, caught in TypeMirrorUtil
-            annotation.type();
-        }
-    }
 }
@@ -45,7 +45,6 @@ import org.androidtransfuse.gen.componentBuilder.ObservesRegistrationGenerator;
 import org.androidtransfuse.gen.variableBuilder.*;
 import org.androidtransfuse.model.ComponentDescriptor;
 import org.androidtransfuse.scope.ContextScopeHolder;
-import org.androidtransfuse.util.TypeMirrorRunnable;
 import org.apache.commons.lang.StringUtils;
 
 import javax.inject.Inject;
@@ -118,7 +117,7 @@ public class FragmentAnalysis implements Analysis<ComponentDescriptor> {
 
             Layout layoutAnnotation = astType.getAnnotation(Layout.class);
 
-            TypeMirror type = getTypeMirror(new FragmentTypeMirrorRunnable(fragmentAnnotation));
+            TypeMirror type = getTypeMirror(astType, Fragment.class, "type");
 
             ASTType fragmentType = type == null ? astClassFactory.getType(android.support.v4.app.Fragment.class)
                     : type.accept(astTypeBuilderVisitor, null);
@@ -128,7 +127,7 @@ public class FragmentAnalysis implements Analysis<ComponentDescriptor> {
 
             AnalysisContext context = analysisContextFactory.buildAnalysisContext(buildVariableBuilderMap(type));
 
-            fragmentDescriptor = new ComponentDescriptor(fragmentType.getName(), fragmentClassName);
+            fragmentDescriptor = new ComponentDescriptor(astType, fragmentType.getName(), fragmentClassName);
 
             //application generation profile
             setupFragmentProfile(fragmentDescriptor, astType, fragmentType, context, layout);
@@ -241,17 +240,4 @@ public class FragmentAnalysis implements Analysis<ComponentDescriptor> {
             return inputPackageClass.replaceName(fragmentName);
         }
     }
-
-    private static final class FragmentTypeMirrorRunnable extends TypeMirrorRunnable<Fragment> {
-        public FragmentTypeMirrorRunnable(Fragment fragmentAnnotation) {
-            super(fragmentAnnotation);
-        }
-
-        @Override
-        public void run(Fragment annotation) {
-            annotation.type();
-        }
-
-
-    }
 }
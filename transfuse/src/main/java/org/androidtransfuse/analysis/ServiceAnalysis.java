@@ -42,7 +42,6 @@ import org.androidtransfuse.model.MethodDescriptor;
 import org.androidtransfuse.model.TypedExpression;
 import org.androidtransfuse.processor.ManifestManager;
 import org.androidtransfuse.scope.ContextScopeHolder;
-import org.androidtransfuse.util.TypeMirrorRunnable;
 import org.apache.commons.lang.StringUtils;
 
 import javax.inject.Inject;
@@ -123,13 +122,13 @@ public class ServiceAnalysis implements Analysis<ComponentDescriptor> {
             //generated Android Service
             serviceClassName = buildPackageClass(input, serviceAnnotation.name());
 
-            TypeMirror type = getTypeMirror(new ServiceTypeMirrorRunnable(serviceAnnotation));
+            TypeMirror type = getTypeMirror(input, Service.class, "type");
 
             String serviceType = type == null ? android.app.Service.class.getName() : type.toString();
 
             AnalysisContext context = analysisContextFactory.buildAnalysisContext(buildVariableBuilderMap(type));
 
-            activityDescriptor = new ComponentDescriptor(serviceType, serviceClassName);
+            activityDescriptor = new ComponentDescriptor(input, serviceType, serviceClassName);
 
             //application generation profile
             setupServiceProfile(activityDescriptor, input, context);
@@ -245,17 +244,6 @@ public class ServiceAnalysis implements Analysis<ComponentDescriptor> {
 
     }
 
-    private static class ServiceTypeMirrorRunnable extends TypeMirrorRunnable<Service> {
-        public ServiceTypeMirrorRunnable(Service serviceAnnotation) {
-            super(serviceAnnotation);
-        }
-
-        @Override
-        public void run(Service annotation) {
-            annotation.type();
-        }
-    }
-
     private static class OnBindGenerator implements ExpressionVariableDependentGenerator {
         @Override
         public void generate(JDefinedClass definedClass, MethodDescriptor methodDescriptor, Map<InjectionNode, TypedExpression> expressionMap, ComponentDescriptor descriptor, JExpression scopesExpression) {
@@ -21,10 +21,13 @@ import org.androidtransfuse.analysis.AnalysisContext;
 import org.androidtransfuse.analysis.astAnalyzer.validation.AnnotationValidator;
 import org.androidtransfuse.analysis.astAnalyzer.validation.AnnotationValidatorBuilder;
 import org.androidtransfuse.annotations.*;
+import org.androidtransfuse.aop.ListenableFuture;
 import org.androidtransfuse.model.InjectionNode;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import java.util.Arrays;
+import java.util.concurrent.Future;
 
 /**
  * @author John Ericksen
@@ -44,11 +47,17 @@ public class AnnotationValidationAnalysis implements ASTAnalysis {
         builder.given(Resource.class).requires(Inject.class, "@Resource annotation must be accompanied by @Inject");
         builder.given(SystemService.class).requires(Inject.class, "@SystemService annotation must be accompanied by @Inject");
 
+        //aop
+        builder.given(Asynchronous.class).returns(Arrays.asList(ASTVoidType.VOID.getName(), Future.class.getName(), ListenableFuture.class.getName()),
+                "@Asynchronous methods must return void, Future or ListenableFuture");
+
         //activity metadata
         builder.given(Layout.class).requires(Arrays.asList(Activity.class, Fragment.class), "@Layout annotation must be accompanied by @Activity");
         builder.given(LayoutHandler.class).requires(Arrays.asList(Activity.class, Fragment.class), "@LayoutHandler annotation must be accompanied by @Activity");
         builder.given(MetaData.class).requires(Activity.class, "@MetaData annotation must be accompanied by @Activity");
         builder.given(MetaDataSet.class).requires(Activity.class, "@MetaDataSet annotation must be accompanied by @Activity");
+        builder.given(ConcurrentContextScope.class).requires(Activity.class, "@ConcurrentContextScope annotation must be accompanied by @Activity");
+        builder.given(Eager.class).requires(Singleton.class, "@Eager annotation must be accompanied by @Singleton");
         builder.given(Activity.class).parameterMatches("name", "^[a-zA-Z][a-zA-Z0-9_]*$", "@Activity name parameter must follow Java Bean syntax");
         builder.given(Service.class).parameterMatches("name", "^[a-zA-Z][a-zA-Z0-9_]*$", "@Service name parameter must follow Java Bean syntax");
         builder.given(Fragment.class).parameterMatches("name", "^[a-zA-Z][a-zA-Z0-9_]*$", "@Fragment name parameter must follow Java Bean syntax");
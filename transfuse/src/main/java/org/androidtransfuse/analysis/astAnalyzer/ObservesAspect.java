@@ -18,6 +18,7 @@ package org.androidtransfuse.analysis.astAnalyzer;
 import org.androidtransfuse.adapter.ASTMethod;
 import org.androidtransfuse.adapter.ASTMethodUniqueSignatureDecorator;
 import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.model.CopyableAspect;
 import org.androidtransfuse.model.InjectionNode;
 
 import java.util.*;
@@ -25,7 +26,7 @@ import java.util.*;
 /**
  * @author John Ericksen
  */
-public class ObservesAspect {
+public class ObservesAspect implements CopyableAspect<ObservesAspect> {
 
     private final Map<ASTType, Set<ASTMethod>> observesMap = new HashMap<ASTType, Set<ASTMethod>>();
     private final InjectionNode observerTendingInjectionNode;
@@ -57,4 +58,13 @@ public class ObservesAspect {
     public InjectionNode getObserverTendingInjectionNode() {
         return observerTendingInjectionNode;
     }
+
+    @Override
+    public ObservesAspect copy(InjectionNodeCopier copier) {
+        ObservesAspect copy = new ObservesAspect(copier.copy(observerTendingInjectionNode));
+        for (Map.Entry<ASTType, Set<ASTMethod>> observesEntry : observesMap.entrySet()) {
+            copy.observesMap.put(observesEntry.getKey(), new HashSet<ASTMethod>(observesEntry.getValue()));
+        }
+        return copy;
+    }
 }
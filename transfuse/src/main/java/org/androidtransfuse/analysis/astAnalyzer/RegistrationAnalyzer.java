@@ -252,6 +252,11 @@ public class RegistrationAnalyzer implements ASTAnalysis {
             return annotation.getProperty(name, type);
         }
 
+        @Override
+        public <T> T getPropertyOrDefault(String name, Class<T> type) {
+            return annotation.getPropertyOrDefault(name, type);
+        }
+
         @Override
         public ASTType getASTType() {
             return astType;
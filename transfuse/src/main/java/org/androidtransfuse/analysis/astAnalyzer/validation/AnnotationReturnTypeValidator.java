@@ -0,0 +1,48 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.analysis.astAnalyzer.validation;
+
+import com.google.common.collect.ImmutableSet;
+import org.androidtransfuse.adapter.ASTAnnotation;
+import org.androidtransfuse.adapter.ASTBase;
+import org.androidtransfuse.adapter.ASTMethod;
+import org.androidtransfuse.validation.Validator;
+
+/**
+ * @author John Ericksen
+ */
+public class AnnotationReturnTypeValidator implements AnnotationValidator {
+
+    private final Validator validator;
+    private final ImmutableSet<String> returnTypes;
+    private final String message;
+
+    public AnnotationReturnTypeValidator(Validator validator, ImmutableSet<String> returnTypes, String message) {
+        this.validator = validator;
+        this.returnTypes = returnTypes;
+        this.message = message;
+    }
+
+    @Override
+    public void validate(ASTAnnotation annotation, ASTBase astBase, ImmutableSet<ASTAnnotation> applicableAnnotations) {
+        if(astBase instanceof ASTMethod && !returnTypes.contains(((ASTMethod) astBase).getReturnType().getName())){
+            validator.error(message)
+                    .element(astBase)
+                    .annotation(annotation)
+                    .build();
+        }
+    }
+}
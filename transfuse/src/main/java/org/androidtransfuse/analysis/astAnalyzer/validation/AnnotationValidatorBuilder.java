@@ -96,6 +96,10 @@ public class AnnotationValidatorBuilder {
             annotationValidator = new AnnotationAccompaniesValidator(validator, annotationTypes.build(), message);
         }
 
+        public void returns(List<String> returnTypes, String message) {
+            annotationValidator = new AnnotationReturnTypeValidator(validator, ImmutableSet.copyOf(returnTypes), message);
+        }
+
         public void parameterMatches(String parameterName, String regex, String message) {
             annotationValidator = new AnnotationParameterRegexValidator(regex, parameterName, validator, message);
         }
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.analysis.module;
+
+import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.annotations.Eager;
+import org.androidtransfuse.transaction.AbstractCompletionTransactionWorker;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Registers the annotated @Eager singleton with the module repository, to be built by the generated Application.
+ *
+ * @author John Ericksen
+ */
+public class EagerTransactionWorker extends AbstractCompletionTransactionWorker<Provider<ASTType>, Void> {
+
+    private final ModuleRepository moduleRepository;
+
+    @Inject
+    public EagerTransactionWorker(ModuleRepository moduleRepository) {
+        this.moduleRepository = moduleRepository;
+    }
+
+    @Override
+    public Void innerRun(Provider<ASTType> astTypeProvider) {
+
+        ASTType astType = astTypeProvider.get();
+
+        if (astType.isAnnotated(Eager.class)) {
+            moduleRepository.addInstalledComponents(new ASTType[]{astType});
+        }
+
+        return null;
+    }
+}
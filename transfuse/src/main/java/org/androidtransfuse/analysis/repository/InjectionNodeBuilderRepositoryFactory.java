@@ -26,7 +26,11 @@ import com.sun.codemodel.JExpr;
 import org.androidtransfuse.adapter.ASTStringType;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.analysis.module.ModuleRepository;
+import org.androidtransfuse.annotations.Eager;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.gen.variableBuilder.InjectionBindingBuilder;
+import org.androidtransfuse.gen.variableBuilder.VariableInjectionBuilderFactory;
+import org.androidtransfuse.util.FrameworkLookupCache;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -129,16 +133,22 @@ public class InjectionNodeBuilderRepositoryFactory implements ModuleRepository {
     private final InjectionBindingBuilder injectionBindingBuilder;
     private final Provider<InjectionNodeBuilderRepository> injectionNodeBuilderRepositoryProvider;
     private final ScopeAspectFactoryRepositoryProvider scopeAspectFactoryRepositoryProvider;
+    private final VariableInjectionBuilderFactory variableInjectionBuilderFactory;
+    private final ProcessorOptions processorOptions;
 
     @Inject
     public InjectionNodeBuilderRepositoryFactory(InjectionBindingBuilder injectionBindingBuilder,
                                                  Provider<InjectionNodeBuilderRepository> injectionNodeBuilderRepositoryProvider,
                                                  ScopeAspectFactoryRepositoryProvider scopeAspectFactoryRepositoryProvider,
-                                                 InjectionNodeRepository repository) {
+                                                 InjectionNodeRepository repository,
+                                                 VariableInjectionBuilderFactory variableInjectionBuilderFactory,
+                                                 ProcessorOptions processorOptions) {
         this.injectionBindingBuilder = injectionBindingBuilder;
         this.injectionNodeBuilderRepositoryProvider = injectionNodeBuilderRepositoryProvider;
         this.scopeAspectFactoryRepositoryProvider = scopeAspectFactoryRepositoryProvider;
         this.repository = repository;
+        this.variableInjectionBuilderFactory = variableInjectionBuilderFactory;
+        this.processorOptions = processorOptions;
     }
 
     public InjectionNodeBuilderRepository buildApplicationInjections() {
@@ -151,8 +161,14 @@ public class InjectionNodeBuilderRepositoryFactory implements ModuleRepository {
 
         //system services
         for (Map.Entry<String, ASTType> systemServiceEntry : SYSTEM_SERVICES.entrySet()) {
-            builderRepository.putType(systemServiceEntry.getValue(),
-                    injectionBindingBuilder.dependency(Context.class).invoke(Object.class, "getSystemService").arg(JExpr.lit(systemServiceEntry.getKey())).build());
+            if (processorOptions.isCacheFrameworkLookups() && FrameworkLookupCache.isCacheableService(systemServiceEntry.getKey())) {
+                builderRepository.putType(systemServiceEntry.getValue(),
+                        injectionBindingBuilder.dependency(Context.class).invoke(Object.class,
+                                variableInjectionBuilderFactory.buildCachedSystemServiceVariableBuilder(systemServiceEntry.getKey())).build());
+            } else {
+                builderRepository.putType(systemServiceEntry.getValue(),
+                        injectionBindingBuilder.dependency(Context.class).invoke(Object.class, "getSystemService").arg(JExpr.lit(systemServiceEntry.getKey())).build());
+            }
         }
 
         builderRepository.putType(SharedPreferences.class,
@@ -165,7 +181,7 @@ public class InjectionNodeBuilderRepositoryFactory implements ModuleRepository {
     public InjectionNodeBuilderRepository buildModuleConfiguration() {
         InjectionNodeBuilderRepository builderRepository = injectionNodeBuilderRepositoryProvider.get();
         builderRepository.addRepository(this.repository.moduleRepository);
-        builderRepository.addRepository(scopeAspectFactoryRepositoryProvider.get());
+        builderRepository.addRepository(scopeAspectFactoryRepositoryProvider.get(!getInstalledAnnotatedWith(Eager.class).isEmpty()));
         builderRepository.addRepository(injectionNodeBuilderRepositoryProvider.get());
 
         return builderRepository;
@@ -175,9 +191,11 @@ public class InjectionNodeBuilderRepositoryFactory implements ModuleRepository {
     public Collection<ASTType> getInstalledAnnotatedWith(Class<? extends Annotation> annotation) {
         ImmutableSet.Builder<ASTType> installedBuilder = ImmutableSet.builder();
 
-        for (ASTType installedComponent : repository.installedComponents) {
-            if(installedComponent.isAnnotated(annotation)){
-                installedBuilder.add(installedComponent);
+        synchronized (repository.installedComponents) {
+            for (ASTType installedComponent : repository.installedComponents) {
+                if(installedComponent.isAnnotated(annotation)){
+                    installedBuilder.add(installedComponent);
+                }
             }
         }
 
@@ -186,7 +204,9 @@ public class InjectionNodeBuilderRepositoryFactory implements ModuleRepository {
 
     @Override
     public void addInstalledComponents(ASTType[] astType) {
-        repository.installedComponents.addAll(Arrays.asList(astType));
+        synchronized (repository.installedComponents) {
+            repository.installedComponents.addAll(Arrays.asList(astType));
+        }
     }
 
     @Override
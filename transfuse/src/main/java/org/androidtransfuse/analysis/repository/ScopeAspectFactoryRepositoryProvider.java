@@ -19,9 +19,13 @@ import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.adapter.classes.ASTClassFactory;
 import org.androidtransfuse.annotations.ContextScope;
 import org.androidtransfuse.annotations.TransfuseModule;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.gen.scopeBuilder.ContextScopeAspectFactory;
 import org.androidtransfuse.gen.scopeBuilder.SingletonScopeAspectFactory;
 import org.androidtransfuse.scope.ConcurrentDoubleLockingScope;
+import org.androidtransfuse.scope.ConcurrentFutureScope;
+import org.androidtransfuse.scope.InstrumentedFutureScope;
+import org.androidtransfuse.scope.InstrumentedScope;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -35,25 +39,57 @@ public class ScopeAspectFactoryRepositoryProvider implements Provider<InjectionN
     private final SingletonScopeAspectFactory singletonScopeAspectFactory;
     private final ContextScopeAspectFactory contextScopeAspectFactory;
     private final ASTClassFactory astClassFactory;
+    private final ProcessorOptions processorOptions;
 
     @Inject
     public ScopeAspectFactoryRepositoryProvider(SingletonScopeAspectFactory singletonScopeAspectFactory,
                                                 ContextScopeAspectFactory contextScopeAspectFactory,
-                                                ASTClassFactory astClassFactory) {
+                                                ASTClassFactory astClassFactory,
+                                                ProcessorOptions processorOptions) {
         this.singletonScopeAspectFactory = singletonScopeAspectFactory;
         this.contextScopeAspectFactory = contextScopeAspectFactory;
         this.astClassFactory = astClassFactory;
+        this.processorOptions = processorOptions;
     }
 
 
     @Override
     public InjectionNodeBuilderRepository get() {
+        return get(false);
+    }
+
+    /**
+     * Builds the scope repository.  `ConcurrentFutureScope` publishes constructions in progress so that @Eager
+     * singletons built on background threads are not duplicated, at the cost of cross thread waiting, so it backs the
+     * singleton scope only when @Eager singletons are installed.  The same rule picks the delegate of the instrumented
+     * scopes.
+     *
+     * @param eagerSingletons if any @Eager singletons are installed
+     * @return scope repository
+     */
+    public InjectionNodeBuilderRepository get(boolean eagerSingletons) {
         InjectionNodeBuilderRepository scopedVariableBuilderRepository = new InjectionNodeBuilderRepository(astClassFactory);
 
-        ASTType concurrentScopeType = astClassFactory.getType(ConcurrentDoubleLockingScope.class);
+        ASTType singletonScopeType;
+        ASTType concurrentScopeType;
+        if (processorOptions.isInstrumentScopes()) {
+            concurrentScopeType = astClassFactory.getType(InstrumentedScope.class);
+            if (eagerSingletons) {
+                singletonScopeType = astClassFactory.getType(InstrumentedFutureScope.class);
+            } else {
+                singletonScopeType = concurrentScopeType;
+            }
+        } else {
+            concurrentScopeType = astClassFactory.getType(ConcurrentDoubleLockingScope.class);
+            if (eagerSingletons) {
+                singletonScopeType = astClassFactory.getType(ConcurrentFutureScope.class);
+            } else {
+                singletonScopeType = concurrentScopeType;
+            }
+        }
 
-        scopedVariableBuilderRepository.putScopeAspectFactory(astClassFactory.getType(TransfuseModule.class), concurrentScopeType, singletonScopeAspectFactory);
-        scopedVariableBuilderRepository.putScopeAspectFactory(astClassFactory.getType(Singleton.class), concurrentScopeType, singletonScopeAspectFactory);
+        scopedVariableBuilderRepository.putScopeAspectFactory(astClassFactory.getType(TransfuseModule.class), singletonScopeType, singletonScopeAspectFactory);
+        scopedVariableBuilderRepository.putScopeAspectFactory(astClassFactory.getType(Singleton.class), singletonScopeType, singletonScopeAspectFactory);
         scopedVariableBuilderRepository.putScopeAspectFactory(astClassFactory.getType(ContextScope.class), concurrentScopeType, contextScopeAspectFactory);
 
         return scopedVariableBuilderRepository;
@@ -0,0 +1,314 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.config;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe, read-through caching Elements wrapper.  The idempotent lookups are memoized in concurrent per-key caches
+ * and served without locking, while calls reaching the (non thread safe) compiler Elements are serialized on a single
+ * lock.  The time spent waiting on this lock is tracked to gauge contention.
+ *
+ * As the compiler rebuilds its Elements between rounds, the caches must be cleared at the start of each round via
+ * `clear()`.
+ *
+ * @author John Ericksen
+ */
+@Singleton
+public class CachingElements implements Elements {
+
+    private final Elements elements;
+    private final Lock delegateLock = new ReentrantLock();
+    private final ConcurrentMap<String, PackageElement> packageElements = new ConcurrentHashMap<String, PackageElement>();
+    private final ConcurrentMap<String, TypeElement> typeElements = new ConcurrentHashMap<String, TypeElement>();
+    private final ConcurrentMap<AnnotationMirror, Map<? extends ExecutableElement, ? extends AnnotationValue>> elementValuesWithDefaults = new ConcurrentHashMap<AnnotationMirror, Map<? extends ExecutableElement, ? extends AnnotationValue>>();
+    private final ConcurrentMap<TypeElement, Name> binaryNames = new ConcurrentHashMap<TypeElement, Name>();
+    private final ConcurrentMap<Element, PackageElement> packages = new ConcurrentHashMap<Element, PackageElement>();
+    private final ConcurrentMap<TypeElement, List<? extends Element>> allMembers = new ConcurrentHashMap<TypeElement, List<? extends Element>>();
+    private final ConcurrentMap<Element, List<? extends AnnotationMirror>> allAnnotationMirrors = new ConcurrentHashMap<Element, List<? extends AnnotationMirror>>();
+    private final ConcurrentMap<String, Name> names = new ConcurrentHashMap<String, Name>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong lockWaitNanos = new AtomicLong();
+
+    @Inject
+    public CachingElements(ProcessingEnvironment processingEnvironment) {
+        this(processingEnvironment.getElementUtils());
+    }
+
+    public CachingElements(Elements elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public PackageElement getPackageElement(CharSequence charSequence) {
+        String key = charSequence.toString();
+        PackageElement packageElement = packageElements.get(key);
+        if (packageElement == null) {
+            lock();
+            try {
+                packageElement = elements.getPackageElement(charSequence);
+            } finally {
+                delegateLock.unlock();
+            }
+            //missing elements may be generated in a later round, so only existing elements are cached
+            if (packageElement != null) {
+                packageElements.putIfAbsent(key, packageElement);
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+        return packageElement;
+    }
+
+    @Override
+    public TypeElement getTypeElement(CharSequence charSequence) {
+        String key = charSequence.toString();
+        TypeElement typeElement = typeElements.get(key);
+        if (typeElement == null) {
+            lock();
+            try {
+                typeElement = elements.getTypeElement(charSequence);
+            } finally {
+                delegateLock.unlock();
+            }
+            if (typeElement != null) {
+                typeElements.putIfAbsent(key, typeElement);
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+        return typeElement;
+    }
+
+    @Override
+    public Map<? extends ExecutableElement, ? extends AnnotationValue> getElementValuesWithDefaults(AnnotationMirror annotationMirror) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = elementValuesWithDefaults.get(annotationMirror);
+        if (values == null) {
+            lock();
+            try {
+                values = Collections.unmodifiableMap(elements.getElementValuesWithDefaults(annotationMirror));
+            } finally {
+                delegateLock.unlock();
+            }
+            elementValuesWithDefaults.putIfAbsent(annotationMirror, values);
+        } else {
+            hits.incrementAndGet();
+        }
+        return values;
+    }
+
+    @Override
+    public String getDocComment(Element element) {
+        lock();
+        try {
+            return elements.getDocComment(element);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isDeprecated(Element element) {
+        lock();
+        try {
+            return elements.isDeprecated(element);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public Name getBinaryName(TypeElement typeElement) {
+        Name binaryName = binaryNames.get(typeElement);
+        if (binaryName == null) {
+            lock();
+            try {
+                binaryName = elements.getBinaryName(typeElement);
+            } finally {
+                delegateLock.unlock();
+            }
+            binaryNames.putIfAbsent(typeElement, binaryName);
+        } else {
+            hits.incrementAndGet();
+        }
+        return binaryName;
+    }
+
+    @Override
+    public PackageElement getPackageOf(Element element) {
+        PackageElement packageElement = packages.get(element);
+        if (packageElement == null) {
+            lock();
+            try {
+                packageElement = elements.getPackageOf(element);
+            } finally {
+                delegateLock.unlock();
+            }
+            packages.putIfAbsent(element, packageElement);
+        } else {
+            hits.incrementAndGet();
+        }
+        return packageElement;
+    }
+
+    @Override
+    public List<? extends Element> getAllMembers(TypeElement typeElement) {
+        List<? extends Element> members = allMembers.get(typeElement);
+        if (members == null) {
+            lock();
+            try {
+                members = Collections.unmodifiableList(elements.getAllMembers(typeElement));
+            } finally {
+                delegateLock.unlock();
+            }
+            allMembers.putIfAbsent(typeElement, members);
+        } else {
+            hits.incrementAndGet();
+        }
+        return members;
+    }
+
+    @Override
+    public List<? extends AnnotationMirror> getAllAnnotationMirrors(Element element) {
+        List<? extends AnnotationMirror> annotationMirrors = allAnnotationMirrors.get(element);
+        if (annotationMirrors == null) {
+            lock();
+            try {
+                annotationMirrors = Collections.unmodifiableList(elements.getAllAnnotationMirrors(element));
+            } finally {
+                delegateLock.unlock();
+            }
+            allAnnotationMirrors.putIfAbsent(element, annotationMirrors);
+        } else {
+            hits.incrementAndGet();
+        }
+        return annotationMirrors;
+    }
+
+    @Override
+    public boolean hides(Element element, Element element1) {
+        lock();
+        try {
+            return elements.hides(element, element1);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean overrides(ExecutableElement executableElement, ExecutableElement executableElement1, TypeElement typeElement) {
+        lock();
+        try {
+            return elements.overrides(executableElement, executableElement1, typeElement);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public String getConstantExpression(Object o) {
+        lock();
+        try {
+            return elements.getConstantExpression(o);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public void printElements(Writer writer, Element... elements) {
+        lock();
+        try {
+            this.elements.printElements(writer, elements);
+        } finally {
+            delegateLock.unlock();
+        }
+    }
+
+    @Override
+    public Name getName(CharSequence charSequence) {
+        String key = charSequence.toString();
+        Name name = names.get(key);
+        if (name == null) {
+            lock();
+            try {
+                name = elements.getName(charSequence);
+            } finally {
+                delegateLock.unlock();
+            }
+            names.putIfAbsent(key, name);
+        } else {
+            hits.incrementAndGet();
+        }
+        return name;
+    }
+
+    private void lock() {
+        misses.incrementAndGet();
+        if (!delegateLock.tryLock()) {
+            long start = System.nanoTime();
+            delegateLock.lock();
+            lockWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Clears the cached lookups, required between processing rounds.
+     */
+    public void clear() {
+        packageElements.clear();
+        typeElements.clear();
+        elementValuesWithDefaults.clear();
+        binaryNames.clear();
+        packages.clear();
+        allMembers.clear();
+        allAnnotationMirrors.clear();
+        names.clear();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getLockWaitTime(TimeUnit unit) {
+        return unit.convert(lockWaitNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        lockWaitNanos.set(0);
+    }
+}
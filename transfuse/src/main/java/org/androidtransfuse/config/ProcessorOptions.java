@@ -0,0 +1,89 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.config;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Typed view of the `-A` options passed to the annotation processor.
+ *
+ * @author John Ericksen
+ */
+@Singleton
+public class ProcessorOptions {
+
+    public static final String INSTRUMENT_SCOPES = "transfuse.instrumentScopes";
+    public static final String INJECTION_PROBES = "transfuse.injectionProbes";
+    public static final String CACHE_FRAMEWORK_LOOKUPS = "transfuse.cacheFrameworkLookups";
+
+    private final Map<String, String> options;
+
+    @Inject
+    public ProcessorOptions(ProcessingEnvironment processingEnvironment) {
+        this(processingEnvironment.getOptions());
+    }
+
+    public ProcessorOptions(Map<String, String> options) {
+        if (options == null) {
+            this.options = Collections.emptyMap();
+        } else {
+            this.options = options;
+        }
+    }
+
+    /**
+     * Determines if the generated Singleton and Context scopes should record construction timings and hit/miss counts
+     * via the `InstrumentedScope`.
+     *
+     * @return instrument scopes
+     */
+    public boolean isInstrumentScopes() {
+        return isEnabled(INSTRUMENT_SCOPES);
+    }
+
+    /**
+     * Determines if generated components should report the timing of their injection, registration and callback
+     * phases to `InjectionProbes`.
+     *
+     * @return generate injection probes
+     */
+    public boolean isInjectionProbes() {
+        return isEnabled(INJECTION_PROBES);
+    }
+
+    /**
+     * Determines if `@Resource` and `@SystemService` lookups should be memoized application wide through the
+     * `FrameworkLookupCache`.
+     *
+     * @return cache framework lookups
+     */
+    public boolean isCacheFrameworkLookups() {
+        return isEnabled(CACHE_FRAMEWORK_LOOKUPS);
+    }
+
+    private boolean isEnabled(String option) {
+        if (!options.containsKey(option)) {
+            return false;
+        }
+        String value = options.get(option);
+        // a bare -Aoption is treated as enabled
+        return value == null || Boolean.parseBoolean(value);
+    }
+}
@@ -90,8 +90,8 @@ public class TransfuseAndroidModule {
 
     @Provides
     @Singleton
-    public Elements getElements(ProcessingEnvironment processingEnvironment){
-        return new SynchronizedElements(processingEnvironment.getElementUtils());
+    public Elements getElements(CachingElements cachingElements){
+        return cachingElements;
     }
 
     @Provides
@@ -143,8 +143,9 @@ public class TransfuseAndroidModule {
     public TransactionWorker<Void, Void> getVirtualProxyTransactionWorker(JCodeModel codeModel,
                                                                                           FilerSourceCodeWriter codeWriter,
                                                                                           FilerResourceWriter resourceWriter,
+                                                                                          CodeGenerationWriter codeGenerationWriter,
                                                                                           VirtualProxyTransactionWorker worker) {
-        return new CodeGenerationScopedTransactionWorker<Void, Void>(codeModel, codeWriter, resourceWriter, worker);
+        return new CodeGenerationScopedTransactionWorker<Void, Void>(codeModel, codeWriter, resourceWriter, codeGenerationWriter, worker);
     }
 
     @Provides
@@ -152,8 +153,9 @@ public class TransfuseAndroidModule {
     public TransactionWorker<Provider<ASTType>, JDefinedClass> getFactoryTransactionWorker(JCodeModel codeModel,
                                                                                                         FilerSourceCodeWriter codeWriter,
                                                                                                         FilerResourceWriter resourceWriter,
+                                                                                                        CodeGenerationWriter codeGenerationWriter,
                                                                                                         FactoryTransactionWorker worker) {
-        return new CodeGenerationScopedTransactionWorker<Provider<ASTType>, JDefinedClass>(codeModel, codeWriter, resourceWriter, worker);
+        return new CodeGenerationScopedTransactionWorker<Provider<ASTType>, JDefinedClass>(codeModel, codeWriter, resourceWriter, codeGenerationWriter, worker);
     }
 
     @Provides
@@ -161,8 +163,9 @@ public class TransfuseAndroidModule {
     public TransactionWorker<Map<Provider<ASTType>, JDefinedClass>, Void> getFactoriesTransactionWorker(JCodeModel codeModel,
                                                                                                                        FilerSourceCodeWriter codeWriter,
                                                                                                                        FilerResourceWriter resourceWriter,
+                                                                                                                       CodeGenerationWriter codeGenerationWriter,
                                                                                                                        FactoriesTransactionWorker worker) {
-        return new CodeGenerationScopedTransactionWorker<Map<Provider<ASTType>, JDefinedClass>, Void>(codeModel, codeWriter, resourceWriter, worker);
+        return new CodeGenerationScopedTransactionWorker<Map<Provider<ASTType>, JDefinedClass>, Void>(codeModel, codeWriter, resourceWriter, codeGenerationWriter, worker);
     }
 
     @Provides
@@ -170,8 +173,9 @@ public class TransfuseAndroidModule {
     public TransactionWorker<Void, Void> getPHTransactionWorker(JCodeModel codeModel,
                                                                 FilerSourceCodeWriter codeWriter,
                                                                 FilerResourceWriter resourceWriter,
+                                                                CodeGenerationWriter codeGenerationWriter,
                                                                 PackageHelperGeneratorAdapter worker) {
-        return new CodeGenerationScopedTransactionWorker<Void, Void>(codeModel, codeWriter, resourceWriter, worker);
+        return new CodeGenerationScopedTransactionWorker<Void, Void>(codeModel, codeWriter, resourceWriter, codeGenerationWriter, worker);
     }
 
     @Provides
@@ -179,8 +183,9 @@ public class TransfuseAndroidModule {
     public TransactionWorker<Map<Provider<ASTType>, JDefinedClass>, Void> getComponentsWorker(JCodeModel codeModel,
                                                                                                            FilerSourceCodeWriter codeWriter,
                                                                                                            FilerResourceWriter resourceWriter,
+                                                                                                           CodeGenerationWriter codeGenerationWriter,
                                                                                                            ComponentsGenerator worker) {
-        return new CodeGenerationScopedTransactionWorker<Map<Provider<ASTType>, JDefinedClass>, Void>(codeModel, codeWriter, resourceWriter, worker);
+        return new CodeGenerationScopedTransactionWorker<Map<Provider<ASTType>, JDefinedClass>, Void>(codeModel, codeWriter, resourceWriter, codeGenerationWriter, worker);
     }
 
     @Provides
@@ -188,8 +193,9 @@ public class TransfuseAndroidModule {
     public TransactionWorker<Void, Void> getScopesUtilWorker(JCodeModel codeModel,
                                                                                               FilerSourceCodeWriter codeWriter,
                                                                                               FilerResourceWriter resourceWriter,
+                                                                                              CodeGenerationWriter codeGenerationWriter,
                                                                                               ScopesGeneratorWorker worker) {
-        return new CodeGenerationScopedTransactionWorker<Void, Void>(codeModel, codeWriter, resourceWriter, worker);
+        return new CodeGenerationScopedTransactionWorker<Void, Void>(codeModel, codeWriter, resourceWriter, codeGenerationWriter, worker);
     }
 
     @Provides
@@ -17,12 +17,14 @@ package org.androidtransfuse.gen;
 
 import com.sun.codemodel.*;
 import org.androidtransfuse.TransfuseAnalysisException;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.gen.componentBuilder.*;
 import org.androidtransfuse.model.ComponentDescriptor;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.MethodDescriptor;
 import org.androidtransfuse.model.TypedExpression;
 import org.androidtransfuse.scope.Scopes;
+import org.androidtransfuse.util.InjectionProbes;
 
 import javax.inject.Inject;
 import java.util.Map;
@@ -37,18 +39,21 @@ public class ComponentGenerator  {
     private final ComponentBuilderFactory componentBuilderFactory;
     private final ClassGenerationUtil generationUtil;
     private final UniqueVariableNamer namer;
+    private final ProcessorOptions processorOptions;
 
     @Inject
     public ComponentGenerator(JCodeModel codeModel,
                               InjectionFragmentGenerator injectionFragmentGenerator,
                               ComponentBuilderFactory componentBuilderFactory,
                               ClassGenerationUtil generationUtil,
-                              UniqueVariableNamer namer) {
+                              UniqueVariableNamer namer,
+                              ProcessorOptions processorOptions) {
         this.codeModel = codeModel;
         this.injectionFragmentGenerator = injectionFragmentGenerator;
         this.componentBuilderFactory = componentBuilderFactory;
         this.generationUtil = generationUtil;
         this.namer = namer;
+        this.processorOptions = processorOptions;
     }
 
     public JDefinedClass generate(ComponentDescriptor descriptor) {
@@ -57,46 +62,57 @@ public class ComponentGenerator  {
         }
 
         try {
-            final JDefinedClass definedClass = generationUtil.defineClass(descriptor.getPackageClass());
-
-            definedClass._extends(generationUtil.ref(descriptor.getType()));
-
-            MethodDescriptor initMethodDescriptor = descriptor.getInitMethodBuilder().buildMethod(definedClass);
-
-            JBlock block = initMethodDescriptor.getMethod().body();
-
-            // Scopes instance
-            JClass scopesRef = codeModel.ref(Scopes.class);
-            JInvocation scopesBuildInvocation = codeModel.directClass(ScopesGenerator.TRANSFUSE_SCOPES_UTIL.getCanonicalName()).staticInvoke(ScopesGenerator.GET_INSTANCE);
-            JVar scopesVar = block.decl(scopesRef, namer.generateName(Scopes.class), scopesBuildInvocation);
-
-            //Injections
-            Map<InjectionNode, TypedExpression> expressionMap =
-                    injectionFragmentGenerator.buildFragment(
-                            block,
-                            definedClass,
-                            descriptor.getInjectionNodeFactory().buildInjectionNode(initMethodDescriptor),
-                            scopesVar);
-
-            //Registrations
-            for (ExpressionVariableDependentGenerator registrationGenerator : descriptor.getRegistrations()) {
-                registrationGenerator.generate(definedClass, initMethodDescriptor, expressionMap, descriptor, scopesVar);
-            }
-
-            //Method Callbacks
-            MethodGenerator onCreateMethodGenerator = new ExistingMethod(initMethodDescriptor);
-            MethodCallbackGenerator onCreateCallbackGenerator = componentBuilderFactory.buildMethodCallbackGenerator(
-                    descriptor.getInitMethodEventAnnotation(), onCreateMethodGenerator);
-
-            onCreateCallbackGenerator.generate(definedClass, initMethodDescriptor, expressionMap, descriptor, scopesVar);
-
-            //... and other listeners
-            for (ExpressionVariableDependentGenerator generator : descriptor.getGenerators()) {
-                generator.generate(definedClass, initMethodDescriptor, expressionMap, descriptor, scopesVar);
+            final JDefinedClass definedClass = generationUtil.defineClass(descriptor.getPackageClass(), descriptor.getTarget());
+
+            namer.enterNamespace(definedClass);
+            try {
+                definedClass._extends(generationUtil.ref(descriptor.getType()));
+
+                MethodDescriptor initMethodDescriptor = descriptor.getInitMethodBuilder().buildMethod(definedClass);
+
+                JBlock block = initMethodDescriptor.getMethod().body();
+
+                // Scopes instance
+                JClass scopesRef = codeModel.ref(Scopes.class);
+                JInvocation scopesBuildInvocation = codeModel.directClass(ScopesGenerator.TRANSFUSE_SCOPES_UTIL.getCanonicalName()).staticInvoke(ScopesGenerator.GET_INSTANCE);
+                JVar scopesVar = block.decl(scopesRef, namer.generateName(Scopes.class), scopesBuildInvocation);
+
+                //Injections
+                JVar injectionProbe = beginProbe(block, definedClass, InjectionProbes.INJECTION);
+                Map<InjectionNode, TypedExpression> expressionMap =
+                        injectionFragmentGenerator.buildFragment(
+                                block,
+                                definedClass,
+                                descriptor.getInjectionNodeFactory().buildInjectionNode(initMethodDescriptor),
+                                scopesVar);
+                endProbe(block, definedClass, InjectionProbes.INJECTION, injectionProbe);
+
+                //Registrations
+                JVar registrationProbe = beginProbe(block, definedClass, InjectionProbes.REGISTRATION);
+                for (ExpressionVariableDependentGenerator registrationGenerator : descriptor.getRegistrations()) {
+                    registrationGenerator.generate(definedClass, initMethodDescriptor, expressionMap, descriptor, scopesVar);
+                }
+                endProbe(block, definedClass, InjectionProbes.REGISTRATION, registrationProbe);
+
+                //Method Callbacks
+                JVar callbacksProbe = beginProbe(block, definedClass, InjectionProbes.CALLBACKS);
+                MethodGenerator onCreateMethodGenerator = new ExistingMethod(initMethodDescriptor);
+                MethodCallbackGenerator onCreateCallbackGenerator = componentBuilderFactory.buildMethodCallbackGenerator(
+                        descriptor.getInitMethodEventAnnotation(), onCreateMethodGenerator);
+
+                onCreateCallbackGenerator.generate(definedClass, initMethodDescriptor, expressionMap, descriptor, scopesVar);
+
+                //... and other listeners
+                for (ExpressionVariableDependentGenerator generator : descriptor.getGenerators()) {
+                    generator.generate(definedClass, initMethodDescriptor, expressionMap, descriptor, scopesVar);
+                }
+                endProbe(block, definedClass, InjectionProbes.CALLBACKS, callbacksProbe);
+
+                descriptor.getInitMethodBuilder().closeMethod(initMethodDescriptor);
+            } finally {
+                namer.exitNamespace();
             }
 
-            descriptor.getInitMethodBuilder().closeMethod(initMethodDescriptor);
-
             return definedClass;
         } catch (JClassAlreadyExistsException e) {
             throw new TransfuseAnalysisException("Class Already Exists ", e);
@@ -104,4 +120,23 @@ public class ComponentGenerator  {
             throw new TransfuseAnalysisException("ClassNotFoundException while building Injection Fragment", e);
         }
     }
+
+    private JVar beginProbe(JBlock block, JDefinedClass definedClass, String phase) {
+        if (!processorOptions.isInjectionProbes()) {
+            return null;
+        }
+        return block.decl(codeModel.LONG, namer.generateName(InjectionProbes.class),
+                codeModel.ref(InjectionProbes.class).staticInvoke(InjectionProbes.BEGIN_METHOD)
+                        .arg(definedClass.dotclass())
+                        .arg(JExpr.lit(phase)));
+    }
+
+    private void endProbe(JBlock block, JDefinedClass definedClass, String phase, JVar probe) {
+        if (probe != null) {
+            block.add(codeModel.ref(InjectionProbes.class).staticInvoke(InjectionProbes.END_METHOD)
+                    .arg(definedClass.dotclass())
+                    .arg(JExpr.lit(phase))
+                    .arg(probe));
+        }
+    }
 }
@@ -19,6 +19,7 @@ import com.sun.codemodel.*;
 import org.androidtransfuse.Components;
 import org.androidtransfuse.TransfuseAnalysisException;
 import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.adapter.ASTTypeNameComparator;
 import org.androidtransfuse.adapter.PackageClass;
 import org.androidtransfuse.transaction.AbstractCompletionTransactionWorker;
 import org.androidtransfuse.util.Repository;
@@ -27,6 +28,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * @author John Ericksen
@@ -65,8 +67,15 @@ public class ComponentsGenerator extends AbstractCompletionTransactionWorker<Map
             // constructor registration block
             JBlock componentsRegistrationBlock = componentsRepositoryClass.constructor(JMod.PUBLIC).body();
 
+            //registered in name order, independent of the order the components were generated in
+            Map<ASTType, JDefinedClass> sortedComponents = new TreeMap<ASTType, JDefinedClass>(new ASTTypeNameComparator());
             for (Map.Entry<Provider<ASTType>, JDefinedClass> componentEntry : components.entrySet()) {
-                JClass componentClass = generationUtil.ref(componentEntry.getKey().get());
+                sortedComponents.put(componentEntry.getKey().get(), componentEntry.getValue());
+            }
+            generationUtil.addOriginatingTypes(REPOSITORY_NAME, sortedComponents.keySet());
+
+            for (Map.Entry<ASTType, JDefinedClass> componentEntry : sortedComponents.entrySet()) {
+                JClass componentClass = generationUtil.ref(componentEntry.getKey());
                 JClass androidClass = componentEntry.getValue();
 
                 if(androidClass != null){
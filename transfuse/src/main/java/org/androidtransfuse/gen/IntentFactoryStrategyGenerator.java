@@ -15,6 +15,7 @@
  */
 package org.androidtransfuse.gen;
 
+import android.content.Intent;
 import android.os.Bundle;
 import android.os.Parcelable;
 import com.google.common.collect.ImmutableMap;
@@ -27,7 +28,8 @@ import org.androidtransfuse.adapter.classes.ASTClassFactory;
 import org.androidtransfuse.analysis.astAnalyzer.IntentFactoryExtraAspect;
 import org.androidtransfuse.gen.componentBuilder.ExpressionVariableDependentGenerator;
 import org.androidtransfuse.intentFactory.AbstractIntentFactoryStrategy;
-import org.androidtransfuse.intentFactory.ActivityIntentFactoryStrategy;
+import org.androidtransfuse.intentFactory.DirectIntentFactoryStrategy;
+import org.androidtransfuse.intentFactory.IntentFactoryStrategy;
 import org.androidtransfuse.model.ComponentDescriptor;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.MethodDescriptor;
@@ -49,21 +51,28 @@ public class IntentFactoryStrategyGenerator implements ExpressionVariableDepende
     public static final String WRAP_METHOD = "wrap";
 
     private static final String STRATEGY_EXT = "Strategy";
+    private static final String PUT_EXTRA_METHOD = "putExtra";
+    private static final String INTENT_PARAM = "intent";
+    private static final String PUT_EXTRAS_METHOD = "putExtras";
+    private static final String REMOVE_METHOD = "remove";
 
     private final Class<? extends AbstractIntentFactoryStrategy> factoryStrategyClass;
     private final JCodeModel codeModel;
     private final ASTClassFactory astClassFactory;
     private final ClassGenerationUtil generationUtil;
+    private final UniqueVariableNamer namer;
     private final ImmutableMap<ASTPrimitiveType, String> methodMapping;
 
     @Inject
     public IntentFactoryStrategyGenerator(/*@Assisted*/ Class factoryStrategyClass,
                                           JCodeModel codeModel,
-                                          ASTClassFactory astClassFactory, ClassGenerationUtil generationUtil) {
+                                          ASTClassFactory astClassFactory, ClassGenerationUtil generationUtil,
+                                          UniqueVariableNamer namer) {
         this.factoryStrategyClass = factoryStrategyClass;
         this.codeModel = codeModel;
         this.astClassFactory = astClassFactory;
         this.generationUtil = generationUtil;
+        this.namer = namer;
 
         ImmutableMap.Builder<ASTPrimitiveType, String> methodMappingBuilder = ImmutableMap.builder();
         methodMappingBuilder.put(ASTPrimitiveType.BOOLEAN, "putBoolean");
@@ -82,57 +91,144 @@ public class IntentFactoryStrategyGenerator implements ExpressionVariableDepende
     public void generate(JDefinedClass definedClass, MethodDescriptor methodDescriptor, Map<InjectionNode, TypedExpression> expressionMap, ComponentDescriptor descriptor, JExpression scopesExpression) {
 
         try {
-            JDefinedClass strategyClass = generationUtil.defineClass(descriptor.getPackageClass().append(STRATEGY_EXT));
+            JDefinedClass strategyClass = generationUtil.defineClass(descriptor.getPackageClass().append(STRATEGY_EXT), descriptor.getTarget());
 
             strategyClass._extends(factoryStrategyClass);
+            namer.enterNamespace(strategyClass);
+            try {
+
+                List<IntentFactoryExtraAspect> extras = getExtras(expressionMap);
+
+                //constructor, with required extras
+                JMethod constructor = strategyClass.constructor(JMod.PUBLIC);
+                JBlock constructorBody = constructor.body();
+                JDocComment javadocComments = constructor.javadoc();
+                javadocComments.append("Strategy Class for generating Intent for " + descriptor.getPackageClass().getClassName());
+
+                constructorBody.add(JExpr.invoke("super")
+                        .arg(generationUtil.ref(descriptor.getPackageClass()).dotclass())
+                );
+
+                //Bundle of the extras, only built once getExtras() is called
+                JFieldVar extrasField = strategyClass.field(JMod.PRIVATE, Bundle.class, namer.generateName(Bundle.class));
+
+                //extras are held in fields and written directly into the target Intent, unless the Bundle has been handed
+                //out by getExtras() and may have been modified
+                JMethod writeExtrasMethod = strategyClass.method(JMod.PUBLIC, codeModel.VOID, DirectIntentFactoryStrategy.WRITE_EXTRAS_METHOD);
+                writeExtrasMethod.annotate(Override.class);
+                JVar intentParam = writeExtrasMethod.param(Intent.class, INTENT_PARAM);
+                JBlock bundledExtrasBlock = writeExtrasMethod.body()._if(extrasField.ne(JExpr._null()))._then();
+                bundledExtrasBlock.add(intentParam.invoke(PUT_EXTRAS_METHOD).arg(extrasField));
+                bundledExtrasBlock._return();
+
+                JMethod getExtrasMethod = strategyClass.method(JMod.PUBLIC, Bundle.class, IntentFactoryStrategy.GET_EXTRAS_METHOD);
+                getExtrasMethod.annotate(Override.class);
+                JBlock buildExtrasBlock = getExtrasMethod.body()._if(extrasField.eq(JExpr._null()))._then();
+                buildExtrasBlock.assign(extrasField, JExpr._new(codeModel.ref(Bundle.class)));
+
+                for (IntentFactoryExtraAspect extra : extras) {
+                    if (extra.isRequired()) {
+                        JFieldVar extraField = strategyClass.field(JMod.PRIVATE | JMod.FINAL, generationUtil.ref(extra.getType()), extra.getName());
+                        JVar extraParam = constructor.param(generationUtil.ref(extra.getType()), extra.getName());
+
+                        constructorBody.assign(JExpr._this().ref(extraField), extraParam);
+
+                        writeExtrasMethod.body().add(buildIntentMethod(intentParam, extra.getType(), extra.getName(), extraField));
+                        buildExtrasBlock.add(buildBundleMethod(extrasField, extra.getType(), extra.getName(), extraField));
+
+                        javadocComments.addParam(extraParam);
+                    } else {
+                        //non-required extras are held boxed, null until set
+                        JFieldVar extraField = strategyClass.field(JMod.PRIVATE, buildOptionalFieldType(extra.getType()), extra.getName());
+
+                        //setter for non-required extra
+                        JMethod setterMethod = strategyClass.method(JMod.PUBLIC, strategyClass, "set" + upperFirst(extra.getName()));
+                        JVar extraParam = setterMethod.param(generationUtil.ref(extra.getType()), extra.getName());
+
+                        JBlock setterBody = setterMethod.body();
+                        setterBody.assign(JExpr._this().ref(extraField), extraParam);
+                        //keep a Bundle already handed out by getExtras() in step
+                        buildBundleUpdate(setterBody._if(extrasField.ne(JExpr._null()))._then(),
+                                extrasField, extra.getType(), extra.getName(), extraParam);
+                        setterMethod.javadoc().append("Optional Extra parameter");
+                        setterMethod.javadoc().addParam(extraParam);
+
+                        setterBody._return(JExpr._this());
+
+                        writeExtrasMethod.body()._if(extraField.ne(JExpr._null()))._then()
+                                .add(buildIntentMethod(intentParam, extra.getType(), extra.getName(), extraField));
+                        buildExtrasBlock._if(extraField.ne(JExpr._null()))._then()
+                                .add(buildBundleMethod(extrasField, extra.getType(), extra.getName(), extraField));
+                    }
+                }
 
-            JInvocation getExtrasMethod = JExpr.invoke(ActivityIntentFactoryStrategy.GET_EXTRAS_METHOD);
-
-            List<IntentFactoryExtraAspect> extras = getExtras(expressionMap);
-
-            //constructor, with required extras
-            JMethod constructor = strategyClass.constructor(JMod.PUBLIC);
-            JBlock constructorBody = constructor.body();
-            JDocComment javadocComments = constructor.javadoc();
-            javadocComments.append("Strategy Class for generating Intent for " + descriptor.getPackageClass().getClassName());
+                getExtrasMethod.body()._return(extrasField);
+            } finally {
+                namer.exitNamespace();
+            }
 
-            constructorBody.add(JExpr.invoke("super")
-                    .arg(generationUtil.ref(descriptor.getPackageClass()).dotclass())
-                    .arg(JExpr._new(codeModel._ref(Bundle.class)))
-            );
+        } catch (JClassAlreadyExistsException e) {
+            throw new TransfuseAnalysisException("Class already defined while trying to define IntentFactoryStrategy", e);
+        }
+    }
 
-            for (IntentFactoryExtraAspect extra : extras) {
-                if (extra.isRequired()) {
-                    JVar extraParam = constructor.param(generationUtil.ref(extra.getType()), extra.getName());
+    private String upperFirst(String name) {
+        return name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+    }
 
-                    constructorBody.add(buildBundleMethod(getExtrasMethod, extra.getType(), extra.getName(), extraParam));
+    private JClass buildOptionalFieldType(ASTType type) {
+        if (type instanceof ASTPrimitiveType) {
+            return codeModel.ref(((ASTPrimitiveType) type).getObjectClass());
+        }
+        return generationUtil.ref(type);
+    }
 
-                    javadocComments.addParam(extraParam);
-                } else {
-                    //setter for non-required extra
-                    JMethod setterMethod = strategyClass.method(JMod.PUBLIC, strategyClass, "set" + upperFirst(extra.getName()));
-                    JVar extraParam = setterMethod.param(generationUtil.ref(extra.getType()), extra.getName());
+    private JStatement buildIntentMethod(JVar intent, ASTType type, String name, JVar extraParam) {
 
-                    JBlock setterBody = setterMethod.body();
-                    setterBody.add(buildBundleMethod(getExtrasMethod, extra.getType(), extra.getName(), extraParam));
-                    setterMethod.javadoc().append("Optional Extra parameter");
-                    setterMethod.javadoc().addParam(extraParam);
+        //autoboxable (Long, Integer, etc)
+        ASTPrimitiveType primitiveType = ASTPrimitiveType.getAutoboxType(type.getName());
 
-                    setterBody._return(JExpr._this());
+        if (type instanceof ASTPrimitiveType) {
+            primitiveType = (ASTPrimitiveType) type;
+        }
 
-                }
+        if (primitiveType != null) {
+            //unbox boxed values to select the primitive putExtra() overload
+            JType unboxedType = codeModel.ref(primitiveType.getObjectClass()).unboxify();
+            if (extraParam.type().fullName().equals(unboxedType.fullName())) {
+                return intent.invoke(PUT_EXTRA_METHOD).arg(name).arg(extraParam);
             }
+            return intent.invoke(PUT_EXTRA_METHOD).arg(name).arg(JExpr.cast(unboxedType, extraParam));
+        } else if (type.getName().equals(String.class.getName())) {
+            return intent.invoke(PUT_EXTRA_METHOD).arg(name).arg(extraParam);
+        } else if (type.implementsFrom(astClassFactory.getType(Serializable.class))) {
+            return intent.invoke(PUT_EXTRA_METHOD).arg(name).arg(JExpr.cast(codeModel.ref(Serializable.class), extraParam));
+        }
+        if (type.inheritsFrom(astClassFactory.getType(Parcelable.class))) {
+            return intent.invoke(PUT_EXTRA_METHOD).arg(name).arg(JExpr.cast(codeModel.ref(Parcelable.class), extraParam));
+        }
+        if (type.isAnnotated(Parcel.class)) {
+            JInvocation wrappedParcel = generationUtil.ref(PARCELS_NAME)
+                    .staticInvoke(WRAP_METHOD).arg(extraParam);
 
-        } catch (JClassAlreadyExistsException e) {
-            throw new TransfuseAnalysisException("Class already defined while trying to define IntentFactoryStrategy", e);
+            return intent.invoke(PUT_EXTRA_METHOD).arg(name).arg(JExpr.cast(codeModel.ref(Parcelable.class), wrappedParcel));
         }
+
+        throw new TransfuseAnalysisException("Unable to find appropriate type to build intent factory strategy: " + type.getName());
     }
 
-    private String upperFirst(String name) {
-        return name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+    private void buildBundleUpdate(JBlock block, JVar extras, ASTType type, String name, JVar extraParam) {
+        if (type instanceof ASTPrimitiveType) {
+            block.add(buildBundleMethod(extras, type, name, extraParam));
+        } else {
+            //a null optional extra is left out of the Intent, as in writeExtras()
+            JConditional nullCheck = block._if(extraParam.eq(JExpr._null()));
+            nullCheck._then().add(extras.invoke(REMOVE_METHOD).arg(name));
+            nullCheck._else().add(buildBundleMethod(extras, type, name, extraParam));
+        }
     }
 
-    private JStatement buildBundleMethod(JInvocation extras, ASTType type, String name, JVar extraParam) {
+    private JStatement buildBundleMethod(JVar extras, ASTType type, String name, JVar extraParam) {
 
         //autoboxable (Long, Integer, etc)
         ASTPrimitiveType primitiveType = ASTPrimitiveType.getAutoboxType(type.getName());
@@ -35,6 +35,8 @@ public interface ComponentBuilderFactory {
 
     MethodCallbackGenerator buildMethodCallbackGenerator(ASTType eventAnnotation, MethodGenerator methodGenerator);
 
+    LowMemoryScopesGenerator buildLowMemoryScopesGenerator(ASTType eventAnnotation, MethodGenerator methodGenerator);
+
     RLayoutBuilder buildRLayoutBuilder(Integer layout);
 
     MirroredMethodGenerator buildMirroredMethodGenerator(ASTMethod method, boolean superCall);
@@ -57,6 +59,8 @@ public interface ComponentBuilderFactory {
 
     ViewFieldRegistrationInvocationBuilderImpl buildViewFieldRegistrationInvocationBuilder(ASTField field);
 
+    EagerSingletonGenerator buildEagerSingletonGenerator(ImmutableList<InjectionNode> eagerInjectionNodes);
+
     ActivityDelegateRegistrationGenerator buildActivityRegistrationGenerator(ActivityDelegateASTReference activityDelegateASTReference, ImmutableList<ASTMethod> methods);
 
     ActivityTypeDelegateASTReference buildActivityTypeDelegateASTReference();
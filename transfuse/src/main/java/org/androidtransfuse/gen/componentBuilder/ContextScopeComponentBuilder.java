@@ -16,13 +16,19 @@
 package org.androidtransfuse.gen.componentBuilder;
 
 import com.sun.codemodel.*;
+import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.annotations.Activity;
+import org.androidtransfuse.annotations.ConcurrentContextScope;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.gen.UniqueVariableNamer;
 import org.androidtransfuse.model.ComponentDescriptor;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.MethodDescriptor;
 import org.androidtransfuse.model.TypedExpression;
 import org.androidtransfuse.scope.ConcurrentDoubleLockingScope;
+import org.androidtransfuse.scope.ConfinedScope;
 import org.androidtransfuse.scope.ContextScopeHolder;
+import org.androidtransfuse.scope.InstrumentedScope;
 import org.androidtransfuse.scope.Scope;
 
 import javax.inject.Inject;
@@ -35,11 +41,13 @@ public class ContextScopeComponentBuilder implements ExpressionVariableDependent
 
     private final JCodeModel codeModel;
     private final UniqueVariableNamer namer;
+    private final ProcessorOptions processorOptions;
 
     @Inject
-    public ContextScopeComponentBuilder(JCodeModel codeModel, UniqueVariableNamer namer) {
+    public ContextScopeComponentBuilder(JCodeModel codeModel, UniqueVariableNamer namer, ProcessorOptions processorOptions) {
         this.codeModel = codeModel;
         this.namer = namer;
+        this.processorOptions = processorOptions;
     }
 
     @Override
@@ -49,11 +57,31 @@ public class ContextScopeComponentBuilder implements ExpressionVariableDependent
 
         //scope variable
         JFieldVar scopeField = definedClass.field(JMod.PRIVATE, Scope.class, namer.generateName(Scope.class),
-                JExpr._new(codeModel.ref(ConcurrentDoubleLockingScope.class)));
+                JExpr._new(codeModel.ref(getScopeType(descriptor))));
 
         //method
         JMethod getScope = definedClass.method(JMod.PUBLIC, Scope.class, ContextScopeHolder.GET_SCOPE);
         getScope.annotate(Override.class);
         getScope.body()._return(scopeField);
     }
+
+    private Class<? extends Scope> getScopeType(ComponentDescriptor descriptor) {
+        if (processorOptions.isInstrumentScopes()) {
+            return InstrumentedScope.class;
+        }
+        if (isUIConfined(descriptor.getTarget())) {
+            return ConfinedScope.class;
+        }
+        return ConcurrentDoubleLockingScope.class;
+    }
+
+    /**
+     * Activities are confined to the UI thread unless background access to their context scope is declared.  Services,
+     * BroadcastReceivers and the Application are accessed from arbitrary threads and always use a concurrent scope.
+     */
+    private boolean isUIConfined(ASTType target) {
+        return target != null &&
+                target.isAnnotated(Activity.class) &&
+                !target.isAnnotated(ConcurrentContextScope.class);
+    }
 }
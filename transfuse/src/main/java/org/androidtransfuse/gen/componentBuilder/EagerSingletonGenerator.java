@@ -0,0 +1,86 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.gen.componentBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.sun.codemodel.*;
+import org.androidtransfuse.gen.ClassGenerationUtil;
+import org.androidtransfuse.gen.ProviderGenerator;
+import org.androidtransfuse.model.ComponentDescriptor;
+import org.androidtransfuse.model.InjectionNode;
+import org.androidtransfuse.model.MethodDescriptor;
+import org.androidtransfuse.model.TypedExpression;
+import org.androidtransfuse.scope.EagerSingletonLoader;
+import org.androidtransfuse.scope.ScopeKey;
+import org.androidtransfuse.scope.Scopes;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+
+/**
+ * Generates the background construction of the `@Eager` singletons:
+ *
+ * <pre>
+ * new EagerSingletonLoader(scopes.getScope(Singleton.class))
+ *     .add(ScopeKey.get(Target.class, "signature"), new Target$$UnscopedProvider(scopes))
+ *     .start();
+ * </pre>
+ *
+ * @author John Ericksen
+ */
+public class EagerSingletonGenerator implements ExpressionVariableDependentGenerator {
+
+    private final ImmutableList<InjectionNode> eagerInjectionNodes;
+    private final ProviderGenerator providerGenerator;
+    private final JCodeModel codeModel;
+    private final ClassGenerationUtil generationUtil;
+
+    @Inject
+    public EagerSingletonGenerator(/*@Assisted*/ ImmutableList<InjectionNode> eagerInjectionNodes,
+                                   ProviderGenerator providerGenerator,
+                                   JCodeModel codeModel,
+                                   ClassGenerationUtil generationUtil) {
+        this.eagerInjectionNodes = eagerInjectionNodes;
+        this.providerGenerator = providerGenerator;
+        this.codeModel = codeModel;
+        this.generationUtil = generationUtil;
+    }
+
+    @Override
+    public void generate(JDefinedClass definedClass, MethodDescriptor methodDescriptor, Map<InjectionNode, TypedExpression> expressionMap, ComponentDescriptor descriptor, JExpression scopesExpression) {
+        if (eagerInjectionNodes.isEmpty()) {
+            return;
+        }
+
+        JExpression singletonScope = scopesExpression.invoke(Scopes.GET_SCOPE).arg(codeModel.ref(Singleton.class).dotclass());
+        JInvocation loader = JExpr._new(codeModel.ref(EagerSingletonLoader.class)).arg(singletonScope);
+
+        for (InjectionNode eagerInjectionNode : eagerInjectionNodes) {
+            JDefinedClass providerClass = providerGenerator.generateProvider(eagerInjectionNode, true);
+
+            JInvocation scopeKey = codeModel.ref(ScopeKey.class).staticInvoke(ScopeKey.GET_METHOD)
+                    .arg(generationUtil.ref(eagerInjectionNode.getASTType()).dotclass())
+                    .arg(JExpr.lit(eagerInjectionNode.getTypeSignature().buildScopeKeySignature()));
+
+            loader = loader.invoke(EagerSingletonLoader.ADD_METHOD)
+                    .arg(scopeKey)
+                    .arg(JExpr._new(providerClass).arg(scopesExpression));
+        }
+
+        methodDescriptor.getMethod().body().add(loader.invoke(EagerSingletonLoader.START_METHOD));
+    }
+}
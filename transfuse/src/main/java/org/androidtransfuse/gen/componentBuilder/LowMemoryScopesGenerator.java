@@ -0,0 +1,92 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.gen.componentBuilder;
+
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JInvocation;
+import org.androidtransfuse.adapter.ASTParameter;
+import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.config.ProcessorOptions;
+import org.androidtransfuse.gen.InvocationBuilder;
+import org.androidtransfuse.gen.ScopesGenerator;
+import org.androidtransfuse.model.ComponentDescriptor;
+import org.androidtransfuse.model.InjectionNode;
+import org.androidtransfuse.model.MethodDescriptor;
+import org.androidtransfuse.model.TypedExpression;
+import org.androidtransfuse.scope.Scopes;
+import org.androidtransfuse.util.FrameworkLookupCache;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a low memory callback method, trimming the registered `TrimmableScope`s before calling the listeners of the
+ * given event annotation.  `onLowMemory()` empties the scopes (and the `FrameworkLookupCache`, if framework lookups are
+ * cached), while `onTrimMemory(int)` passes its level on to `Scopes.trimMemory()`.  Unlike the
+ * `MethodCallbackGenerator`, the method is always generated.
+ *
+ * @author John Ericksen
+ */
+public class LowMemoryScopesGenerator implements ExpressionVariableDependentGenerator {
+
+    private final ASTType eventAnnotation;
+    private final MethodGenerator methodGenerator;
+    private final InvocationBuilder invocationBuilder;
+    private final JCodeModel codeModel;
+    private final ProcessorOptions processorOptions;
+
+    @Inject
+    public LowMemoryScopesGenerator(/*@Assisted*/ ASTType eventAnnotation, /*@Assisted*/ MethodGenerator methodGenerator, InvocationBuilder invocationBuilder, JCodeModel codeModel, ProcessorOptions processorOptions) {
+        this.eventAnnotation = eventAnnotation;
+        this.methodGenerator = methodGenerator;
+        this.invocationBuilder = invocationBuilder;
+        this.codeModel = codeModel;
+        this.processorOptions = processorOptions;
+    }
+
+    @Override
+    public void generate(JDefinedClass definedClass, MethodDescriptor creationMethodDescriptor, Map<InjectionNode, TypedExpression> expressionMap, ComponentDescriptor descriptor, JExpression scopesExpression) {
+        MethodDescriptor methodDescriptor = methodGenerator.buildMethod(definedClass);
+
+        JInvocation scopes = codeModel.directClass(ScopesGenerator.TRANSFUSE_SCOPES_UTIL.getCanonicalName())
+                .staticInvoke(ScopesGenerator.GET_INSTANCE);
+        List<ASTParameter> parameters = methodDescriptor.getASTMethod().getParameters();
+
+        if (!parameters.isEmpty()) {
+            //Transfuse$$ScopesUtil.getInstance().trimMemory(level)
+            methodDescriptor.getMethod().body().add(
+                    scopes.invoke(Scopes.TRIM_MEMORY).arg(methodDescriptor.getParameter(parameters.get(0)).getExpression()));
+        } else {
+            //Transfuse$$ScopesUtil.getInstance().lowMemory()
+            methodDescriptor.getMethod().body().add(scopes.invoke(Scopes.LOW_MEMORY));
+
+            if (processorOptions.isCacheFrameworkLookups()) {
+                //FrameworkLookupCache.getInstance().clear()
+                methodDescriptor.getMethod().body().add(
+                        codeModel.ref(FrameworkLookupCache.class).staticInvoke(FrameworkLookupCache.GET_INSTANCE)
+                                .invoke(FrameworkLookupCache.CLEAR));
+            }
+        }
+
+        MethodCallbackGenerator callbackGenerator = new MethodCallbackGenerator(eventAnnotation, new ExistingMethod(methodDescriptor), invocationBuilder);
+        callbackGenerator.generate(definedClass, creationMethodDescriptor, expressionMap, descriptor, scopesExpression);
+
+        methodGenerator.closeMethod(methodDescriptor);
+    }
+}
@@ -61,7 +61,7 @@ public class NonConfigurationInstanceGenerator implements ExpressionVariableDepe
             if (!nonConfigurationComponents.isEmpty()) {
 
                 //generate holder type
-                JDefinedClass nonConfigurationInstance = definedClass._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, classNamer.numberedClassName(new PackageClass(null, "NonConfigurationInstance")).build().getClassName());
+                JDefinedClass nonConfigurationInstance = definedClass._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, classNamer.numberedClassName(new PackageClass(null, "NonConfigurationInstance")).enclosedBy(definedClass).build().getClassName());
 
                 JMethod constructor = nonConfigurationInstance.constructor(JMod.PRIVATE);
                 Map<FieldInjectionPoint, JFieldVar> fieldMap = configureConstructor(constructor, nonConfigurationInstance, nonConfigurationComponents);
@@ -106,7 +106,7 @@ public class ObservesRegistrationGenerator implements ExpressionVariableDependen
                     JClass eventRef = generationUtil.ref(event);
                     JClass targetRef = generationUtil.ref(typedExpression.getType());
 
-                    JDefinedClass observerClass = definedClass._class(JMod.PROTECTED | JMod.STATIC | JMod.FINAL, classNamer.numberedClassName(typedExpression.getType()).build().getClassName());
+                    JDefinedClass observerClass = definedClass._class(JMod.PROTECTED | JMod.STATIC | JMod.FINAL, classNamer.numberedClassName(typedExpression.getType()).enclosedBy(definedClass).build().getClassName());
 
                     //match default constructor public WeakObserver(T target){
                     JMethod constructor = observerClass.constructor(JMod.PUBLIC);
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.gen.variableBuilder;
+
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import org.androidtransfuse.util.FrameworkLookupCache;
+
+import javax.inject.Inject;
+
+/**
+ * Looks up the given system service through the application wide `FrameworkLookupCache`.
+ *
+ * @author John Ericksen
+ */
+public class CachedSystemServiceVariableBuilder implements DependentVariableBuilder {
+
+    private final String systemService;
+    private final JCodeModel codeModel;
+
+    @Inject
+    public CachedSystemServiceVariableBuilder(/*@Assisted*/ String systemService,
+                                              JCodeModel codeModel) {
+        this.systemService = systemService;
+        this.codeModel = codeModel;
+    }
+
+    @Override
+    public JExpression buildVariable(JExpression dependencyExpression) {
+        //FrameworkLookupCache.getInstance().getSystemService(context, "name")
+        return codeModel.ref(FrameworkLookupCache.class).staticInvoke(FrameworkLookupCache.GET_INSTANCE)
+                .invoke(FrameworkLookupCache.GET_SYSTEM_SERVICE).arg(dependencyExpression).arg(JExpr.lit(systemService));
+    }
+}
@@ -50,11 +50,7 @@ public class ExtraInjectionNodeBuilder extends InjectionNodeBuilderSingleAnnotat
     @Override
     public InjectionNode buildInjectionNode(InjectionSignature signature, AnalysisContext context, ASTAnnotation annotation) {
         String extraId = annotation.getProperty("value", String.class);
-        Boolean optional = annotation.getProperty("optional", Boolean.class);
-
-        if (optional == null) {
-            optional = false;
-        }
+        boolean optional = annotation.getPropertyOrDefault("optional", Boolean.class);
 
         boolean wrapped = signature.getType().isAnnotated(Parcel.class);
 
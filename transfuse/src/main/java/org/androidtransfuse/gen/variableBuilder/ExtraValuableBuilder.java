@@ -15,12 +15,16 @@
  */
 package org.androidtransfuse.gen.variableBuilder;
 
-import com.sun.codemodel.JCodeModel;
-import com.sun.codemodel.JExpr;
-import com.sun.codemodel.JExpression;
-import com.sun.codemodel.JInvocation;
+import android.os.Bundle;
+import android.os.Parcelable;
+import com.google.common.collect.ImmutableMap;
+import com.sun.codemodel.*;
+import org.androidtransfuse.adapter.ASTPrimitiveType;
+import org.androidtransfuse.adapter.ASTType;
+import org.androidtransfuse.adapter.classes.ASTClassFactory;
 import org.androidtransfuse.gen.InjectionBuilderContext;
 import org.androidtransfuse.gen.InjectionExpressionBuilder;
+import org.androidtransfuse.gen.UniqueVariableNamer;
 import org.androidtransfuse.gen.variableDecorator.TypedExpressionFactory;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.TypedExpression;
@@ -31,12 +35,28 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 /**
+ * Builds the expression accessing an Intent extra.  The extras Bundle is fetched once per injection context and each
+ * extra is read through the typed Bundle getter matching its type, falling back to ExtraUtil.getExtra() for types
+ * without one.
+ *
  * @author John Ericksen
  */
-public class ExtraValuableBuilder extends ConsistentTypeVariableBuilder {
+public class ExtraValuableBuilder implements VariableBuilder {
 
     private static final String GET_INTENT = "getIntent";
     private static final String GET_EXTRAS = "getExtras";
+    private static final String EXTRAS_EXPRESSION = "extras";
+
+    private static final ImmutableMap<ASTType, String> PRIMITIVE_ACCESSORS = ImmutableMap.<ASTType, String>builder()
+            .put(ASTPrimitiveType.BOOLEAN, ExtraUtil.GET_BOOLEAN)
+            .put(ASTPrimitiveType.BYTE, ExtraUtil.GET_BYTE)
+            .put(ASTPrimitiveType.CHAR, ExtraUtil.GET_CHAR)
+            .put(ASTPrimitiveType.SHORT, ExtraUtil.GET_SHORT)
+            .put(ASTPrimitiveType.INT, ExtraUtil.GET_INT)
+            .put(ASTPrimitiveType.LONG, ExtraUtil.GET_LONG)
+            .put(ASTPrimitiveType.FLOAT, ExtraUtil.GET_FLOAT)
+            .put(ASTPrimitiveType.DOUBLE, ExtraUtil.GET_DOUBLE)
+            .build();
 
     private final boolean wrapped;
     private final String extraId;
@@ -44,6 +64,9 @@ public class ExtraValuableBuilder extends ConsistentTypeVariableBuilder {
     private final InjectionExpressionBuilder injectionExpressionBuilder;
     private final boolean nullable;
     private final JCodeModel codeModel;
+    private final TypedExpressionFactory typedExpressionFactory;
+    private final ASTClassFactory astClassFactory;
+    private final UniqueVariableNamer namer;
 
     @Inject
     public ExtraValuableBuilder(/*@Assisted*/ String extraId,
@@ -52,31 +75,62 @@ public class ExtraValuableBuilder extends ConsistentTypeVariableBuilder {
                                 /*@Assisted("wrapped")*/ @Named("wrapped") boolean wrapped,
                                 InjectionExpressionBuilder injectionExpressionBuilder,
                                 JCodeModel codeModel,
-                                TypedExpressionFactory typedExpressionFactory) {
-        super(Object.class, typedExpressionFactory);
+                                TypedExpressionFactory typedExpressionFactory,
+                                ASTClassFactory astClassFactory,
+                                UniqueVariableNamer namer) {
         this.extraId = extraId;
         this.activityInjectionNode = activityInjectionNode;
         this.injectionExpressionBuilder = injectionExpressionBuilder;
         this.nullable = nullable;
         this.codeModel = codeModel;
         this.wrapped = wrapped;
+        this.typedExpressionFactory = typedExpressionFactory;
+        this.astClassFactory = astClassFactory;
+        this.namer = namer;
     }
 
     @Override
-    public JExpression buildExpression(InjectionBuilderContext injectionBuilderContext, InjectionNode injectionNode) {
-        TypedExpression contextVar = injectionExpressionBuilder.buildVariable(injectionBuilderContext, activityInjectionNode);
+    public TypedExpression buildVariable(InjectionBuilderContext injectionBuilderContext, InjectionNode injectionNode) {
+        JExpression extras = buildExtras(injectionBuilderContext).getExpression();
+        ASTType extraType = injectionNode.getASTType();
+
+        if (wrapped) {
+            JExpression parcelWrapper = JExpr.cast(codeModel.ref(ParcelWrapper.class), invokeAccessor(ExtraUtil.GET_PARCELABLE, extras));
+            return typedExpressionFactory.build(Object.class, parcelWrapper.invoke(ParcelWrapper.GET_PARCEL));
+        }
+        if (PRIMITIVE_ACCESSORS.containsKey(extraType)) {
+            return typedExpressionFactory.build(extraType, invokeAccessor(PRIMITIVE_ACCESSORS.get(extraType), extras));
+        }
+        if (extraType.equals(astClassFactory.getType(String.class))) {
+            return typedExpressionFactory.build(String.class, invokeAccessor(ExtraUtil.GET_STRING, extras));
+        }
+        if (extraType.equals(astClassFactory.getType(CharSequence.class))) {
+            return typedExpressionFactory.build(CharSequence.class, invokeAccessor(ExtraUtil.GET_CHAR_SEQUENCE, extras));
+        }
+        if (!extraType.isArray() && extraType.inheritsFrom(astClassFactory.getType(Parcelable.class))) {
+            return typedExpressionFactory.build(Parcelable.class, invokeAccessor(ExtraUtil.GET_PARCELABLE, extras));
+        }
+
+        return typedExpressionFactory.build(Object.class, invokeAccessor(ExtraUtil.GET_EXTRA, extras));
+    }
 
-        JInvocation getExtraInvocation = codeModel.ref(ExtraUtil.class)
-                .staticInvoke(ExtraUtil.GET_EXTRA)
-                .arg(contextVar.getExpression().invoke(GET_INTENT).invoke(GET_EXTRAS))
+    private JInvocation invokeAccessor(String accessor, JExpression extras) {
+        return codeModel.ref(ExtraUtil.class)
+                .staticInvoke(accessor)
+                .arg(extras)
                 .arg(JExpr.lit(extraId))
                 .arg(JExpr.lit(nullable));
+    }
 
-        if (wrapped) {
-            getExtraInvocation = ((JExpression) JExpr.cast(codeModel.ref(ParcelWrapper.class),
-                    getExtraInvocation)).invoke(ParcelWrapper.GET_PARCEL);
-        }
+    private TypedExpression buildExtras(InjectionBuilderContext injectionBuilderContext) {
+        if (!injectionBuilderContext.getSharedExpressions().containsKey(EXTRAS_EXPRESSION)) {
+            TypedExpression contextVar = injectionExpressionBuilder.buildVariable(injectionBuilderContext, activityInjectionNode);
 
-        return getExtraInvocation;
+            JVar extrasVar = injectionBuilderContext.getBlock().decl(codeModel.ref(Bundle.class), namer.generateName(Bundle.class),
+                    contextVar.getExpression().invoke(GET_INTENT).invoke(GET_EXTRAS));
+
+            injectionBuilderContext.getSharedExpressions().put(EXTRAS_EXPRESSION, typedExpressionFactory.build(Bundle.class, extrasVar));
+        }
+        return injectionBuilderContext.getSharedExpressions().get(EXTRAS_EXPRESSION);
     }
 }
@@ -17,11 +17,13 @@ package org.androidtransfuse.gen.variableBuilder;
 
 import com.sun.codemodel.JExpr;
 import com.sun.codemodel.JExpression;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.gen.InjectionBuilderContext;
 import org.androidtransfuse.gen.InjectionExpressionBuilder;
 import org.androidtransfuse.gen.variableDecorator.TypedExpressionFactory;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.TypedExpression;
+import org.androidtransfuse.util.FrameworkLookupCache;
 
 import javax.inject.Inject;
 
@@ -35,22 +37,33 @@ public class SystemServiceVariableBuilder extends ConsistentTypeVariableBuilder
     private final String systemService;
     private final InjectionNode contextInjectionNode;
     private final InjectionExpressionBuilder injectionExpressionBuilder;
+    private final VariableInjectionBuilderFactory variableInjectionBuilderFactory;
+    private final ProcessorOptions processorOptions;
 
     @Inject
     public SystemServiceVariableBuilder(/*@Assisted*/ String systemService,
                                         /*@Assisted*/ InjectionNode contextInjectionNode,
                                         InjectionExpressionBuilder injectionExpressionBuilder,
-                                        TypedExpressionFactory typedExpressionFactory) {
+                                        TypedExpressionFactory typedExpressionFactory,
+                                        VariableInjectionBuilderFactory variableInjectionBuilderFactory,
+                                        ProcessorOptions processorOptions) {
         super(Object.class, typedExpressionFactory);
         this.systemService = systemService;
         this.contextInjectionNode = contextInjectionNode;
         this.injectionExpressionBuilder = injectionExpressionBuilder;
+        this.variableInjectionBuilderFactory = variableInjectionBuilderFactory;
+        this.processorOptions = processorOptions;
     }
 
     @Override
     public JExpression buildExpression(InjectionBuilderContext injectionBuilderContext, InjectionNode injectionNode) {
         TypedExpression contextVar = injectionExpressionBuilder.buildVariable(injectionBuilderContext, contextInjectionNode);
 
+        if (processorOptions.isCacheFrameworkLookups() && FrameworkLookupCache.isCacheableService(systemService)) {
+            return variableInjectionBuilderFactory.buildCachedSystemServiceVariableBuilder(systemService)
+                    .buildVariable(contextVar.getExpression());
+        }
+
         return contextVar.getExpression().invoke(GET_SYSTEM_SERVICE).arg(JExpr.lit(systemService));
     }
 }
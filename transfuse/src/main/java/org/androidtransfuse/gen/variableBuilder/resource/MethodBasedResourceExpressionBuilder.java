@@ -15,42 +15,63 @@
  */
 package org.androidtransfuse.gen.variableBuilder.resource;
 
+import com.google.common.collect.ImmutableSet;
+import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JInvocation;
+import org.androidtransfuse.config.ProcessorOptions;
 import org.androidtransfuse.gen.InjectionBuilderContext;
 import org.androidtransfuse.gen.InjectionExpressionBuilder;
 import org.androidtransfuse.gen.variableDecorator.TypedExpressionFactory;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.TypedExpression;
+import org.androidtransfuse.util.FrameworkLookupCache;
 
 import javax.inject.Inject;
 
 public class MethodBasedResourceExpressionBuilder implements ResourceExpressionBuilder {
 
+    //accessors mirrored by the FrameworkLookupCache, Movies are stateful and are always decoded
+    private static final ImmutableSet<String> CACHED_ACCESSORS = ImmutableSet.of(
+            "getString", "getBoolean", "getInteger", "getColorStateList", "getDrawable", "getStringArray", "getIntArray");
+
     private final Class returnType;
     private final String accessMethod;
     private final InjectionNode resourcesInjectionNode;
     private final InjectionExpressionBuilder injectionExpressionBuilder;
     private final TypedExpressionFactory typedExpressionFactory;
+    private final ProcessorOptions processorOptions;
+    private final JCodeModel codeModel;
 
     @Inject
     public MethodBasedResourceExpressionBuilder(/*@Assisted*/ Class returnType,
                                                 /*@Assisted*/ String accessMethod,
                                                 /*@Assisted*/ InjectionNode resourcesInjectionNode,
                                                 InjectionExpressionBuilder injectionExpressionBuilder,
-                                                TypedExpressionFactory typedExpressionFactory) {
+                                                TypedExpressionFactory typedExpressionFactory,
+                                                ProcessorOptions processorOptions,
+                                                JCodeModel codeModel) {
         this.returnType = returnType;
         this.accessMethod = accessMethod;
         this.resourcesInjectionNode = resourcesInjectionNode;
         this.injectionExpressionBuilder = injectionExpressionBuilder;
         this.typedExpressionFactory = typedExpressionFactory;
+        this.processorOptions = processorOptions;
+        this.codeModel = codeModel;
     }
 
     @Override
     public TypedExpression buildExpression(InjectionBuilderContext context, JExpression resourceIdExpr) {
         TypedExpression resourcesVar = injectionExpressionBuilder.buildVariable(context, resourcesInjectionNode);
 
-        JInvocation expression = resourcesVar.getExpression().invoke(accessMethod).arg(resourceIdExpr);
+        JInvocation expression;
+        if (processorOptions.isCacheFrameworkLookups() && CACHED_ACCESSORS.contains(accessMethod)) {
+            //FrameworkLookupCache.getInstance().<accessMethod>(resources, id)
+            expression = codeModel.ref(FrameworkLookupCache.class).staticInvoke(FrameworkLookupCache.GET_INSTANCE)
+                    .invoke(accessMethod).arg(resourcesVar.getExpression()).arg(resourceIdExpr);
+        } else {
+            expression = resourcesVar.getExpression().invoke(accessMethod).arg(resourceIdExpr);
+        }
 
         return typedExpressionFactory.build(returnType, expression);
     }
@@ -31,6 +31,7 @@ import java.util.List;
  */
 public class ComponentDescriptor {
 
+    private final ASTType target;
     private final PackageClass packageClass;
     private final String type;
     private MethodBuilder initMethodBuilder;
@@ -39,11 +40,19 @@ public class ComponentDescriptor {
     private InjectionNodeFactory injectionNodeFactory;
     private ASTType initMethodEventAnnotation;
 
-    public ComponentDescriptor(String type, PackageClass packageClass) {
+    public ComponentDescriptor(ASTType target, String type, PackageClass packageClass) {
+        this.target = target;
         this.type = type;
         this.packageClass = packageClass;
     }
 
+    /**
+     * @return the annotated type this component is generated from
+     */
+    public ASTType getTarget() {
+        return target;
+    }
+
     public PackageClass getPackageClass() {
         return packageClass;
     }
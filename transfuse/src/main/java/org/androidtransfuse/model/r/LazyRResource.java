@@ -0,0 +1,48 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.model.r;
+
+import javax.lang.model.element.TypeElement;
+
+/**
+ * R resource ingesting the given R class on the first lookup.  Rounds and components that reference no resources never
+ * read the R class.
+ *
+ * @author John Ericksen
+ */
+public class LazyRResource implements RResource {
+
+    private final RBuilder rBuilder;
+    private final TypeElement rTypeElement;
+    private RResourceMapping resourceMapping = null;
+
+    public LazyRResource(RBuilder rBuilder, TypeElement rTypeElement) {
+        this.rBuilder = rBuilder;
+        this.rTypeElement = rTypeElement;
+    }
+
+    @Override
+    public ResourceIdentifier getResourceIdentifier(Integer id) {
+        return getResourceMapping().getResourceIdentifier(id);
+    }
+
+    private synchronized RResourceMapping getResourceMapping() {
+        if (resourceMapping == null) {
+            resourceMapping = rBuilder.buildR(rTypeElement);
+        }
+        return resourceMapping;
+    }
+}
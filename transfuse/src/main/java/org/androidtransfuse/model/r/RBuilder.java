@@ -16,9 +16,14 @@
 package org.androidtransfuse.model.r;
 
 import org.androidtransfuse.adapter.ASTField;
+import org.androidtransfuse.adapter.ASTStringType;
 import org.androidtransfuse.adapter.ASTType;
 
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * @author John Ericksen
@@ -38,4 +43,36 @@ public class RBuilder {
 
         return resourceMapping;
     }
+
+    /**
+     * Builds the resource mapping directly from the R class element.  The id constants are read from the field
+     * elements, avoiding building full ASTs of the R inner classes and their (many) fields.  The inner types are
+     * represented by name only, which is all that is needed to reference them.
+     *
+     * @param rTypeElement R class
+     * @return resource mapping
+     */
+    public RResourceMapping buildR(TypeElement rTypeElement) {
+        List<TypeElement> rInnerElements = ElementFilter.typesIn(rTypeElement.getEnclosedElements());
+
+        int expectedSize = 0;
+        for (TypeElement rInnerElement : rInnerElements) {
+            expectedSize += rInnerElement.getEnclosedElements().size();
+        }
+
+        RResourceMapping resourceMapping = new RResourceMapping(expectedSize);
+
+        for (TypeElement rInnerElement : rInnerElements) {
+            ASTType rInnerType = new ASTStringType(rInnerElement.getQualifiedName().toString());
+
+            for (VariableElement idField : ElementFilter.fieldsIn(rInnerElement.getEnclosedElements())) {
+                Object constantValue = idField.getConstantValue();
+                if (constantValue instanceof Integer) {
+                    resourceMapping.addResource(rInnerType, idField.getSimpleName().toString(), (Integer) constantValue);
+                }
+            }
+        }
+
+        return resourceMapping;
+    }
 }
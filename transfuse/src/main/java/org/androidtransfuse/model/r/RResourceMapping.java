@@ -17,21 +17,110 @@ package org.androidtransfuse.model.r;
 
 import org.androidtransfuse.adapter.ASTType;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
+ * Resource id to identifier mapping.  R classes may define tens of thousands of ids while only a handful are referenced,
+ * so the ids are held in an open addressing table of primitive ints rather than a map of boxed keys and entries.
+ * Identifiers are built on lookup.
+ *
  * @author John Ericksen
  */
 public class RResourceMapping implements RResource {
 
-    private final Map<Integer, ResourceIdentifier> resourceMap = new HashMap<Integer, ResourceIdentifier>();
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] ids;
+    private ASTType[] rInnerTypes;
+    private String[] names;
+    private int size = 0;
+
+    public RResourceMapping() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Builds a mapping sized to hold the given number of resources without resizing.
+     *
+     * @param expectedSize expected number of resources
+     */
+    public RResourceMapping(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
 
     public void addResource(ASTType rInnerType, String name, Integer id) {
-        resourceMap.put(id, new ResourceIdentifier(rInnerType, name));
+        addResource(rInnerType, name, id.intValue());
+    }
+
+    public void addResource(ASTType rInnerType, String name, int id) {
+        if ((size + 1) * 2 > ids.length) {
+            resize(ids.length * 2);
+        }
+        int slot = find(ids, names, id);
+        if (names[slot] == null) {
+            size++;
+        }
+        ids[slot] = id;
+        rInnerTypes[slot] = rInnerType;
+        names[slot] = name;
     }
 
     public ResourceIdentifier getResourceIdentifier(Integer id) {
-        return resourceMap.get(id);
+        if (id == null) {
+            return null;
+        }
+        int slot = find(ids, names, id);
+        if (names[slot] == null) {
+            return null;
+        }
+        return new ResourceIdentifier(rInnerTypes[slot], names[slot]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int find(int[] ids, String[] names, int id) {
+        int mask = ids.length - 1;
+        int slot = mix(id) & mask;
+        while (names[slot] != null && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int id) {
+        //ids share their high package and type bytes, spread the low bits before masking
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void resize(int capacity) {
+        int[] oldIds = ids;
+        ASTType[] oldRInnerTypes = rInnerTypes;
+        String[] oldNames = names;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldNames[i] != null) {
+                int slot = find(ids, names, oldIds[i]);
+                ids[slot] = oldIds[i];
+                rInnerTypes[slot] = oldRInnerTypes[i];
+                names[slot] = oldNames[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        ids = new int[capacity];
+        rInnerTypes = new ASTType[capacity];
+        names = new String[capacity];
+    }
+
+    private static int tableSize(int expectedSize) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
     }
 }
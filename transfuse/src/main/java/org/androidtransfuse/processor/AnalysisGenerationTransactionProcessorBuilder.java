@@ -20,6 +20,7 @@ import com.sun.codemodel.JDefinedClass;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.gen.FilerResourceWriter;
 import org.androidtransfuse.gen.FilerSourceCodeWriter;
+import org.androidtransfuse.transaction.CodeGenerationWriter;
 import org.androidtransfuse.transaction.TransactionProcessor;
 import org.androidtransfuse.transaction.TransactionProcessorBuilder;
 import org.androidtransfuse.transaction.TransactionProcessorPool;
@@ -45,10 +46,11 @@ public class AnalysisGenerationTransactionProcessorBuilder implements Transactio
             Provider<JCodeModel> codeModelProvider,
             Provider<FilerSourceCodeWriter> sourceCodeWriterProvider,
             Provider<FilerResourceWriter> resourceCodeWriterProvider,
+            Provider<CodeGenerationWriter> codeGenerationWriterProvider,
             ScopedTransactionFactory scopedTransactionFactory) {
         this.scopedTransactionFactory = scopedTransactionFactory;
         transactionProcessor = new TransactionProcessorPool<Provider<ASTType>, JDefinedClass>();
-        this.workerProvider = new CodeGenerationWrapperProvider<Provider<ASTType>, JDefinedClass>(workerProvider, codeModelProvider, sourceCodeWriterProvider, resourceCodeWriterProvider);
+        this.workerProvider = new CodeGenerationWrapperProvider<Provider<ASTType>, JDefinedClass>(workerProvider, codeModelProvider, sourceCodeWriterProvider, resourceCodeWriterProvider, codeGenerationWriterProvider);
     }
 
     @Override
@@ -19,6 +19,7 @@ import com.sun.codemodel.JCodeModel;
 import org.androidtransfuse.gen.FilerResourceWriter;
 import org.androidtransfuse.gen.FilerSourceCodeWriter;
 import org.androidtransfuse.transaction.CodeGenerationScopedTransactionWorker;
+import org.androidtransfuse.transaction.CodeGenerationWriter;
 import org.androidtransfuse.transaction.TransactionWorker;
 
 import javax.inject.Provider;
@@ -31,21 +32,24 @@ public class CodeGenerationWrapperProvider<V, R> implements Provider<Transaction
     private final Provider<JCodeModel> codeModelProvider;
     private final Provider<FilerSourceCodeWriter> sourceCodeWriterProvider;
     private final Provider<FilerResourceWriter> resourceCodeWriterProvider;
+    private final Provider<CodeGenerationWriter> codeGenerationWriterProvider;
     private final Provider<? extends TransactionWorker<V, R>> workerProvider;
 
     public CodeGenerationWrapperProvider(Provider<? extends TransactionWorker<V, R>> workerProvider,
                                          Provider<JCodeModel> codeModelProvider,
                                          Provider<FilerSourceCodeWriter> sourceCodeWriterProvider,
-                                         Provider<FilerResourceWriter> resourceCodeWriterProvider) {
+                                         Provider<FilerResourceWriter> resourceCodeWriterProvider,
+                                         Provider<CodeGenerationWriter> codeGenerationWriterProvider) {
         this.codeModelProvider = codeModelProvider;
         this.sourceCodeWriterProvider = sourceCodeWriterProvider;
         this.resourceCodeWriterProvider = resourceCodeWriterProvider;
+        this.codeGenerationWriterProvider = codeGenerationWriterProvider;
         this.workerProvider = workerProvider;
     }
 
     @Override
     public TransactionWorker<V, R> get() {
         return new CodeGenerationScopedTransactionWorker<V, R>(
-                codeModelProvider.get(), sourceCodeWriterProvider.get(), resourceCodeWriterProvider.get(), workerProvider.get());
+                codeModelProvider.get(), sourceCodeWriterProvider.get(), resourceCodeWriterProvider.get(), codeGenerationWriterProvider.get(), workerProvider.get());
     }
 }
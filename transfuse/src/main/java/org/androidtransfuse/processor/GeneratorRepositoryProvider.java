@@ -39,7 +39,10 @@ import java.util.Map;
  *  |  +---------+       |  |  +--------------+ |  +----------+   | | |  +-----------------+
  *  |  +---------------+ |  |                   |  +------------+ | | |  +-----------------+
  *  +->| ImplementedBy +-+  |                   +->| Components |-+ | +->| Virtual Proxies |
- *     +---------------+    |                      +------------+   | |  +-----------------+
+ *  |  +---------------+ |  |                      +------------+   | |  +-----------------+
+ *  |  +---------------+ |  |                                       | |
+ *  +->| Eager         +-+  |                                       | |
+ *     +---------------+    |                                       | |
  *                          |  +-------------+     +-----------+    | |  +-------------+
  *                          +->| Factory(s)  +---->| Factories +----+ +->| Scopes Util |
  *                             +-------------+     +-----------+         +-------------+
@@ -60,6 +63,7 @@ public class GeneratorRepositoryProvider implements Provider<GeneratorRepository
     private final PackageHelperTransactionFactory packageHelperTransactionFactory;
     private final ModuleProcessorBuilder moduleProcessorBuilder;
     private final ImplementedByProcessorBuilder implementedByProcessorBuilder;
+    private final EagerProcessorBuilder eagerProcessorBuilder;
     private final TransactionProcessorPool<Map<Provider<ASTType>, JDefinedClass>, Void> componentsRepositoryProcessor;
     private final ComponentsTransactionFactory componentsTransactionFactory;
     private final VirtualProxyTransactionFactory virtualProxyTransactionFactory;
@@ -78,6 +82,7 @@ public class GeneratorRepositoryProvider implements Provider<GeneratorRepository
                                        PackageHelperTransactionFactory packageHelperTransactionFactory,
                                        ModuleProcessorBuilder moduleProcessorBuilder,
                                        ImplementedByProcessorBuilder implementedByProcessorBuilder,
+                                       EagerProcessorBuilder eagerProcessorBuilder,
                                        TransactionProcessorPool<Map<Provider<ASTType>, JDefinedClass>, Void> componentsRepositoryProcessor,
                                        ComponentsTransactionFactory componentsTransactionFactory,
                                        VirtualProxyTransactionFactory virtualProxyTransactionFactory,
@@ -94,6 +99,7 @@ public class GeneratorRepositoryProvider implements Provider<GeneratorRepository
         this.packageHelperTransactionFactory = packageHelperTransactionFactory;
         this.moduleProcessorBuilder = moduleProcessorBuilder;
         this.implementedByProcessorBuilder = implementedByProcessorBuilder;
+        this.eagerProcessorBuilder = eagerProcessorBuilder;
         this.componentsRepositoryProcessor = componentsRepositoryProcessor;
         this.componentsTransactionFactory = componentsTransactionFactory;
         this.virtualProxyTransactionFactory = virtualProxyTransactionFactory;
@@ -106,13 +112,15 @@ public class GeneratorRepositoryProvider implements Provider<GeneratorRepository
         ImmutableMap.Builder<Class<? extends Annotation>, TransactionProcessorBuilder<Provider<ASTType>, ?>> processorMapBuilder = ImmutableMap.builder();
         ImmutableSet.Builder<TransactionProcessor<Provider<ASTType>, JDefinedClass>> componentProcessors = ImmutableSet.builder();
 
-        // Module and ImplementedBy configuration processing
+        // Module, ImplementedBy and Eager configuration processing
         processorMapBuilder.put(TransfuseModule.class, moduleProcessorBuilder);
         processorMapBuilder.put(ImplementedBy.class, implementedByProcessorBuilder);
+        processorMapBuilder.put(Eager.class, eagerProcessorBuilder);
 
         TransactionProcessor<Provider<ASTType>, Void> configurationProcessors = new TransactionProcessorComposite<Provider<ASTType>, Void>(
                 ImmutableSet.of(moduleProcessorBuilder.getTransactionProcessor(),
-                        implementedByProcessorBuilder.getTransactionProcessor()));
+                        implementedByProcessorBuilder.getTransactionProcessor(),
+                        eagerProcessorBuilder.getTransactionProcessor()));
 
         // Component processing
         Map<Class<? extends Annotation>, Provider<? extends Analysis<ComponentDescriptor>>> analyzers =
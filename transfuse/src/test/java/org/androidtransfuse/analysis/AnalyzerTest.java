@@ -18,9 +18,11 @@ package org.androidtransfuse.analysis;
 import org.androidtransfuse.adapter.ASTType;
 import org.androidtransfuse.adapter.classes.ASTClassFactory;
 import org.androidtransfuse.analysis.astAnalyzer.ASTInjectionAspect;
+import org.androidtransfuse.analysis.astAnalyzer.ScopeAspect;
 import org.androidtransfuse.analysis.astAnalyzer.VirtualProxyAspect;
 import org.androidtransfuse.bootstrap.Bootstrap;
 import org.androidtransfuse.bootstrap.Bootstraps;
+import org.androidtransfuse.gen.scopeBuilder.SingletonScopeAspectFactory;
 import org.androidtransfuse.gen.variableBuilder.VariableBuilder;
 import org.androidtransfuse.gen.variableBuilder.VariableInjectionBuilder;
 import org.androidtransfuse.gen.variableBuilder.VariableInjectionBuilderFactory;
@@ -28,11 +30,15 @@ import org.androidtransfuse.model.ConstructorInjectionPoint;
 import org.androidtransfuse.model.FieldInjectionPoint;
 import org.androidtransfuse.model.InjectionNode;
 import org.androidtransfuse.model.MethodInjectionPoint;
+import org.androidtransfuse.scope.ConcurrentDoubleLockingScope;
 import org.junit.Before;
 import org.junit.Test;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -102,6 +108,95 @@ public class AnalyzerTest {
         //empty
     }
 
+    //Diamond -> G -> S
+    //        |
+    //        `-> H -> S
+
+    public static class Diamond {
+        @Inject
+        private G g;
+        @Inject
+        private H h;
+    }
+
+    public static class G {
+        @Inject
+        private S s;
+        @Inject
+        private F f;
+    }
+
+    public static class H {
+        @Inject
+        private S s;
+        @Inject
+        private F f;
+    }
+
+    @Singleton
+    public static class S {
+        @Inject
+        private F f;
+    }
+
+    //DeepDiamond -> L1A -> L2A -> L3A -> Leaf
+    //            |      |      `-> L3B -> Leaf
+    //            |      `-> L2B -> ...
+    //            `-> L1B -> ...
+
+    public static class DeepDiamond {
+        @Inject
+        private L1A a;
+        @Inject
+        private L1B b;
+    }
+
+    public static class L1A {
+        @Inject
+        private L2A a;
+        @Inject
+        private L2B b;
+    }
+
+    public static class L1B {
+        @Inject
+        private L2A a;
+        @Inject
+        private L2B b;
+    }
+
+    public static class L2A {
+        @Inject
+        private L3A a;
+        @Inject
+        private L3B b;
+    }
+
+    public static class L2B {
+        @Inject
+        private L3A a;
+        @Inject
+        private L3B b;
+    }
+
+    public static class L3A {
+        @Inject
+        private Leaf a;
+        @Inject
+        private Leaf b;
+    }
+
+    public static class L3B {
+        @Inject
+        private Leaf a;
+        @Inject
+        private Leaf b;
+    }
+
+    public static class Leaf {
+        //empty
+    }
+
     @Inject
     private Analyzer analyzer;
     @Inject
@@ -113,6 +208,8 @@ public class AnalyzerTest {
     private AnalysisContext analysisContext;
     @Inject
     private VariableInjectionBuilderFactory variableInjectionBuilderFactory;
+    @Inject
+    private SingletonScopeAspectFactory singletonScopeAspectFactory;
 
     @Before
     public void setup() {
@@ -123,6 +220,78 @@ public class AnalyzerTest {
 
         analysisContext.getInjectionNodeBuilders().putType(B.class,
                 variableInjectionBuilderFactory.buildVariableInjectionNodeBuilder(astClassFactory.getType(BImpl.class)));
+        analysisContext.getInjectionNodeBuilders().putScopeAspectFactory(astClassFactory.getType(Singleton.class),
+                astClassFactory.getType(ConcurrentDoubleLockingScope.class), singletonScopeAspectFactory);
+    }
+
+    @Test
+    public void testSharedScopedSubgraph() {
+        ASTType astType = astClassFactory.getType(Diamond.class);
+
+        InjectionNode diamondInjectionNode = analyzer.analyze(astType, astType, analysisContext);
+
+        InjectionNode gInjectionNode = getFieldInjectionNode(diamondInjectionNode, G.class);
+        InjectionNode hInjectionNode = getFieldInjectionNode(diamondInjectionNode, H.class);
+
+        InjectionNode gsInjectionNode = getFieldInjectionNode(gInjectionNode, S.class);
+        InjectionNode hsInjectionNode = getFieldInjectionNode(hInjectionNode, S.class);
+
+        //scoped S is analyzed once and shared
+        assertTrue(gsInjectionNode.containsAspect(ScopeAspect.class));
+        assertSame(gsInjectionNode, hsInjectionNode);
+
+        //unscoped F keeps a node per injection point, sharing the analysis
+        InjectionNode gfInjectionNode = getFieldInjectionNode(gInjectionNode, F.class);
+        InjectionNode hfInjectionNode = getFieldInjectionNode(hInjectionNode, F.class);
+        assertNotSame(gfInjectionNode, hfInjectionNode);
+        assertSame(gfInjectionNode.getAspect(VariableBuilder.class), hfInjectionNode.getAspect(VariableBuilder.class));
+    }
+
+    @Test
+    public void testSharedUnscopedDiamond() {
+        ASTType astType = astClassFactory.getType(DeepDiamond.class);
+
+        InjectionNode diamondInjectionNode = analyzer.analyze(astType, astType, analysisContext);
+
+        //each of the 8 types is analyzed once
+        assertEquals(8, analysisContext.getSharedInjectionNodes().getAnalyzedCount());
+
+        //while the graph keeps a distinct node per injection point: 1 + 2 + 4 + 8 + 16
+        Map<InjectionNode, InjectionNode> nodes = new IdentityHashMap<InjectionNode, InjectionNode>();
+        collectFieldInjectionNodes(diamondInjectionNode, nodes);
+        assertEquals(31, nodes.size());
+
+        InjectionNode l2aFromA = getFieldInjectionNode(getFieldInjectionNode(diamondInjectionNode, L1A.class), L2A.class);
+        InjectionNode l2aFromB = getFieldInjectionNode(getFieldInjectionNode(diamondInjectionNode, L1B.class), L2A.class);
+        assertNotSame(l2aFromA, l2aFromB);
+        assertNotSame(getFieldInjectionNode(l2aFromA, L3A.class), getFieldInjectionNode(l2aFromB, L3A.class));
+    }
+
+    @Test
+    public void testSharingAfterLoop() {
+        ASTType astType = astClassFactory.getType(A.class);
+
+        analyzer.analyze(astType, astType, analysisContext);
+
+        //A, BImpl, C and D span the B loop and are analyzed in place; E and F are analyzed once
+        ASTType diamondType = astClassFactory.getType(Diamond.class);
+        int analyzed = analysisContext.getSharedInjectionNodes().getAnalyzedCount();
+        analyzer.analyze(diamondType, diamondType, analysisContext);
+
+        //Diamond, G, H and S are analyzed, F is reused
+        assertEquals(analyzed + 4, analysisContext.getSharedInjectionNodes().getAnalyzedCount());
+    }
+
+    private void collectFieldInjectionNodes(InjectionNode injectionNode, Map<InjectionNode, InjectionNode> nodes) {
+        nodes.put(injectionNode, injectionNode);
+        ASTInjectionAspect injectionAspect = injectionNode.getAspect(ASTInjectionAspect.class);
+        if (injectionAspect != null) {
+            for (ASTInjectionAspect.InjectionGroup injectionGroup : injectionAspect.getGroups()) {
+                for (FieldInjectionPoint fieldInjectionPoint : injectionGroup.getFieldInjectionPoints()) {
+                    collectFieldInjectionNodes(fieldInjectionPoint.getInjectionNode(), nodes);
+                }
+            }
+        }
     }
 
     @Test
@@ -204,6 +373,17 @@ public class AnalyzerTest {
         return count;
     }
 
+    private InjectionNode getFieldInjectionNode(InjectionNode injectionNode, Class<?> type) {
+        for (ASTInjectionAspect.InjectionGroup injectionGroup : injectionNode.getAspect(ASTInjectionAspect.class).getGroups()) {
+            for (FieldInjectionPoint fieldInjectionPoint : injectionGroup.getFieldInjectionPoints()) {
+                if(fieldInjectionPoint.getInjectionNode().getClassName().equals(type.getCanonicalName())){
+                    return fieldInjectionPoint.getInjectionNode();
+                }
+            }
+        }
+        return null;
+    }
+
     private boolean isProxyRequired(InjectionNode injectionNode) {
         VirtualProxyAspect proxyAspect = injectionNode.getAspect(VirtualProxyAspect.class);
 
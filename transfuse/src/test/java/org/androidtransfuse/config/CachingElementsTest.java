@@ -0,0 +1,82 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.config;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author John Ericksen
+ */
+public class CachingElementsTest {
+
+    private static final String TYPE_NAME = "org.test.Tester";
+    private static final String MISSING_TYPE_NAME = "org.test.Missing";
+
+    private CachingElements cachingElements;
+    private Elements mockElements;
+    private TypeElement mockTypeElement;
+    private PackageElement mockPackageElement;
+
+    @Before
+    public void setUp() {
+        mockElements = mock(Elements.class);
+        mockTypeElement = mock(TypeElement.class);
+        mockPackageElement = mock(PackageElement.class);
+
+        when(mockElements.getTypeElement(TYPE_NAME)).thenReturn(mockTypeElement);
+        when(mockElements.getPackageOf(mockTypeElement)).thenReturn(mockPackageElement);
+
+        cachingElements = new CachingElements(mockElements);
+    }
+
+    @Test
+    public void testCachedLookup() {
+        assertSame(mockTypeElement, cachingElements.getTypeElement(TYPE_NAME));
+        assertSame(mockTypeElement, cachingElements.getTypeElement(TYPE_NAME));
+        assertSame(mockPackageElement, cachingElements.getPackageOf(mockTypeElement));
+        assertSame(mockPackageElement, cachingElements.getPackageOf(mockTypeElement));
+
+        verify(mockElements, times(1)).getTypeElement(TYPE_NAME);
+        verify(mockElements, times(1)).getPackageOf(mockTypeElement);
+        assertEquals(2, cachingElements.getHitCount());
+        assertEquals(2, cachingElements.getMissCount());
+    }
+
+    @Test
+    public void testMissingTypeNotCached() {
+        assertNull(cachingElements.getTypeElement(MISSING_TYPE_NAME));
+        assertNull(cachingElements.getTypeElement(MISSING_TYPE_NAME));
+
+        verify(mockElements, times(2)).getTypeElement(MISSING_TYPE_NAME);
+    }
+
+    @Test
+    public void testClear() {
+        cachingElements.getTypeElement(TYPE_NAME);
+        cachingElements.clear();
+        cachingElements.getTypeElement(TYPE_NAME);
+
+        verify(mockElements, times(2)).getTypeElement(TYPE_NAME);
+    }
+}
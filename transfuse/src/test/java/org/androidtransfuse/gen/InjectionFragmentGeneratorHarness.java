@@ -54,14 +54,19 @@ public class InjectionFragmentGeneratorHarness {
         getMethod.annotate(Override.class);
 
         JBlock block = getMethod.body();
-        //Singleton scopes holder
 
-        JClass scopesRef = codeModel.ref(Scopes.class);
-        JVar scopes = block.decl(scopesRef, namer.generateName(Scopes.class));
+        namer.enterNamespace(definedClass);
+        try {
+            //Singleton scopes holder
+            JClass scopesRef = codeModel.ref(Scopes.class);
+            JVar scopes = block.decl(scopesRef, namer.generateName(Scopes.class));
 
-        Map<InjectionNode, TypedExpression> expressionMap = injectionFragmentGenerator.buildFragment(block, definedClass, injectionNode, scopes);
-        virtualProxyGenerator.generateProxies();
+            Map<InjectionNode, TypedExpression> expressionMap = injectionFragmentGenerator.buildFragment(block, definedClass, injectionNode, scopes);
+            virtualProxyGenerator.generateProxies();
 
-        block._return(expressionMap.get(injectionNode).getExpression());
+            block._return(expressionMap.get(injectionNode).getExpression());
+        } finally {
+            namer.exitNamespace();
+        }
     }
 }
@@ -23,9 +23,15 @@ import org.junit.Before;
 import org.junit.Test;
 
 import javax.inject.Inject;
+import javax.lang.model.element.*;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author John Ericksen
@@ -59,4 +65,34 @@ public class RBuilderTest {
         assertEquals("id1", resourceIdentifier.getName());
         assertEquals(idInnerType, resourceIdentifier.getRInnerType());
     }
+
+    @Test
+    public void testBuildFromElement() {
+        TypeElement rElement = mock(TypeElement.class);
+        TypeElement idElement = mock(TypeElement.class);
+        VariableElement idField = mock(VariableElement.class);
+        VariableElement nonConstantField = mock(VariableElement.class);
+        Name idName = mock(Name.class);
+        Name idFieldName = mock(Name.class);
+
+        when(rElement.getEnclosedElements()).thenReturn((List) Collections.singletonList(idElement));
+        when(idElement.getKind()).thenReturn(ElementKind.CLASS);
+        when(idElement.getQualifiedName()).thenReturn(idName);
+        when(idName.toString()).thenReturn("org.test.R.id");
+        when(idElement.getEnclosedElements()).thenReturn((List) Arrays.asList(idField, nonConstantField));
+        when(idField.getKind()).thenReturn(ElementKind.FIELD);
+        when(idField.getSimpleName()).thenReturn(idFieldName);
+        when(idFieldName.toString()).thenReturn("id1");
+        when(idField.getConstantValue()).thenReturn(RTest.id1);
+        when(nonConstantField.getKind()).thenReturn(ElementKind.FIELD);
+
+        RResourceMapping rResourceMapping = rBuilder.buildR(rElement);
+
+        ResourceIdentifier resourceIdentifier = rResourceMapping.getResourceIdentifier(RTest.id1);
+
+        assertEquals("id1", resourceIdentifier.getName());
+        assertEquals("org.test.R.id", resourceIdentifier.getRInnerType().getName());
+        assertEquals(1, rResourceMapping.size());
+        assertNull(rResourceMapping.getResourceIdentifier(RTest.id1 + 1));
+    }
 }
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2013 John Ericksen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.androidtransfuse.model.r;
+
+import org.androidtransfuse.adapter.ASTStringType;
+import org.androidtransfuse.adapter.ASTType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author John Ericksen
+ */
+public class RResourceMappingTest {
+
+    private static final int BASE_ID = 0x7f070000;
+    private static final int RESOURCE_COUNT = 10000;
+
+    private RResourceMapping resourceMapping;
+    private ASTType idType;
+
+    @Before
+    public void setup() {
+        resourceMapping = new RResourceMapping();
+        idType = new ASTStringType("org.test.R.id");
+    }
+
+    @Test
+    public void testGrowth() {
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            resourceMapping.addResource(idType, "id" + i, BASE_ID + i);
+        }
+
+        assertEquals(RESOURCE_COUNT, resourceMapping.size());
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            assertEquals(new ResourceIdentifier(idType, "id" + i), resourceMapping.getResourceIdentifier(BASE_ID + i));
+        }
+        assertNull(resourceMapping.getResourceIdentifier(BASE_ID + RESOURCE_COUNT));
+    }
+
+    @Test
+    public void testReplace() {
+        resourceMapping.addResource(idType, "first", BASE_ID);
+        resourceMapping.addResource(idType, "second", BASE_ID);
+
+        assertEquals(1, resourceMapping.size());
+        assertEquals("second", resourceMapping.getResourceIdentifier(BASE_ID).getName());
+    }
+
+    @Test
+    public void testMissing() {
+        assertNull(resourceMapping.getResourceIdentifier(0));
+        assertNull(resourceMapping.getResourceIdentifier(null));
+    }
+}
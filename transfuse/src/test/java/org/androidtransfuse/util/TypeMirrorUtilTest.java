@@ -15,14 +15,18 @@
  */
 package org.androidtransfuse.util;
 
+import org.androidtransfuse.adapter.ASTAnnotation;
+import org.androidtransfuse.adapter.ASTBase;
+import org.androidtransfuse.adapter.element.ASTElementAnnotation;
+import org.androidtransfuse.annotations.Activity;
 import org.junit.Before;
 import org.junit.Test;
 
-import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeMirror;
 
 import static org.androidtransfuse.util.TypeMirrorUtil.getTypeMirror;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,24 +34,34 @@ import static org.mockito.Mockito.*;
  */
 public class TypeMirrorUtilTest {
 
-    private Runnable mockRunnable;
-    private MirroredTypeException mockException;
+    private ASTBase mockBase;
+    private ASTElementAnnotation mockElementAnnotation;
     private TypeMirror mockTypeMirror;
 
     @Before
     public void setup(){
-
-        mockRunnable = mock(Runnable.class);
-        mockException = mock(MirroredTypeException.class);
+        mockBase = mock(ASTBase.class);
+        mockElementAnnotation = mock(ASTElementAnnotation.class);
         mockTypeMirror = mock(TypeMirror.class);
     }
 
     @Test
-    public void testThrows(){
-        doThrow(mockException).when(mockRunnable).run();
-        when(mockException.getTypeMirror()).thenReturn(mockTypeMirror);
+    public void testElementAnnotation(){
+        when(mockBase.getASTAnnotation(Activity.class)).thenReturn(mockElementAnnotation);
+        when(mockElementAnnotation.getProperty("type", TypeMirror.class)).thenReturn(mockTypeMirror);
+
+        assertEquals(mockTypeMirror, getTypeMirror(mockBase, Activity.class, "type"));
+    }
+
+    @Test
+    public void testNonElementAnnotation(){
+        when(mockBase.getASTAnnotation(Activity.class)).thenReturn(mock(ASTAnnotation.class));
+
+        assertNull(getTypeMirror(mockBase, Activity.class, "type"));
+    }
 
-        TypeMirror typeMirror = getTypeMirror(mockRunnable);
-        assertEquals(mockTypeMirror, typeMirror);
+    @Test
+    public void testMissingAnnotation(){
+        assertNull(getTypeMirror(mockBase, Activity.class, "type"));
     }
 }